@@ -0,0 +1,46 @@
+package com.thompson.paystack.benchmark;
+
+import com.thompson.paystack.utils.AmountUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions between major currency units and kobo, as done for every request amount
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AmountBenchmark {
+    // Not final, so the JIT cannot fold the conversions into constants
+    private BigDecimal amount = new BigDecimal("40250.75");
+    private double amountDouble = 40250.75;
+    private long kobo = 4025075L;
+
+    @Benchmark
+    public long toKoboBigDecimal() {
+        return AmountUtils.toKobo(amount);
+    }
+
+    @Benchmark
+    public long toKoboDouble() {
+        return AmountUtils.toKobo(amountDouble);
+    }
+
+    @Benchmark
+    public BigDecimal fromKobo() {
+        return AmountUtils.fromKobo(kobo);
+    }
+}
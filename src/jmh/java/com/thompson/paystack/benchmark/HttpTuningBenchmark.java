@@ -0,0 +1,109 @@
+package com.thompson.paystack.benchmark;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.TransactionData;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Effect of the dispatcher and connection pool settings on async throughput: the default
+ * configuration (5 calls in flight per host) against {@link PaystackConfig#highThroughput(String)},
+ * against a local mock server that takes 50ms per call. One operation is a burst of
+ * {@value #CALLS} {@code verifyAsync} calls.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpTuningBenchmark {
+    private static final int CALLS = 2_000;
+    private static final long SERVER_LATENCY_MS = 50;
+
+    @Param({"default", "highThroughput"})
+    public String config;
+
+    private MockWebServer server;
+    private PaystackClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new VerifyDispatcher());
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+        server.start();
+        PaystackConfig.Builder builder = config.equals("highThroughput")
+                ? PaystackConfig.highThroughput(Payloads.SECRET_KEY)
+                : PaystackConfig.builder(Payloads.SECRET_KEY);
+        client = new PaystackClient(builder
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .build());
+    }
+
+    /**
+     * MockWebServer keeps every request it receives; drop them so they don't pile up on the heap
+     */
+    @TearDown(Level.Iteration)
+    public void drainRecordedRequests() throws InterruptedException {
+        while (server.takeRequest(0, TimeUnit.MILLISECONDS) != null) {
+            // Discard
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.executor().shutdown();
+        server.shutdown();
+    }
+
+    /**
+     * Start {@value #CALLS} verifications of distinct references and wait for all of them
+     *
+     * @return Number of failed calls
+     */
+    @Benchmark
+    public long burst() {
+        List<CompletableFuture<PaystackResponse<TransactionData>>> futures = new ArrayList<>(CALLS);
+        for (int i = 0; i < CALLS; i++) {
+            futures.add(client.transactions().verifyAsync("ref_" + i));
+        }
+        return futures.stream()
+                .filter(future -> future.handle((response, error) -> error != null).join())
+                .count();
+    }
+
+    private static final class VerifyDispatcher extends Dispatcher {
+        @NotNull
+        @Override
+        public MockResponse dispatch(@NotNull RecordedRequest request) {
+            return new MockResponse()
+                    .setHeadersDelay(SERVER_LATENCY_MS, TimeUnit.MILLISECONDS)
+                    .setBody(Payloads.VERIFY_RESPONSE);
+        }
+    }
+}
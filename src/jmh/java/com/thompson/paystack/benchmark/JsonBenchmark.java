@@ -0,0 +1,86 @@
+package com.thompson.paystack.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.thompson.paystack.enums.Bearer;
+import com.thompson.paystack.enums.Currency;
+import com.thompson.paystack.models.request.TransactionInitRequest;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.TransactionData;
+import com.thompson.paystack.utils.JsonUtils;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gson decoding of a verify response and encoding of an initialize request, done the way
+ * {@code EndpointExecutor} does it: the endpoint's cached adapter reading from a byte stream,
+ * and a {@link JsonWriter} writing into an okio buffer.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+    private final Gson gson = JsonUtils.getGson();
+    private final TypeAdapter<PaystackResponse<TransactionData>> verifyAdapter =
+            gson.getAdapter(new TypeToken<PaystackResponse<TransactionData>>() {});
+
+    private Buffer verifyResponse;
+    private TransactionInitRequest initRequest;
+
+    @Setup
+    public void setUp() {
+        verifyResponse = new Buffer().writeUtf8(Payloads.VERIFY_RESPONSE);
+        initRequest = TransactionInitRequest.builder()
+                .email("ada.obi@example.com")
+                .amount(new BigDecimal("40000.00"))
+                .currency(Currency.NGN)
+                .reference("7PVGX8MEk85tgeEpVDtD")
+                .callbackUrl("https://shop.example.com/paystack/callback")
+                .subaccount("ACCT_8f4s1eq7ml6rlzj")
+                .transactionCharge(new BigDecimal("500.00"))
+                .bearer(Bearer.SUBACCOUNT)
+                .addMetadata("order_id", "ORD-2024-08-0042")
+                .addMetadata("cart_id", 398)
+                .build();
+    }
+
+    @Benchmark
+    public PaystackResponse<TransactionData> decodeVerifyResponse() throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(
+                verifyResponse.clone().inputStream(), StandardCharsets.UTF_8));
+        return verifyAdapter.read(reader);
+    }
+
+    @Benchmark
+    public Buffer encodeInitRequest() throws IOException {
+        Buffer sink = new Buffer();
+        Writer writer = new OutputStreamWriter(sink.outputStream(), StandardCharsets.UTF_8);
+        JsonWriter jsonWriter = gson.newJsonWriter(writer);
+        gson.toJson(initRequest, TransactionInitRequest.class, jsonWriter);
+        jsonWriter.flush();
+        return sink;
+    }
+}
@@ -0,0 +1,51 @@
+package com.thompson.paystack.benchmark;
+
+import com.google.gson.reflect.TypeToken;
+import com.thompson.paystack.http.Endpoint;
+import com.thompson.paystack.metrics.InMemoryMetrics;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.TransactionData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of recording one call (attempt, decode, call) into the default metrics from several
+ * threads; gc.alloc.rate.norm should stay at 0 bytes per operation
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    private static final Endpoint<TransactionData> VERIFY = Endpoint
+            .get("/transaction/verify/{reference}", new TypeToken<PaystackResponse<TransactionData>>() {})
+            .failureMessage("Failed to verify transaction")
+            .networkErrorMessage("Network error while verifying transaction")
+            .build();
+
+    private final InMemoryMetrics metrics = new InMemoryMetrics();
+
+    // Not final, so the JIT cannot fold the bucket computations
+    private long networkNanos = 183_000_000L;
+    private long decodeNanos = 42_000L;
+
+    @Benchmark
+    public void recordCall() {
+        metrics.recordAttempt(VERIFY, 200, networkNanos);
+        metrics.recordDecode(VERIFY, decodeNanos);
+        metrics.recordCall(VERIFY, networkNanos + decodeNanos, null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.thompson.paystack.benchmark;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * Realistic Paystack payloads shared by the benchmarks, shaped like the responses and webhooks
+ * Paystack sends in production (including the fields the library does not map)
+ */
+final class Payloads {
+    static final String SECRET_KEY = "sk_test_0123456789abcdef0123456789abcdef01234567";
+
+    /**
+     * A successful card transaction as returned by {@code /transaction/verify/:reference}
+     */
+    static final String TRANSACTION = "{"
+            + "\"id\":4099260516,\"domain\":\"test\",\"status\":\"success\",\"reference\":\"re4lyvq3s3\","
+            + "\"receipt_number\":null,\"amount\":4000000,\"message\":null,\"gateway_response\":\"Successful\","
+            + "\"paid_at\":\"2024-08-22T09:15:02.000Z\",\"created_at\":\"2024-08-22T09:14:24.000Z\","
+            + "\"channel\":\"card\",\"currency\":\"NGN\",\"ip_address\":\"197.210.54.33\","
+            + "\"metadata\":{\"order_id\":\"ORD-2024-08-0042\",\"cart_id\":398,"
+            + "\"custom_fields\":[{\"display_name\":\"Invoice ID\",\"variable_name\":\"invoice_id\",\"value\":209},"
+            + "{\"display_name\":\"Cart Items\",\"variable_name\":\"cart_items\",\"value\":\"3 bananas, 12 mangoes\"}]},"
+            + "\"log\":{\"start_time\":1724318098,\"time_spent\":4,\"attempts\":1,\"errors\":0,\"success\":true,"
+            + "\"mobile\":false,\"input\":[],\"history\":[{\"type\":\"action\",\"message\":\"Attempted to pay with card\","
+            + "\"time\":3},{\"type\":\"success\",\"message\":\"Successfully paid with card\",\"time\":4}]},"
+            + "\"fees\":70000,\"fees_split\":null,"
+            + "\"authorization\":{\"authorization_code\":\"AUTH_uh8bcl3zbn\",\"bin\":\"408408\",\"last4\":\"4081\","
+            + "\"exp_month\":\"12\",\"exp_year\":\"2030\",\"channel\":\"card\",\"card_type\":\"visa \","
+            + "\"bank\":\"TEST BANK\",\"country_code\":\"NG\",\"brand\":\"visa\",\"reusable\":true,"
+            + "\"signature\":\"SIG_yEXu7dLBeqG0kU7g95Ke\",\"account_name\":null},"
+            + "\"customer\":{\"id\":181873746,\"first_name\":\"Ada\",\"last_name\":\"Obi\","
+            + "\"email\":\"ada.obi@example.com\",\"customer_code\":\"CUS_1rkzaqsv4rrhqo6\",\"phone\":\"+2348012345678\","
+            + "\"metadata\":null,\"risk_action\":\"default\",\"international_format_phone\":\"+2348012345678\"},"
+            + "\"plan\":null,\"split\":{},\"order_id\":null,\"paidAt\":\"2024-08-22T09:15:02.000Z\","
+            + "\"createdAt\":\"2024-08-22T09:14:24.000Z\",\"requested_amount\":4000000,\"pos_transaction_data\":null,"
+            + "\"source\":null,\"fees_breakdown\":null,\"connect\":null,"
+            + "\"transaction_date\":\"2024-08-22T09:14:24.000Z\",\"plan_object\":{},\"subaccount\":{}"
+            + "}";
+
+    static final String VERIFY_RESPONSE = "{\"status\":true,\"message\":\"Verification successful\",\"data\":"
+            + TRANSACTION + "}";
+
+    static final String INITIALIZE_RESPONSE = "{\"status\":true,\"message\":\"Authorization URL created\","
+            + "\"data\":{\"authorization_url\":\"https://checkout.paystack.com/0peioxfhpn\","
+            + "\"access_code\":\"0peioxfhpn\",\"reference\":\"7PVGX8MEk85tgeEpVDtD\"}}";
+
+    static final String CHARGE_SUCCESS_WEBHOOK = "{\"event\":\"charge.success\",\"data\":" + TRANSACTION + "}";
+
+    private Payloads() {
+    }
+
+    /**
+     * The {@code x-paystack-signature} Paystack would send with a payload
+     */
+    static String signature(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA512");
+            mac.init(new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : mac.doFinal(payload.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
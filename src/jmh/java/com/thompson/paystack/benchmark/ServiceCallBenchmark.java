@@ -0,0 +1,112 @@
+package com.thompson.paystack.benchmark;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.models.request.TransactionInitRequest;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.TransactionData;
+import com.thompson.paystack.models.response.TransactionInitData;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Full service calls (request building, HTTP round trip over keep-alive connections, decoding)
+ * against a local mock server that answers immediately, so the client's own overhead dominates.
+ * Runs with several threads to include contention in the executor, rate limiter and connection pool.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ServiceCallBenchmark {
+    private final AtomicLong references = new AtomicLong();
+
+    private MockWebServer server;
+    private PaystackClient client;
+    private TransactionInitRequest initRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new PaystackDispatcher());
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+        server.start();
+        client = new PaystackClient(PaystackConfig.highThroughput(Payloads.SECRET_KEY)
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .build());
+        initRequest = TransactionInitRequest.builder()
+                .email("ada.obi@example.com")
+                .amountInKobo(4000000)
+                .reference("7PVGX8MEk85tgeEpVDtD")
+                .build();
+    }
+
+    /**
+     * MockWebServer keeps every request it receives; drop them so they don't pile up on the heap
+     */
+    @TearDown(Level.Iteration)
+    public void drainRecordedRequests() throws InterruptedException {
+        while (server.takeRequest(0, TimeUnit.MILLISECONDS) != null) {
+            // Discard
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.executor().shutdown();
+        server.shutdown();
+    }
+
+    /**
+     * Verify distinct references, so no call is coalesced with another
+     */
+    @Benchmark
+    public PaystackResponse<TransactionData> verify() {
+        return client.transactions().verify("ref_" + references.incrementAndGet());
+    }
+
+    @Benchmark
+    public PaystackResponse<TransactionInitData> initialize() {
+        return client.transactions().initialize(initRequest);
+    }
+
+    @Benchmark
+    public PaystackResponse<TransactionData> verifyAsync() {
+        return client.transactions().verifyAsync("ref_" + references.incrementAndGet()).join();
+    }
+
+    private static final class PaystackDispatcher extends Dispatcher {
+        @NotNull
+        @Override
+        public MockResponse dispatch(@NotNull RecordedRequest request) {
+            String path = request.getPath();
+            String body = path != null && path.startsWith("/transaction/initialize")
+                    ? Payloads.INITIALIZE_RESPONSE
+                    : Payloads.VERIFY_RESPONSE;
+            return new MockResponse().setBody(body);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.thompson.paystack.benchmark;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking {@code verify} calls fanned out on platform threads against virtual threads, at 1k and
+ * 10k concurrent calls against a local mock server that takes 50ms per call. One operation is the
+ * whole fan-out, so calls per second are {@code concurrency} divided by the time per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+    private static final long SERVER_LATENCY_MS = 50;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000", "10000"})
+    public int concurrency;
+
+    private MockWebServer server;
+    private PaystackClient client;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new VerifyDispatcher());
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+        server.start();
+        String baseUrl = server.url("/").toString().replaceAll("/$", "");
+        if (threads.equals("virtual")) {
+            client = new PaystackClient(PaystackConfig.builder(Payloads.SECRET_KEY)
+                    .baseUrl(baseUrl)
+                    .virtualThreads(true)
+                    .build());
+            executor = client.executor();
+        } else {
+            client = new PaystackClient(new PaystackConfig(Payloads.SECRET_KEY, baseUrl));
+            executor = Executors.newFixedThreadPool(concurrency);
+        }
+    }
+
+    /**
+     * MockWebServer keeps every request it receives; drop them so they don't pile up on the heap
+     */
+    @TearDown(Level.Iteration)
+    public void drainRecordedRequests() throws InterruptedException {
+        while (server.takeRequest(0, TimeUnit.MILLISECONDS) != null) {
+            // Discard
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        executor.shutdown();
+        client.executor().shutdown();
+        server.shutdown();
+    }
+
+    /**
+     * Start {@code concurrency} blocking verifications at once and wait for all of them
+     *
+     * @return Number of failed calls
+     */
+    @Benchmark
+    public int fanOut() throws InterruptedException {
+        List<Future<?>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            String reference = "ref_" + i;
+            futures.add(executor.submit(() -> client.transactions().verify(reference)));
+        }
+        int failures = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    private static final class VerifyDispatcher extends Dispatcher {
+        @NotNull
+        @Override
+        public MockResponse dispatch(@NotNull RecordedRequest request) {
+            return new MockResponse()
+                    .setHeadersDelay(SERVER_LATENCY_MS, TimeUnit.MILLISECONDS)
+                    .setBody(Payloads.VERIFY_RESPONSE);
+        }
+    }
+}
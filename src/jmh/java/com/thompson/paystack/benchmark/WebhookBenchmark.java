@@ -0,0 +1,60 @@
+package com.thompson.paystack.benchmark;
+
+import com.thompson.paystack.models.response.TransactionData;
+import com.thompson.paystack.webhook.WebhookDispatcher;
+import com.thompson.paystack.webhook.WebhookListener;
+import com.thompson.paystack.webhook.WebhookSignatureVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Webhook intake: HMAC-SHA512 signature verification alone, and a {@code charge.success} event
+ * dispatched end to end (verify, parse, notify a listener)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WebhookBenchmark {
+    private WebhookSignatureVerifier verifier;
+    private WebhookDispatcher dispatcher;
+    private String payload;
+    private String signature;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        verifier = new WebhookSignatureVerifier(Payloads.SECRET_KEY);
+        dispatcher = new WebhookDispatcher(Payloads.SECRET_KEY);
+        dispatcher.addListener(new WebhookListener() {
+            @Override
+            public void onChargeSuccess(TransactionData transaction) {
+                blackhole.consume(transaction);
+            }
+        });
+        payload = Payloads.CHARGE_SUCCESS_WEBHOOK;
+        signature = Payloads.signature(payload);
+    }
+
+    @Benchmark
+    public boolean verifySignature() {
+        return verifier.verifySignature(payload, signature);
+    }
+
+    @Benchmark
+    public boolean dispatch() {
+        return dispatcher.dispatch(payload, signature);
+    }
+}
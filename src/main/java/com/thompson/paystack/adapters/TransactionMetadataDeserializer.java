@@ -1,16 +1,47 @@
 package com.thompson.paystack.adapters;
 
 import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.thompson.paystack.models.response.TransactionMetadata;
-import com.thompson.paystack.utils.JsonUtils;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
-public class TransactionMetadataDeserializer implements JsonDeserializer<TransactionMetadata> {
+/**
+ * Reads transaction metadata given as an object, as a JSON string holding an object, or as an
+ * empty value.
+ * <p>
+ * Registered as a {@link TypeAdapterFactory} so the object itself is decoded by the adapter Gson
+ * would otherwise use for {@link TransactionMetadata}: nested fields go through the same Gson and
+ * its registered adapters, without calling back into this one.
+ */
+public class TransactionMetadataDeserializer implements TypeAdapterFactory {
 
     @Override
-    public TransactionMetadata deserialize(JsonElement json, Type typeOfT,
-                                           JsonDeserializationContext context) throws JsonParseException {
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (type.getRawType() != TransactionMetadata.class) {
+            return null;
+        }
+        TypeAdapter<TransactionMetadata> delegate =
+                gson.getDelegateAdapter(this, TypeToken.get(TransactionMetadata.class));
+        TypeAdapter<JsonElement> elements = gson.getAdapter(JsonElement.class);
+        return (TypeAdapter<T>) new TypeAdapter<TransactionMetadata>() {
+            @Override
+            public void write(JsonWriter out, TransactionMetadata value) throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            public TransactionMetadata read(JsonReader in) throws IOException {
+                JsonElement json = elements.read(in);
+                return deserialize(json, delegate);
+            }
+        };
+    }
+
+    private static TransactionMetadata deserialize(JsonElement json, TypeAdapter<TransactionMetadata> delegate) {
         // If metadata is null, empty string, or primitive → return null
         if (json == null || json.isJsonNull()) {
             return null;
@@ -26,7 +57,7 @@ public class TransactionMetadataDeserializer implements JsonDeserializer<Transac
             try {
                 JsonElement parsed = JsonParser.parseString(value);
                 if (parsed.isJsonObject()) {
-                    return JsonUtils.getGson().fromJson(parsed, TransactionMetadata.class);
+                    return delegate.fromJsonTree(parsed);
                 }
             } catch (JsonSyntaxException ignored) {
                 // not a valid JSON string, ignore
@@ -36,7 +67,7 @@ public class TransactionMetadataDeserializer implements JsonDeserializer<Transac
 
         // Normal case → proper JSON object
         if (json.isJsonObject()) {
-            return JsonUtils.getGson().fromJson(json, TransactionMetadata.class);
+            return delegate.fromJsonTree(json);
         }
 
         return null;
@@ -0,0 +1,231 @@
+package com.thompson.paystack.banks;
+
+import com.google.gson.reflect.TypeToken;
+import com.thompson.paystack.exceptions.PaystackException;
+import com.thompson.paystack.models.response.BankData;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.services.BankService;
+import com.thompson.paystack.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory directory of banks with constant-time lookups by code, longcode, slug, country and currency,
+ * and name search for autocomplete.
+ * <p>
+ * The directory starts from the bank list bundled with the library ({@code bank_code.json}) or
+ * from any list given to it, and can be refreshed from Paystack's {@code /bank} endpoint. All
+ * indexes of a list are built into an immutable snapshot that is swapped in atomically, so
+ * readers never block and always see one consistent list, even during a refresh.
+ * <pre>
+ * BankDirectory banks = BankDirectory.getDefault();
+ * String name = banks.byCode("058").getName();
+ *
+ * // Keep it current
+ * ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+ * banks.scheduleRefresh(client.banks(), "nigeria", Duration.ofHours(6), scheduler);
+ * </pre>
+ * The returned {@link BankData} objects are shared by all readers and must not be modified.
+ */
+public class BankDirectory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BankDirectory.class);
+    private static final String BUNDLED_BANKS = "/bank_code.json";
+
+    private final AtomicReference<BankSnapshot> snapshot;
+
+    /**
+     * @param banks Initial list of banks
+     */
+    public BankDirectory(List<BankData> banks) {
+        this.snapshot = new AtomicReference<>(new BankSnapshot(banks, Instant.now()));
+    }
+
+    /**
+     * Shared directory of the bank list bundled with the library, loaded on first use.
+     * Refreshing it affects every user of the default directory.
+     */
+    public static BankDirectory getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Create a directory from the bank list bundled with the library
+     */
+    public static BankDirectory fromBundled() {
+        try (InputStream input = BankDirectory.class.getResourceAsStream(BUNDLED_BANKS)) {
+            if (input == null) {
+                throw new PaystackException("Bundled bank list not found: " + BUNDLED_BANKS);
+            }
+            return fromJson(new InputStreamReader(input, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new PaystackException("Failed to read bundled bank list", e);
+        }
+    }
+
+    /**
+     * Create a directory from a saved {@code /bank} response
+     *
+     * @param json Reader over the response JSON; not closed
+     */
+    public static BankDirectory fromJson(Reader json) {
+        PaystackResponse<List<BankData>> response = JsonUtils.getGson()
+                .fromJson(json, new TypeToken<PaystackResponse<List<BankData>>>() {}.getType());
+        if (response == null || response.getData() == null) {
+            throw new PaystackException("Bank list has no data");
+        }
+        return new BankDirectory(response.getData());
+    }
+
+    /**
+     * Bank with the given code, or null. A few codes are shared by more than one bank; this returns
+     * the first one, see {@link #allByCode(String)}.
+     */
+    public BankData byCode(String code) {
+        return snapshot.get().byCode(code);
+    }
+
+    /**
+     * All banks with the given code (usually zero or one)
+     */
+    public List<BankData> allByCode(String code) {
+        return snapshot.get().allByCode(code);
+    }
+
+    /**
+     * Bank with the given longcode (e.g. NIBSS code), or null
+     */
+    public BankData byLongcode(String longcode) {
+        return snapshot.get().byLongcode(longcode);
+    }
+
+    /**
+     * Bank with the given slug, e.g. {@code guaranty-trust-bank}, or null
+     */
+    public BankData bySlug(String slug) {
+        return snapshot.get().bySlug(slug);
+    }
+
+    /**
+     * Banks of a country, case-insensitive (e.g. "Nigeria")
+     */
+    public List<BankData> byCountry(String country) {
+        return snapshot.get().byCountry(country);
+    }
+
+    /**
+     * Banks of a currency, case-insensitive (e.g. "NGN")
+     */
+    public List<BankData> byCurrency(String currency) {
+        return snapshot.get().byCurrency(currency);
+    }
+
+    /**
+     * Search banks by name, e.g. as the user types: case-insensitive, matching the beginning of the
+     * name or of its words, and tolerating a typo per word of 4 letters or more (two from 8 letters).
+     * Every word of the query must match.
+     *
+     * @param query Text typed so far; an empty query returns the first banks in list order
+     * @param limit Maximum number of results
+     * @return Matches, best first
+     */
+    public List<BankMatch> search(CharSequence query, int limit) {
+        return snapshot.get().getSearchIndex().search(query, limit, null);
+    }
+
+    /**
+     * Search banks by name among the banks passing a filter
+     *
+     * @param query  Text typed so far
+     * @param limit  Maximum number of results
+     * @param filter Filter to apply; reuse it across searches
+     * @return Matches, best first
+     * @see #search(CharSequence, int)
+     */
+    public List<BankMatch> search(CharSequence query, int limit, BankFilter filter) {
+        BankSearchIndex index = snapshot.get().getSearchIndex();
+        return index.search(query, limit, filter == null ? null : filter.resolve(index));
+    }
+
+    /**
+     * All banks, in list order
+     */
+    public List<BankData> all() {
+        return snapshot.get().all();
+    }
+
+    public int size() {
+        return snapshot.get().all().size();
+    }
+
+    /**
+     * When the current list was loaded
+     */
+    public Instant getLoadedAt() {
+        return snapshot.get().getLoadedAt();
+    }
+
+    /**
+     * Replace the list. Indexes are built before the swap, so readers see either the old or the new list.
+     *
+     * @param banks New list of banks
+     */
+    public void replace(List<BankData> banks) {
+        snapshot.set(new BankSnapshot(banks, Instant.now()));
+    }
+
+    /**
+     * Fetch the bank list from Paystack and swap it in. An empty list is ignored, keeping the current one.
+     *
+     * @param bankService Bank service to fetch with
+     * @param country     Country to fetch, or null for Paystack's default
+     * @return Whether the list was replaced
+     * @throws PaystackException if the fetch fails (the current list is kept)
+     */
+    public boolean refresh(BankService bankService, String country) {
+        List<BankData> banks = bankService.getAll(country);
+        if (banks.isEmpty()) {
+            LOGGER.warn("Paystack returned no banks for {}, keeping the current list", country);
+            return false;
+        }
+        replace(banks);
+        return true;
+    }
+
+    /**
+     * Refresh the list periodically. A failed refresh is logged and keeps the current list.
+     *
+     * @param bankService Bank service to fetch with
+     * @param country     Country to fetch, or null for Paystack's default
+     * @param period      Time between refreshes; the first one runs after one period
+     * @param scheduler   Scheduler to run the refreshes on
+     * @return Future to cancel the refreshes with
+     */
+    public ScheduledFuture<?> scheduleRefresh(BankService bankService, String country, Duration period,
+                                              ScheduledExecutorService scheduler) {
+        long periodMillis = period.toMillis();
+        return scheduler.scheduleAtFixedRate(() -> {
+            try {
+                refresh(bankService, country);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to refresh bank list, keeping the current one", e);
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static final class DefaultHolder {
+        private static final BankDirectory INSTANCE = fromBundled();
+    }
+}
@@ -0,0 +1,122 @@
+package com.thompson.paystack.banks;
+
+import java.util.BitSet;
+
+/**
+ * Restricts a bank search to banks of a country or currency, or with a capability.
+ * <p>
+ * Create a filter once and reuse it: the set of matching banks is computed as a {@link BitSet}
+ * from the directory's precomputed bitsets the first time the filter is used, and kept until the
+ * directory's list is refreshed.
+ * <pre>
+ * private static final BankFilter NGN_TRANSFERS = BankFilter.builder()
+ *     .currency("NGN")
+ *     .supportsTransfer(true)
+ *     .build();
+ *
+ * List&lt;BankMatch&gt; matches = BankDirectory.getDefault().search(input, 10, NGN_TRANSFERS);
+ * </pre>
+ */
+public final class BankFilter {
+    private final String country;
+    private final String currency;
+    private final Boolean supportsTransfer;
+    private final Boolean payWithBank;
+
+    private volatile Resolved resolved;
+
+    private BankFilter(Builder builder) {
+        this.country = builder.country;
+        this.currency = builder.currency;
+        this.supportsTransfer = builder.supportsTransfer;
+        this.payWithBank = builder.payWithBank;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Boolean getSupportsTransfer() {
+        return supportsTransfer;
+    }
+
+    public Boolean getPayWithBank() {
+        return payWithBank;
+    }
+
+    /**
+     * Banks of the index that pass the filter; not to be modified
+     */
+    BitSet resolve(BankSearchIndex index) {
+        Resolved current = resolved;
+        if (current == null || current.index != index) {
+            current = new Resolved(index, index.filterBits(this));
+            resolved = current;
+        }
+        return current.bits;
+    }
+
+    private static final class Resolved {
+        private final BankSearchIndex index;
+        private final BitSet bits;
+
+        private Resolved(BankSearchIndex index, BitSet bits) {
+            this.index = index;
+            this.bits = bits;
+        }
+    }
+
+    /**
+     * Builder for BankFilter
+     */
+    public static class Builder {
+        private String country;
+        private String currency;
+        private Boolean supportsTransfer;
+        private Boolean payWithBank;
+
+        /**
+         * Only banks of this country, case-insensitive (e.g. "Nigeria")
+         */
+        public Builder country(String country) {
+            this.country = country;
+            return this;
+        }
+
+        /**
+         * Only banks of this currency, case-insensitive (e.g. "NGN")
+         */
+        public Builder currency(String currency) {
+            this.currency = currency;
+            return this;
+        }
+
+        /**
+         * Only banks that do (or do not) support transfers
+         */
+        public Builder supportsTransfer(boolean supportsTransfer) {
+            this.supportsTransfer = supportsTransfer;
+            return this;
+        }
+
+        /**
+         * Only banks that do (or do not) support Pay with Bank
+         */
+        public Builder payWithBank(boolean payWithBank) {
+            this.payWithBank = payWithBank;
+            return this;
+        }
+
+        public BankFilter build() {
+            return new BankFilter(this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.thompson.paystack.banks;
+
+/**
+ * A bank found by {@link BankDirectory#search}: its code and name
+ */
+public final class BankMatch {
+    private final String code;
+    private final String name;
+
+    BankMatch(String code, String name) {
+        this.code = code;
+        this.name = name;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return code + " " + name;
+    }
+}
@@ -0,0 +1,448 @@
+package com.thompson.paystack.banks;
+
+import com.thompson.paystack.models.response.BankData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Search index over bank names for autocomplete.
+ * <p>
+ * Names are normalized (lower case, letters and digits, single spaces) and split into tokens. The
+ * distinct tokens are kept in one sorted array with, for each, the banks whose name contains it.
+ * A query is normalized the same way and every query token must match a token of the name:
+ * <ul>
+ *     <li>exactly, or as a prefix of it, found by binary search over the sorted tokens</li>
+ *     <li>or, for query tokens of 4 characters and more, within 1 typo (2 from 8 characters) of
+ *     the token or of its beginning: insertions, deletions, substitutions and swapped letters</li>
+ * </ul>
+ * Banks are ranked by whether the whole name starts with the query, then by how well the tokens
+ * matched (exact over prefix over typo), then shorter names first. Working state lives in per-thread
+ * buffers, so a query allocates nothing but the result list. Filters are precomputed bitsets.
+ */
+final class BankSearchIndex {
+    private static final int EXACT = 3;
+    private static final int PREFIX = 2;
+    private static final int FUZZY = 1;
+    private static final int MAX_QUERY_TOKENS = 16;
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final BankMatch[] matches;
+    private final char[][] names;
+    private final char[][] tokens;
+    private final int[][] postings;
+
+    private final int size;
+    private final BitSet all;
+    private final BitSet supportsTransfer;
+    private final BitSet payWithBank;
+    private final Map<String, BitSet> byCountry = new HashMap<>();
+    private final Map<String, BitSet> byCurrency = new HashMap<>();
+
+    BankSearchIndex(List<BankData> banks) {
+        this.size = banks.size();
+        this.matches = new BankMatch[size];
+        this.names = new char[size][];
+        this.all = new BitSet(size);
+        this.supportsTransfer = new BitSet(size);
+        this.payWithBank = new BitSet(size);
+
+        TreeMap<String, List<Integer>> tokenBanks = new TreeMap<>();
+        char[] buffer = new char[64];
+        for (int i = 0; i < size; i++) {
+            BankData bank = banks.get(i);
+            String name = bank.getName() == null ? "" : bank.getName();
+            matches[i] = new BankMatch(bank.getCode(), name);
+            if (buffer.length < name.length()) {
+                buffer = new char[name.length()];
+            }
+            names[i] = Arrays.copyOf(buffer, normalize(name, buffer));
+            for (String token : new String(names[i]).split(" ")) {
+                if (!token.isEmpty()) {
+                    List<Integer> postingList = tokenBanks.computeIfAbsent(token, ignored -> new ArrayList<>());
+                    if (postingList.isEmpty() || postingList.get(postingList.size() - 1) != i) {
+                        postingList.add(i);
+                    }
+                }
+            }
+
+            all.set(i);
+            if (bank.isSupportsTransfer()) {
+                supportsTransfer.set(i);
+            }
+            if (bank.isPayWithBank()) {
+                payWithBank.set(i);
+            }
+            index(byCountry, bank.getCountry(), i);
+            index(byCurrency, bank.getCurrency(), i);
+        }
+
+        this.tokens = new char[tokenBanks.size()][];
+        this.postings = new int[tokenBanks.size()][];
+        int t = 0;
+        for (Map.Entry<String, List<Integer>> entry : tokenBanks.entrySet()) {
+            tokens[t] = entry.getKey().toCharArray();
+            postings[t] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            t++;
+        }
+    }
+
+    /**
+     * Ranked banks matching the query
+     *
+     * @param query  Text typed so far
+     * @param limit  Maximum number of results
+     * @param filter Banks allowed in the result, or null for all
+     */
+    List<BankMatch> search(CharSequence query, int limit, BitSet filter) {
+        if (limit <= 0 || query == null) {
+            return Collections.emptyList();
+        }
+        Scratch scratch = SCRATCH.get();
+        scratch.ensure(size, query.length(), Math.min(limit, size));
+        int queryLength = normalize(query, scratch.query);
+        if (queryLength == 0) {
+            return first(limit, filter);
+        }
+        int tokenCount = tokenize(scratch, queryLength);
+        int round = scratch.nextRound();
+
+        for (int k = 0; k < tokenCount; k++) {
+            int token = scratch.nextToken();
+            int start = scratch.tokenStart[k];
+            int length = scratch.tokenEnd[k] - start;
+            matchPrefixes(scratch, start, length, token);
+            int maxEdits = length >= 8 ? 2 : length >= 4 ? 1 : 0;
+            if (maxEdits > 0) {
+                matchTypos(scratch, start, length, maxEdits, token);
+            }
+            for (int i = 0; i < scratch.touchedCount; i++) {
+                int bank = scratch.touched[i];
+                if (k == 0) {
+                    scratch.roundStamp[bank] = round;
+                    scratch.matched[bank] = 1;
+                    scratch.total[bank] = scratch.best[bank];
+                } else if (scratch.roundStamp[bank] == round && scratch.matched[bank] == k) {
+                    scratch.matched[bank]++;
+                    scratch.total[bank] += scratch.best[bank];
+                }
+            }
+        }
+
+        int found = 0;
+        int[] top = scratch.top;
+        long[] topScores = scratch.topScores;
+        int keep = Math.min(limit, size);
+        if (keep == 0) {
+            return Collections.emptyList();
+        }
+        for (int bank = 0; bank < size; bank++) {
+            if (scratch.roundStamp[bank] != round || scratch.matched[bank] != tokenCount
+                    || (filter != null && !filter.get(bank))) {
+                continue;
+            }
+            long score = score(scratch, bank, queryLength);
+            if (found == keep && score <= topScores[found - 1]) {
+                continue;
+            }
+            int position = found == keep ? found - 1 : found++;
+            while (position > 0 && topScores[position - 1] < score) {
+                top[position] = top[position - 1];
+                topScores[position] = topScores[position - 1];
+                position--;
+            }
+            top[position] = bank;
+            topScores[position] = score;
+        }
+
+        List<BankMatch> results = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            results.add(matches[top[i]]);
+        }
+        return results;
+    }
+
+    /**
+     * Banks passing a filter, built from the precomputed bitsets
+     */
+    BitSet filterBits(BankFilter filter) {
+        BitSet bits = (BitSet) all.clone();
+        if (filter.getCountry() != null) {
+            bits.and(byCountry.getOrDefault(filter.getCountry().toLowerCase(Locale.ROOT), new BitSet()));
+        }
+        if (filter.getCurrency() != null) {
+            bits.and(byCurrency.getOrDefault(filter.getCurrency().toLowerCase(Locale.ROOT), new BitSet()));
+        }
+        if (filter.getSupportsTransfer() != null) {
+            apply(bits, supportsTransfer, filter.getSupportsTransfer());
+        }
+        if (filter.getPayWithBank() != null) {
+            apply(bits, payWithBank, filter.getPayWithBank());
+        }
+        return bits;
+    }
+
+    private static void apply(BitSet bits, BitSet flag, boolean wanted) {
+        if (wanted) {
+            bits.and(flag);
+        } else {
+            bits.andNot(flag);
+        }
+    }
+
+    /**
+     * Rank: whole name starts with the query, then token match quality, then shorter names;
+     * ties keep list order
+     */
+    private long score(Scratch scratch, int bank, int queryLength) {
+        char[] name = names[bank];
+        boolean namePrefix = queryLength <= name.length;
+        for (int i = 0; namePrefix && i < queryLength; i++) {
+            namePrefix = name[i] == scratch.query[i];
+        }
+        return ((namePrefix ? 1L : 0L) << 50)
+                | ((long) scratch.total[bank] << 20)
+                | ((long) (1023 - Math.min(name.length, 1023)) << 10)
+                | (1023 - Math.min(bank, 1023));
+    }
+
+    /**
+     * Mark the banks having a token that starts with the query token
+     */
+    private void matchPrefixes(Scratch scratch, int start, int length, int token) {
+        char[] query = scratch.query;
+        int low = 0;
+        int high = tokens.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(tokens[middle], query, start, length) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int t = low; t < tokens.length && startsWith(tokens[t], query, start, length); t++) {
+            mark(scratch, t, tokens[t].length == length ? EXACT : PREFIX, token);
+        }
+    }
+
+    /**
+     * Mark the banks having a token, or beginning of a token, within maxEdits of the query token
+     */
+    private void matchTypos(Scratch scratch, int start, int length, int maxEdits, int token) {
+        for (int t = 0; t < tokens.length; t++) {
+            if (tokens[t].length >= length - maxEdits
+                    && prefixDistance(scratch, tokens[t], start, length, maxEdits) <= maxEdits) {
+                mark(scratch, t, FUZZY, token);
+            }
+        }
+    }
+
+    private void mark(Scratch scratch, int t, int quality, int token) {
+        for (int bank : postings[t]) {
+            if (scratch.tokenStamp[bank] != token) {
+                scratch.tokenStamp[bank] = token;
+                scratch.best[bank] = quality;
+                scratch.touched[scratch.touchedCount++] = bank;
+            } else if (scratch.best[bank] < quality) {
+                scratch.best[bank] = quality;
+            }
+        }
+    }
+
+    /**
+     * Smallest edit distance (optimal string alignment) between the query token and any beginning
+     * of the token, giving up as soon as it must exceed maxEdits
+     */
+    private static int prefixDistance(Scratch scratch, char[] token, int start, int length, int maxEdits) {
+        char[] query = scratch.query;
+        int columns = Math.min(token.length, length + maxEdits);
+        int[] previous2 = scratch.row(0, columns + 1);
+        int[] previous = scratch.row(1, columns + 1);
+        int[] current = scratch.row(2, columns + 1);
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= length; i++) {
+            char q = query[start + i - 1];
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= columns; j++) {
+                char c = token[j - 1];
+                int cost = q == c ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && q == token[j - 2] && query[start + i - 2] == c) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxEdits) {
+                return rowMin;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        int best = Integer.MAX_VALUE;
+        for (int j = 0; j <= columns; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return best;
+    }
+
+    private List<BankMatch> first(int limit, BitSet filter) {
+        List<BankMatch> results = new ArrayList<>(Math.min(limit, size));
+        for (int bank = 0; bank < size && results.size() < limit; bank++) {
+            if (filter == null || filter.get(bank)) {
+                results.add(matches[bank]);
+            }
+        }
+        return results;
+    }
+
+    private static int tokenize(Scratch scratch, int length) {
+        int count = 0;
+        int i = 0;
+        while (i < length && count < MAX_QUERY_TOKENS) {
+            int start = i;
+            while (i < length && scratch.query[i] != ' ') {
+                i++;
+            }
+            scratch.tokenStart[count] = start;
+            scratch.tokenEnd[count] = i;
+            count++;
+            i++;
+        }
+        return count;
+    }
+
+    private static int compare(char[] token, char[] query, int start, int length) {
+        int common = Math.min(token.length, length);
+        for (int i = 0; i < common; i++) {
+            int difference = token[i] - query[start + i];
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return token.length - length;
+    }
+
+    private static boolean startsWith(char[] token, char[] query, int start, int length) {
+        if (token.length < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (token[i] != query[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lower-case letters and digits, with every run of other characters turned into one space
+     *
+     * @return Normalized length
+     */
+    static int normalize(CharSequence text, char[] out) {
+        int length = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && length > 0) {
+                    out[length++] = ' ';
+                }
+                out[length++] = Character.toLowerCase(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return length;
+    }
+
+    private static void index(Map<String, BitSet> index, String key, int bank) {
+        if (key != null) {
+            index.computeIfAbsent(key.toLowerCase(Locale.ROOT), ignored -> new BitSet()).set(bank);
+        }
+    }
+
+    /**
+     * Per-thread working state of a search, grown to the largest index and query seen
+     */
+    private static final class Scratch {
+        char[] query = new char[32];
+        final int[] tokenStart = new int[MAX_QUERY_TOKENS];
+        final int[] tokenEnd = new int[MAX_QUERY_TOKENS];
+        int[] top = new int[16];
+        long[] topScores = new long[16];
+        final int[][] rows = new int[3][32];
+
+        int[] tokenStamp = new int[0];
+        int[] roundStamp = new int[0];
+        int[] best = new int[0];
+        int[] total = new int[0];
+        int[] matched = new int[0];
+        int[] touched = new int[0];
+        int touchedCount;
+
+        private int stamp;
+
+        void ensure(int banks, int queryLength, int results) {
+            if (query.length < queryLength) {
+                query = new char[queryLength];
+            }
+            if (top.length < results) {
+                top = new int[results];
+                topScores = new long[results];
+            }
+            if (tokenStamp.length < banks) {
+                tokenStamp = new int[banks];
+                roundStamp = new int[banks];
+                best = new int[banks];
+                total = new int[banks];
+                matched = new int[banks];
+                touched = new int[banks];
+                stamp = 0;
+            }
+        }
+
+        /**
+         * New stamp for the next query token; banks touched by earlier tokens keep older stamps
+         */
+        int nextToken() {
+            touchedCount = 0;
+            return ++stamp;
+        }
+
+        /**
+         * New stamp for a query, leaving room for the stamps of its tokens
+         */
+        int nextRound() {
+            if (stamp >= Integer.MAX_VALUE - MAX_QUERY_TOKENS - 1) {
+                Arrays.fill(tokenStamp, 0);
+                Arrays.fill(roundStamp, 0);
+                stamp = 0;
+            }
+            return ++stamp;
+        }
+
+        int[] row(int index, int length) {
+            if (rows[index].length < length) {
+                rows[index] = new int[length];
+            }
+            return rows[index];
+        }
+    }
+}
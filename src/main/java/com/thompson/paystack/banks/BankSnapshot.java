@@ -0,0 +1,120 @@
+package com.thompson.paystack.banks;
+
+import com.thompson.paystack.models.response.BankData;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable set of banks with all the indexes of {@link BankDirectory}, built once per load or
+ * refresh and then only read, so it can be shared between threads without locking
+ */
+final class BankSnapshot {
+    private final List<BankData> banks;
+    private final CodeTable codes;
+    private final CodeTable longcodes;
+    private final Map<String, BankData> bySlug;
+    private final Map<String, List<BankData>> byCountry;
+    private final Map<String, List<BankData>> byCurrency;
+    private final Instant loadedAt;
+    private final BankSearchIndex searchIndex;
+
+    BankSnapshot(List<BankData> banks, Instant loadedAt) {
+        this.banks = Collections.unmodifiableList(new ArrayList<>(banks));
+        this.loadedAt = loadedAt;
+
+        String[] codeKeys = new String[banks.size()];
+        String[] longcodeKeys = new String[banks.size()];
+        Map<String, BankData> slugs = new HashMap<>();
+        for (int i = 0; i < banks.size(); i++) {
+            BankData bank = this.banks.get(i);
+            codeKeys[i] = bank.getCode();
+            longcodeKeys[i] = "null".equals(bank.getLongcode()) ? null : bank.getLongcode();
+            if (bank.getSlug() != null) {
+                slugs.putIfAbsent(bank.getSlug(), bank);
+            }
+        }
+        this.codes = new CodeTable(codeKeys);
+        this.longcodes = new CodeTable(longcodeKeys);
+        this.bySlug = slugs;
+        this.byCountry = group(this.banks, BankData::getCountry);
+        this.byCurrency = group(this.banks, BankData::getCurrency);
+        this.searchIndex = new BankSearchIndex(this.banks);
+    }
+
+    List<BankData> all() {
+        return banks;
+    }
+
+    BankData byCode(String code) {
+        int position = codes.get(code);
+        return position == CodeTable.NONE ? null : banks.get(position);
+    }
+
+    List<BankData> allByCode(String code) {
+        int position = codes.get(code);
+        if (position == CodeTable.NONE) {
+            return Collections.emptyList();
+        }
+        int next = codes.next(position);
+        if (next == CodeTable.NONE) {
+            return Collections.singletonList(banks.get(position));
+        }
+        List<BankData> matches = new ArrayList<>(2);
+        for (; position != CodeTable.NONE; position = codes.next(position)) {
+            matches.add(banks.get(position));
+        }
+        return matches;
+    }
+
+    BankData byLongcode(String longcode) {
+        int position = longcodes.get(longcode);
+        return position == CodeTable.NONE ? null : banks.get(position);
+    }
+
+    BankData bySlug(String slug) {
+        return slug == null ? null : bySlug.get(slug);
+    }
+
+    List<BankData> byCountry(String country) {
+        return lookup(byCountry, country);
+    }
+
+    List<BankData> byCurrency(String currency) {
+        return lookup(byCurrency, currency);
+    }
+
+    BankSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    private static List<BankData> lookup(Map<String, List<BankData>> index, String key) {
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        return index.getOrDefault(key.toLowerCase(Locale.ROOT), Collections.emptyList());
+    }
+
+    private static Map<String, List<BankData>> group(List<BankData> banks, Function<BankData, String> key) {
+        Map<String, List<BankData>> groups = new LinkedHashMap<>();
+        for (BankData bank : banks) {
+            String value = key.apply(bank);
+            if (value != null) {
+                groups.computeIfAbsent(value.toLowerCase(Locale.ROOT), ignored -> new ArrayList<>()).add(bank);
+            }
+        }
+        groups.replaceAll((ignored, group) -> Collections.unmodifiableList(group));
+        return groups;
+    }
+}
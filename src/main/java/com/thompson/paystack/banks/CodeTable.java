@@ -0,0 +1,129 @@
+package com.thompson.paystack.banks;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable map from a bank code to the position of the bank in a snapshot.
+ * <p>
+ * Bank codes are short ASCII strings ("058", "035A", "MFB50094"), so any code of up to 8
+ * characters is packed into a {@code long} and looked up in an open-addressing table of
+ * primitive arrays: no String hashing, boxing or allocation per lookup. Longer codes, which
+ * the bundled data does not have, fall back to a HashMap. Several banks may share a code;
+ * the others are chained through {@link #next(int)}.
+ */
+final class CodeTable {
+    static final int NONE = -1;
+
+    private static final long EMPTY = 0L;
+
+    private final long[] keys;
+    private final int[] positions;
+    private final int[] next;
+    private final int mask;
+    private final Map<String, Integer> overflow = new HashMap<>();
+
+    /**
+     * @param codes Code of each bank by position; null or empty codes are not indexed
+     */
+    CodeTable(String[] codes) {
+        int capacity = Integer.highestOneBit(Math.max(2, codes.length) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.positions = new int[capacity];
+        this.next = new int[codes.length];
+        this.mask = capacity - 1;
+        Arrays.fill(next, NONE);
+
+        for (int position = 0; position < codes.length; position++) {
+            String code = codes[position];
+            if (code == null || code.isEmpty()) {
+                continue;
+            }
+            int first = add(code, position);
+            if (first != position) {
+                int tail = first;
+                while (next[tail] != NONE) {
+                    tail = next[tail];
+                }
+                next[tail] = position;
+            }
+        }
+    }
+
+    /**
+     * Position of the first bank with the code, or {@link #NONE}
+     */
+    int get(String code) {
+        if (code == null || code.isEmpty()) {
+            return NONE;
+        }
+        long key = pack(code);
+        if (key == EMPTY) {
+            return overflow.getOrDefault(code, NONE);
+        }
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return positions[slot];
+            }
+            if (keys[slot] == EMPTY) {
+                return NONE;
+            }
+        }
+    }
+
+    /**
+     * Position of the next bank with the same code as the bank at the given position, or {@link #NONE}
+     */
+    int next(int position) {
+        return next[position];
+    }
+
+    /**
+     * Index the code unless it already is
+     *
+     * @return Position of the first bank with the code
+     */
+    private int add(String code, int position) {
+        long key = pack(code);
+        if (key == EMPTY) {
+            return overflow.computeIfAbsent(code, ignored -> position);
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return positions[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        positions[slot] = position;
+        return position;
+    }
+
+    private int slot(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+
+    /**
+     * Pack up to 8 non-NUL ASCII characters into a long, one byte each.
+     * The packing is unique because no character is zero.
+     *
+     * @return Packed code, or {@link #EMPTY} if the code cannot be packed
+     */
+    static long pack(String code) {
+        int length = code.length();
+        if (length > 8) {
+            return EMPTY;
+        }
+        long key = 0;
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            if (c == 0 || c > 0x7F) {
+                return EMPTY;
+            }
+            key = (key << 8) | c;
+        }
+        return key;
+    }
+}
@@ -0,0 +1,104 @@
+package com.thompson.paystack.batch;
+
+import com.thompson.paystack.exceptions.PaystackException;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Iterator over batch results, created by {@link BatchVerifier}.
+ * <p>
+ * Each call to {@link #hasNext()} first tops up the calls in flight from the input, then waits
+ * for the next completed one. Completed results are queued until consumed; since a new call is
+ * only started for each consumed result, the queue never holds more than the concurrency limit.
+ * Not thread-safe.
+ *
+ * @param <T> Result type
+ */
+public class BatchIterator<T> implements Iterator<Map.Entry<String, ItemResult<T>>>, AutoCloseable {
+    private final Iterator<String> references;
+    private final Function<String, CompletableFuture<T>> verifier;
+    private final int concurrency;
+    private final BlockingQueue<Map.Entry<String, ItemResult<T>>> completed = new LinkedBlockingQueue<>();
+    private final Set<CompletableFuture<T>> inFlight = ConcurrentHashMap.newKeySet();
+
+    private int outstanding;
+    private boolean closed;
+
+    BatchIterator(Iterator<String> references, Function<String, CompletableFuture<T>> verifier, int concurrency) {
+        this.references = references;
+        this.verifier = verifier;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!closed && outstanding < concurrency && references.hasNext()) {
+            start(references.next());
+        }
+        return outstanding > 0;
+    }
+
+    @Override
+    public Map.Entry<String, ItemResult<T>> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            Map.Entry<String, ItemResult<T>> result = completed.take();
+            outstanding--;
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaystackException("Interrupted while waiting for batch result", e);
+        }
+    }
+
+    private void start(String reference) {
+        outstanding++;
+        CompletableFuture<T> call = call(reference);
+        inFlight.add(call);
+        call.whenComplete((data, error) -> {
+            inFlight.remove(call);
+            completed.add(new AbstractMap.SimpleImmutableEntry<>(reference, error == null
+                    ? ItemResult.success(data)
+                    : ItemResult.failure(error, "Verification failed")));
+        });
+    }
+
+    private CompletableFuture<T> call(String reference) {
+        try {
+            return verifier.apply(reference);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Number of calls started whose results have not been consumed yet
+     */
+    public int getOutstanding() {
+        return outstanding;
+    }
+
+    /**
+     * Stop reading references and cancel the calls still in flight
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (CompletableFuture<T> call : inFlight) {
+            call.cancel(true);
+        }
+        outstanding = 0;
+        completed.clear();
+    }
+}
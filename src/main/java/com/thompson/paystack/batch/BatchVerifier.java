@@ -0,0 +1,78 @@
+package com.thompson.paystack.batch;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Verifies a large number of references with a bounded number of calls in flight.
+ * <p>
+ * References are read from the input only as results are consumed, so at most
+ * {@code concurrency} calls and results are held at a time however large the input is (a
+ * {@link java.util.stream.Stream} can be passed as {@code stream::iterator}). Results come back
+ * in completion order, each with its own {@link ItemResult}, so one failed reference never
+ * aborts the batch.
+ * <p>
+ * The verify calls go through the client's normal request path, so a configured rate limiter
+ * paces them: a call waiting for a permit counts as in flight and holds back the next reference.
+ * <pre>
+ * transactionService.verifyAll(references, 16, (reference, result) -&gt; {
+ *     if (result.isSuccess()) {
+ *         reconcile(result.getData().getData());
+ *     } else {
+ *         retryLater(reference, result.getError());
+ *     }
+ * });
+ * </pre>
+ *
+ * @param <T> Verify result type
+ */
+public final class BatchVerifier<T> {
+    private final Function<String, CompletableFuture<T>> verifier;
+    private final int concurrency;
+
+    /**
+     * @param verifier    Starts the verification of one reference, e.g. {@code service::verifyAsync}
+     * @param concurrency Maximum verifications in flight
+     */
+    public BatchVerifier(Function<String, CompletableFuture<T>> verifier, int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be greater than 0");
+        }
+        this.verifier = verifier;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Verify all references, calling the callback on the calling thread as each result arrives.
+     * Returns once every reference has been verified; a slow callback slows down the batch
+     * instead of letting results pile up.
+     *
+     * @param references References to verify
+     * @param callback   Receives each reference with its result
+     */
+    public void verify(Iterable<String> references, BiConsumer<String, ItemResult<T>> callback) {
+        try (BatchIterator<T> results = iterator(references)) {
+            while (results.hasNext()) {
+                Map.Entry<String, ItemResult<T>> result = results.next();
+                callback.accept(result.getKey(), result.getValue());
+            }
+        }
+    }
+
+    /**
+     * Verify references lazily: calls are started as the returned iterator is consumed.
+     * Close the iterator to stop early.
+     *
+     * @param references References to verify
+     * @return Iterator over each reference with its result, in completion order
+     */
+    public BatchIterator<T> iterator(Iterable<String> references) {
+        return new BatchIterator<>(references.iterator(), verifier, concurrency);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+}
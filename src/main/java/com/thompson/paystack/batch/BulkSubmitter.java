@@ -0,0 +1,167 @@
+package com.thompson.paystack.batch;
+
+import com.thompson.paystack.exceptions.PaystackException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Sends items to a Paystack bulk endpoint in API-sized chunks.
+ * <p>
+ * Items are read from the input one by one and collected into chunks per group (e.g. per
+ * currency, since a bulk request has a single currency). A full chunk is sent right away, and
+ * a {@link Semaphore} caps the number of chunks in flight: when the limit is reached, reading
+ * the input waits. The items held are those of the chunks in flight plus one partial chunk per
+ * group; the key and result of every item are kept until {@link #submit} returns.
+ * <p>
+ * Keys must be unique. A duplicate key stops reading the input: nothing more is sent, the chunks
+ * already in flight complete, and {@link #submit} throws an {@link IllegalArgumentException}.
+ * <p>
+ * Every item gets an {@link ItemResult}. When a chunk fails as a whole, all its items get that
+ * error. When a chunk succeeds but an item is missing from the response, that item gets a
+ * {@link PaystackException}.
+ *
+ * @param <I> Request item type
+ * @param <K> Key identifying an item in the request and in the response
+ * @param <R> Response item type
+ */
+public final class BulkSubmitter<I, K, R> {
+    private final int chunkSize;
+    private final int maxConcurrentChunks;
+    private final Function<I, ?> group;
+    private final Function<I, K> requestKey;
+    private final Function<List<I>, CompletableFuture<Map<K, ItemResult<R>>>> sender;
+
+    /**
+     * @param chunkSize           Maximum items per bulk request
+     * @param maxConcurrentChunks Maximum bulk requests in flight
+     * @param group               Items with different groups never share a chunk
+     * @param requestKey          Key of a request item
+     * @param responseKey         Key of a response item, matching {@code requestKey}
+     * @param sender              Sends one chunk and returns the response items
+     */
+    public BulkSubmitter(int chunkSize, int maxConcurrentChunks, Function<I, ?> group,
+                         Function<I, K> requestKey, Function<R, K> responseKey,
+                         Function<List<I>, CompletableFuture<List<R>>> sender) {
+        this(chunkSize, maxConcurrentChunks, group, requestKey,
+                chunk -> sender.apply(chunk).thenApply(data -> byKey(data, responseKey)));
+    }
+
+    /**
+     * For endpoints that report per-item errors: the sender returns the outcome of each item itself
+     *
+     * @param chunkSize           Maximum items per bulk request
+     * @param maxConcurrentChunks Maximum bulk requests in flight
+     * @param group               Items with different groups never share a chunk
+     * @param requestKey          Key of a request item
+     * @param sender              Sends one chunk and returns a result per item key
+     */
+    public BulkSubmitter(int chunkSize, int maxConcurrentChunks, Function<I, ?> group, Function<I, K> requestKey,
+                         Function<List<I>, CompletableFuture<Map<K, ItemResult<R>>>> sender) {
+        if (chunkSize <= 0 || maxConcurrentChunks <= 0) {
+            throw new IllegalArgumentException("Chunk size and max concurrent chunks must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+        this.maxConcurrentChunks = maxConcurrentChunks;
+        this.group = group;
+        this.requestKey = requestKey;
+        this.sender = sender;
+    }
+
+    /**
+     * Send all items and wait for every chunk to complete
+     *
+     * @param items Items to send
+     * @return Result per item key
+     * @throws IllegalArgumentException if two items have the same key; items read before the
+     *                                  duplicate may already have been sent
+     */
+    public Map<K, ItemResult<R>> submit(Iterable<I> items) {
+        Map<K, ItemResult<R>> results = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(maxConcurrentChunks);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        Map<Object, List<I>> pending = new HashMap<>();
+        Set<K> keys = new HashSet<>();
+
+        try {
+            for (I item : items) {
+                K key = requestKey.apply(item);
+                if (!keys.add(key)) {
+                    CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+                    throw new IllegalArgumentException("Duplicate key: " + key);
+                }
+                List<I> chunk = pending.computeIfAbsent(group.apply(item), g -> new ArrayList<>(chunkSize));
+                chunk.add(item);
+                if (chunk.size() == chunkSize) {
+                    pending.remove(group.apply(item));
+                    chunks.add(send(chunk, permits, results));
+                }
+            }
+            for (List<I> chunk : pending.values()) {
+                chunks.add(send(chunk, permits, results));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new PaystackException("Interrupted while submitting bulk request", e);
+        }
+
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+        return results;
+    }
+
+    private CompletableFuture<Void> send(List<I> chunk, Semaphore permits, Map<K, ItemResult<R>> results)
+            throws InterruptedException {
+        permits.acquire();
+        CompletableFuture<Map<K, ItemResult<R>>> response;
+        try {
+            response = sender.apply(chunk);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        return response.handle((data, error) -> {
+            try {
+                record(chunk, data, error, results);
+            } finally {
+                permits.release();
+            }
+            return null;
+        });
+    }
+
+    private void record(List<I> chunk, Map<K, ItemResult<R>> data, Throwable error, Map<K, ItemResult<R>> results) {
+        if (error != null) {
+            ItemResult<R> failure = ItemResult.failure(error, "Bulk request failed");
+            for (I item : chunk) {
+                results.put(requestKey.apply(item), failure);
+            }
+            return;
+        }
+        for (I item : chunk) {
+            K key = requestKey.apply(item);
+            ItemResult<R> result = data == null ? null : data.get(key);
+            results.put(key, result != null
+                    ? result
+                    : ItemResult.failure(new PaystackException("No result returned for " + Objects.toString(key))));
+        }
+    }
+
+    private static <K, R> Map<K, ItemResult<R>> byKey(List<R> data, Function<R, K> responseKey) {
+        Map<K, ItemResult<R>> byKey = new HashMap<>();
+        if (data != null) {
+            for (R result : data) {
+                byKey.put(responseKey.apply(result), ItemResult.success(result));
+            }
+        }
+        return byKey;
+    }
+}
@@ -0,0 +1,61 @@
+package com.thompson.paystack.batch;
+
+import com.thompson.paystack.exceptions.PaystackException;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Outcome of one item of a bulk or batch operation: either its data or the error that made it fail
+ *
+ * @param <T> Data type
+ */
+public final class ItemResult<T> {
+    private final T data;
+    private final RuntimeException error;
+
+    private ItemResult(T data, RuntimeException error) {
+        this.data = data;
+        this.error = error;
+    }
+
+    public static <T> ItemResult<T> success(T data) {
+        return new ItemResult<>(data, null);
+    }
+
+    public static <T> ItemResult<T> failure(RuntimeException error) {
+        return new ItemResult<>(null, error);
+    }
+
+    /**
+     * Failure from the error a future completed with, unwrapping {@link CompletionException}
+     */
+    static <T> ItemResult<T> failure(Throwable error, String message) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return failure(cause instanceof RuntimeException
+                ? (RuntimeException) cause
+                : new PaystackException(message, cause));
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Data returned for the item, or null if it failed
+     */
+    public T getData() {
+        return data;
+    }
+
+    /**
+     * Why the item failed, or null if it succeeded
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "ItemResult(success: " + data + ")" : "ItemResult(failure: " + error + ")";
+    }
+}
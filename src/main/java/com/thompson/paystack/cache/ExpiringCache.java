@@ -0,0 +1,162 @@
+package com.thompson.paystack.cache;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache with per-entry expiry.
+ * <p>
+ * Reads are a plain {@link ConcurrentHashMap} lookup plus a flag write, so they never lock.
+ * When the cache grows past its maximum size, entries are evicted in CLOCK order (an LRU
+ * approximation): entries are visited oldest first, recently read ones get a second chance and
+ * the first entry not read since its last visit is dropped. Expired entries are treated as
+ * misses and are replaced by the next put or dropped by eviction.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class ExpiringCache<K, V> {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Queue<K> clock = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAt;
+        volatile boolean referenced;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * @param maxSize Maximum number of entries
+     * @param ttl     Default time an entry stays valid
+     */
+    public ExpiringCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Max size and TTL must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Get a value
+     *
+     * @param key Key
+     * @return The value, or null if absent or expired
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt >= 0) {
+            expirations.increment();
+            misses.increment();
+            return null;
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Store a value with the default TTL
+     */
+    public void put(K key, V value) {
+        put(key, value, ttlNanos);
+    }
+
+    /**
+     * Store a value with its own TTL, e.g. a shorter one for negative results
+     */
+    public void put(K key, V value, Duration ttl) {
+        put(key, value, ttl.toNanos());
+    }
+
+    private void put(K key, V value, long ttl) {
+        if (entries.put(key, new Entry<>(value, System.nanoTime() + ttl)) == null) {
+            clock.add(key);
+            if (entries.size() > maxSize) {
+                evict();
+            }
+        }
+    }
+
+    private void evict() {
+        // Bounded so concurrent readers re-referencing entries cannot keep us spinning
+        for (int visits = 0; visits < 2 * maxSize + 1 && entries.size() > maxSize; visits++) {
+            K key = clock.poll();
+            if (key == null) {
+                return;
+            }
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced && System.nanoTime() - entry.expiresAt < 0) {
+                entry.referenced = false;
+                clock.add(key);
+            } else if (entries.remove(key, entry)) {
+                evictions.increment();
+            } else {
+                clock.add(key);
+            }
+        }
+    }
+
+    /**
+     * Number of entries, including expired ones not yet replaced or evicted
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of entries dropped to stay within the maximum size
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Number of reads that found an expired entry
+     */
+    public long getExpirations() {
+        return expirations.sum();
+    }
+
+    /**
+     * Share of reads that were hits, 0 to 1
+     */
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : hit / (double) total;
+    }
+}
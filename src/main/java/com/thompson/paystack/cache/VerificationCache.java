@@ -0,0 +1,76 @@
+package com.thompson.paystack.cache;
+
+import com.thompson.paystack.models.response.PaystackResponse;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Cache of verify results that can no longer change (e.g. a successful or failed transaction).
+ * <p>
+ * Pending results are never stored. Entries are keyed by a 64-bit hash of the reference instead
+ * of the reference string; the reference kept inside the cached response is compared on every
+ * hit, so a hash collision is a miss rather than a wrong result.
+ *
+ * @param <T> Response data type
+ */
+public class VerificationCache<T> {
+    private final ExpiringCache<Long, PaystackResponse<T>> cache;
+    private final Function<T, String> referenceOf;
+    private final Predicate<T> terminal;
+
+    /**
+     * @param maxSize     Maximum number of cached results
+     * @param ttl         How long a result is cached
+     * @param referenceOf Extracts the reference from the response data
+     * @param terminal    Whether the response data is in a final state
+     */
+    public VerificationCache(int maxSize, Duration ttl, Function<T, String> referenceOf, Predicate<T> terminal) {
+        this.cache = new ExpiringCache<>(maxSize, ttl);
+        this.referenceOf = referenceOf;
+        this.terminal = terminal;
+    }
+
+    /**
+     * Get the cached result for a reference
+     *
+     * @return The cached response, or null if the reference has no terminal result cached
+     */
+    public PaystackResponse<T> get(String reference) {
+        PaystackResponse<T> response = cache.get(hash(reference));
+        if (response == null || !reference.equals(referenceOf.apply(response.getData()))) {
+            return null;
+        }
+        return response;
+    }
+
+    /**
+     * Cache a response if its data is in a final state
+     */
+    public void putIfTerminal(String reference, PaystackResponse<T> response) {
+        T data = response.getData();
+        if (data != null && terminal.test(data) && reference.equals(referenceOf.apply(data))) {
+            cache.put(hash(reference), response);
+        }
+    }
+
+    /**
+     * Get the underlying cache, e.g. to read hit/miss/eviction counts
+     */
+    public ExpiringCache<Long, PaystackResponse<T>> getCache() {
+        return cache;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the reference
+     */
+    static long hash(String reference) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < reference.length(); i++) {
+            hash ^= reference.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
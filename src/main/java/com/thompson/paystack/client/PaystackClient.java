@@ -1,12 +1,27 @@
 package com.thompson.paystack.client;
 
+import com.thompson.paystack.http.EndpointExecutor;
+import com.thompson.paystack.http.EndpointFamily;
+import com.thompson.paystack.metrics.InMemoryMetrics;
+import com.thompson.paystack.metrics.NetworkEventListener;
+import com.thompson.paystack.metrics.PaystackMetrics;
+import com.thompson.paystack.resilience.CircuitBreaker;
+import com.thompson.paystack.resilience.Hedger;
+import com.thompson.paystack.resilience.RateLimiter;
+import com.thompson.paystack.services.BankService;
 import com.thompson.paystack.services.SubaccountService;
 import com.thompson.paystack.services.TransactionService;
 import com.thompson.paystack.services.TransferService;
 import com.thompson.paystack.webhook.WebhookHandler;
 import lombok.Getter;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -30,6 +45,33 @@ import java.util.concurrent.TimeUnit;
  * WebhookHandler webhookHandler = client.webhooks();
  * boolean isValid = webhookHandler.verifySignature(payload, signature);
  * </pre>
+ * <p>
+ * For many concurrent async calls, start from the high-throughput preset
+ * (see {@link PaystackConfig#highThroughput(String)}):
+ * <pre>
+ * PaystackClient client = new PaystackClient(PaystackConfig.highThroughput("sk_test_xxxxx").build());
+ * </pre>
+ * <p>
+ * For high-concurrency batch jobs, enable virtual threads and fan out plain blocking calls:
+ * <pre>
+ * PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_xxxxx")
+ *     .virtualThreads(true)
+ *     .build());
+ *
+ * for (String reference : references) {
+ *     client.executor().submit(() -&gt; client.transactions().verify(reference));
+ * }
+ * </pre>
+ * <p>
+ * To stay under Paystack's rate limits, give the key a client-side budget; calls wait for a
+ * permit instead of getting 429s. Limiters are shared by every client built from the configuration
+ * (see {@link PaystackConfig.Builder#rateLimiters}):
+ * <pre>
+ * PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_xxxxx")
+ *     .rateLimit(new RateLimit(50, 10))
+ *     .rateLimit(EndpointFamily.TRANSFERS, new RateLimit(10, 2))
+ *     .build());
+ * </pre>
  */
 public class PaystackClient {
     /**
@@ -40,9 +82,12 @@ public class PaystackClient {
     @Getter
     private final PaystackConfig config;
     private final OkHttpClient httpClient;
+    private final ExecutorService executor;
+    private final EndpointExecutor endpointExecutor;
     private final TransactionService transactionService;
     private final SubaccountService subaccountService;
     private final TransferService transferService;
+    private final BankService bankService;
     private final WebhookHandler webhookHandler;
 
     /**
@@ -60,21 +105,39 @@ public class PaystackClient {
      * @param config Paystack configuration
      */
     public PaystackClient(PaystackConfig config) {
-        this(config, createDefaultHttpClient());
+        this(config, createDefaultHttpClient(config));
     }
 
     /**
      * Create a new Paystack client with custom HTTP client
+     * <p>
+     * When {@link PaystackConfig#isVirtualThreads()} is set, the client is re-built with a
+     * dispatcher backed by a virtual-thread-per-task executor. The connection pool and all
+     * other settings of the supplied client are kept. Network phase timings are only recorded if
+     * the supplied client has a {@link NetworkEventListener#factory} installed.
      *
      * @param config Paystack configuration
      * @param httpClient Custom OkHttpClient
      */
     public PaystackClient(PaystackConfig config, OkHttpClient httpClient) {
+        this(config, prepareHttpClient(config, httpClient), null);
+    }
+
+    /**
+     * Create a client on an HTTP client that is used as is, e.g. the transport shared by a
+     * {@link PaystackClientPool}. The transport settings of the configuration are not applied.
+     *
+     * @param executor Executor for internal fan-out, or null for the HTTP client's dispatcher executor
+     */
+    PaystackClient(PaystackConfig config, OkHttpClient httpClient, ExecutorService executor) {
         this.config = config;
         this.httpClient = httpClient;
-        this.transactionService = new TransactionService(httpClient, config);
-        this.subaccountService = new SubaccountService(httpClient, config);
-        this.transferService = new TransferService(httpClient, config);
+        this.executor = executor != null ? executor : httpClient.dispatcher().executorService();
+        this.endpointExecutor = new EndpointExecutor(this.httpClient, config);
+        this.transactionService = new TransactionService(endpointExecutor);
+        this.subaccountService = new SubaccountService(endpointExecutor);
+        this.transferService = new TransferService(endpointExecutor);
+        this.bankService = new BankService(endpointExecutor);
         this.webhookHandler = new WebhookHandler(config.getSecretKey());
     }
 
@@ -105,6 +168,15 @@ public class PaystackClient {
         return transferService;
     }
 
+    /**
+     * Get the bank service, e.g. to refresh a {@link com.thompson.paystack.banks.BankDirectory}
+     *
+     * @return BankService instance
+     */
+    public BankService banks() {
+        return bankService;
+    }
+
     /**
      * Get the webhook handler for processing webhooks
      *
@@ -115,14 +187,121 @@ public class PaystackClient {
     }
 
     /**
-     * Create default HTTP client with reasonable timeouts
+     * Get the executor used for async calls and internal fan-out.
+     * This is a virtual-thread-per-task executor when virtual threads are enabled,
+     * otherwise the OkHttp dispatcher's executor.
+     *
+     * @return ExecutorService instance
+     */
+    public ExecutorService executor() {
+        return executor;
+    }
+
+    /**
+     * Get the rate limiter applied to an endpoint family, e.g. to read how long calls waited for permits
+     *
+     * @param family Endpoint family
+     * @return RateLimiter instance, or null if no rate limit is configured for the family
+     */
+    public RateLimiter rateLimiter(EndpointFamily family) {
+        return endpointExecutor.getRateLimiter(family);
+    }
+
+    /**
+     * Get the circuit breaker of an endpoint, e.g. to check whether it is open
+     *
+     * @param pathTemplate Endpoint path template, e.g. {@code /transfer} or {@code /transaction/verify/{reference}}
+     * @return CircuitBreaker instance, or null if the endpoint has no circuit breaker or has not been called yet
      */
-    private static OkHttpClient createDefaultHttpClient() {
-        return new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .writeTimeout(30, TimeUnit.SECONDS)
+    public CircuitBreaker circuitBreaker(String pathTemplate) {
+        return endpointExecutor.getCircuitBreaker(pathTemplate);
+    }
+
+    /**
+     * Get the hedging metrics of an endpoint, e.g. its hedge win rate
+     *
+     * @param pathTemplate Endpoint path template, e.g. {@code /transaction/verify/{reference}}
+     * @return Hedger instance, or null if the endpoint is not hedged or has not been called yet
+     */
+    public Hedger hedger(String pathTemplate) {
+        return endpointExecutor.getHedger(pathTemplate);
+    }
+
+    /**
+     * Get the metrics this client records its calls into
+     *
+     * @return The configured metrics; an {@link InMemoryMetrics} to read from unless configured otherwise
+     */
+    public PaystackMetrics metrics() {
+        return config.getMetrics();
+    }
+
+    /**
+     * Number of calls made through this client that have not completed yet
+     */
+    public int inFlight() {
+        return endpointExecutor.getInFlight();
+    }
+
+    /**
+     * Create the HTTP client for a configuration: from its transport settings, on virtual threads if enabled
+     */
+    static OkHttpClient createHttpClient(PaystackConfig config) {
+        return prepareHttpClient(config, createDefaultHttpClient(config));
+    }
+
+    /**
+     * Re-build the HTTP client with a dispatcher backed by a virtual-thread-per-task executor when
+     * virtual threads are enabled, keeping its connection pool and all other settings
+     */
+    private static OkHttpClient prepareHttpClient(PaystackConfig config, OkHttpClient httpClient) {
+        if (!config.isVirtualThreads()) {
+            return httpClient;
+        }
+        return httpClient.newBuilder()
+                .dispatcher(createDispatcher(Executors.newVirtualThreadPerTaskExecutor(), httpClient.dispatcher()))
+                .build();
+    }
+
+    /**
+     * Create default HTTP client from the transport settings in the configuration, timing the
+     * network phases of its calls into the configured metrics
+     */
+    private static OkHttpClient createDefaultHttpClient(PaystackConfig config) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(config.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+
+        ConnectionPool connectionPool = new ConnectionPool(
+                config.getMaxIdleConnections(), config.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+
+        List<Protocol> protocols = config.isHttp2()
+                ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                : List.of(Protocol.HTTP_1_1);
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        if (config.getMetrics() != PaystackMetrics.noop()) {
+            builder.eventListenerFactory(NetworkEventListener.factory(config.getMetrics()));
+        }
+        return builder
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .protocols(protocols)
+                .connectTimeout(config.getConnectTimeout())
+                .readTimeout(config.getReadTimeout())
+                .writeTimeout(config.getWriteTimeout())
+                .callTimeout(config.getCallTimeout())
                 .build();
     }
 
+    /**
+     * Create a dispatcher running on the given executor, keeping the limits of the one it replaces
+     */
+    private static Dispatcher createDispatcher(ExecutorService executor, Dispatcher previous) {
+        Dispatcher dispatcher = new Dispatcher(executor);
+        dispatcher.setMaxRequests(previous.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(previous.getMaxRequestsPerHost());
+        return dispatcher;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.thompson.paystack.client;
+
+import okhttp3.OkHttpClient;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Clients for many secret keys (e.g. the merchants of a marketplace) on one shared transport.
+ * <p>
+ * A {@link PaystackClient} per key would each build an OkHttpClient, with its own connection pool
+ * and dispatcher threads. The pool builds a single HTTP client and executor from a template
+ * configuration, and hands out a lightweight client per key on top of it: services, retry, rate
+ * limit and circuit breaker state, and the webhook handler of that key. All tenants share the
+ * connections to Paystack and the dispatcher limits.
+ * <p>
+ * Tenants not used for the idle timeout, and with no call in flight, are dropped; the next request
+ * for the key creates a fresh client. Its state (rate limiters, circuit breakers, verify caches)
+ * starts over; a rate limiter idle for the idle timeout has normally refilled its bucket anyway.
+ * <pre>
+ * PaystackClientPool pool = new PaystackClientPool(
+ *     PaystackConfig.highThroughput("sk_live_platform").build(), Duration.ofMinutes(10));
+ *
+ * pool.client(merchant.getSecretKey()).transactions().verify(reference);
+ * </pre>
+ */
+public class PaystackClientPool implements AutoCloseable {
+    private final PaystackConfig template;
+    private final OkHttpClient httpClient;
+    private final ExecutorService executor;
+    private final boolean ownsTransport;
+    private final long idleTimeoutNanos;
+    private final Map<String, Tenant> tenants = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final LongAdder created = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * A pooled client and when it was last handed out
+     */
+    private static final class Tenant {
+        private final PaystackClient client;
+        private volatile long lastUsed;
+
+        private Tenant(PaystackClient client, long lastUsed) {
+            this.client = client;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * @param template    Configuration whose settings apply to every tenant; its transport settings
+     *                    build the shared HTTP client, and its secret key is not used for tenants
+     * @param idleTimeout How long an unused tenant is kept
+     */
+    public PaystackClientPool(PaystackConfig template, Duration idleTimeout) {
+        this(template, PaystackClient.createHttpClient(template), idleTimeout, true);
+    }
+
+    /**
+     * @param template    Configuration whose settings apply to every tenant, except its transport settings
+     * @param httpClient  HTTP client shared by all tenants
+     * @param idleTimeout How long an unused tenant is kept
+     */
+    public PaystackClientPool(PaystackConfig template, OkHttpClient httpClient, Duration idleTimeout) {
+        this(template, httpClient, idleTimeout, false);
+    }
+
+    private PaystackClientPool(PaystackConfig template, OkHttpClient httpClient, Duration idleTimeout,
+                               boolean ownsTransport) {
+        if (idleTimeout == null || idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("Idle timeout must be greater than 0");
+        }
+        this.template = template;
+        this.httpClient = httpClient;
+        this.executor = httpClient.dispatcher().executorService();
+        this.ownsTransport = ownsTransport;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * Get the client of a secret key, creating it on first use
+     *
+     * @param secretKey Secret key of the tenant
+     * @return Client sharing the pool's transport
+     */
+    public PaystackClient client(String secretKey) {
+        long now = System.nanoTime();
+        // Touched under the map's lock for the key, so a concurrent sweep cannot drop the tenant
+        // (and its rate limiters) once it has been handed out
+        Tenant tenant = tenants.compute(secretKey, (key, current) -> {
+            if (current == null) {
+                created.increment();
+                return new Tenant(new PaystackClient(template.withSecretKey(key), httpClient, executor), now);
+            }
+            current.lastUsed = now;
+            return current;
+        });
+        sweepIfDue(now);
+        return tenant.client;
+    }
+
+    /**
+     * Number of calls in flight for a tenant
+     *
+     * @param secretKey Secret key of the tenant
+     * @return Calls in flight, or 0 if the tenant is not in the pool
+     */
+    public int inFlight(String secretKey) {
+        Tenant tenant = tenants.get(secretKey);
+        return tenant == null ? 0 : tenant.client.inFlight();
+    }
+
+    /**
+     * Drop the tenants that have been idle for the idle timeout and have no call in flight.
+     * Runs on its own as clients are requested; call it to trim the pool right away.
+     *
+     * @return Number of tenants dropped
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        lastSweep.set(now);
+        AtomicInteger dropped = new AtomicInteger();
+        for (String secretKey : tenants.keySet()) {
+            tenants.computeIfPresent(secretKey, (key, tenant) -> {
+                if (now - tenant.lastUsed < idleTimeoutNanos || tenant.client.inFlight() > 0) {
+                    return tenant;
+                }
+                template.getRateLimiters().remove(key);
+                dropped.incrementAndGet();
+                return null;
+            });
+        }
+        evicted.add(dropped.get());
+        return dropped.get();
+    }
+
+    /**
+     * Sweep at most every half idle timeout, on the thread that happens to find it due
+     */
+    private void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        if (now - last >= idleTimeoutNanos / 2 && lastSweep.compareAndSet(last, now)) {
+            evictIdle();
+        }
+    }
+
+    /**
+     * Number of tenants in the pool
+     */
+    public int size() {
+        return tenants.size();
+    }
+
+    /**
+     * Number of tenant clients created, including re-created ones
+     */
+    public long getCreated() {
+        return created.sum();
+    }
+
+    /**
+     * Number of tenants dropped for being idle
+     */
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    /**
+     * The HTTP client shared by all tenants
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Drop all tenants and, if the pool built the shared transport, release its threads and idle
+     * connections. Tenant clients must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        tenants.clear();
+        if (ownsTransport) {
+            executor.shutdown();
+            httpClient.connectionPool().evictAll();
+        }
+    }
+}
@@ -1,5 +1,20 @@
 package com.thompson.paystack.client;
 
+import com.thompson.paystack.http.EndpointFamily;
+import com.thompson.paystack.metrics.InMemoryMetrics;
+import com.thompson.paystack.metrics.PaystackMetrics;
+import com.thompson.paystack.resilience.CircuitBreakerPolicy;
+import com.thompson.paystack.resilience.HedgingPolicy;
+import com.thompson.paystack.resilience.RateLimit;
+import com.thompson.paystack.resilience.RateLimiters;
+import com.thompson.paystack.resilience.RetryPolicy;
+import com.thompson.paystack.tracing.PaystackTracer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Configuration class for Paystack API client
  */
@@ -8,6 +23,50 @@ public class PaystackConfig {
 
     private final String secretKey;
     private final String baseUrl;
+    private final boolean virtualThreads;
+
+    // HTTP transport settings, applied by PaystackClient when it creates its own OkHttpClient
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final int maxIdleConnections;
+    private final Duration keepAlive;
+    private final boolean http2;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Duration writeTimeout;
+    private final Duration callTimeout;
+
+    // Retry settings, applied by EndpointExecutor
+    private final RetryPolicy retryPolicy;
+    private final Map<String, RetryPolicy> endpointRetryPolicies;
+    private final int retryBudgetTokens;
+    private final double retryBudgetRatio;
+
+    // Client-side rate limits, per endpoint family
+    private final Map<EndpointFamily, RateLimit> rateLimits;
+    private final Duration rateLimitTimeout;
+    private final RateLimiters rateLimiters;
+
+    // Circuit breakers, one per endpoint
+    private final CircuitBreakerPolicy circuitBreakerPolicy;
+    private final Map<String, CircuitBreakerPolicy> endpointCircuitBreakerPolicies;
+
+    // Hedging of idempotent GETs
+    private final HedgingPolicy hedgingPolicy;
+    private final Map<String, HedgingPolicy> endpointHedgingPolicies;
+
+    // Cache of terminal verify results
+    private final int verifyCacheSize;
+    private final Duration verifyCacheTtl;
+
+    // Cache of account resolutions, including accounts that could not be resolved
+    private final int resolveCacheSize;
+    private final Duration resolveCacheTtl;
+    private final Duration resolveCacheNegativeTtl;
+
+    // Where call measurements and spans go
+    private final PaystackMetrics metrics;
+    private final PaystackTracer tracer;
 
     /**
      * Creates a new PaystackConfig with default base URL
@@ -25,11 +84,93 @@ public class PaystackConfig {
      * @param baseUrl Custom base URL
      */
     public PaystackConfig(String secretKey, String baseUrl) {
+        this(builder(secretKey).baseUrl(baseUrl));
+    }
+
+    private PaystackConfig(Builder builder) {
+        if (builder.secretKey == null || builder.secretKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("Secret key cannot be null or empty");
+        }
+        this.secretKey = builder.secretKey;
+        this.baseUrl = builder.baseUrl;
+        this.virtualThreads = builder.virtualThreads;
+        this.maxRequests = builder.maxRequests;
+        this.maxRequestsPerHost = builder.maxRequestsPerHost;
+        this.maxIdleConnections = builder.maxIdleConnections;
+        this.keepAlive = builder.keepAlive;
+        this.http2 = builder.http2;
+        this.connectTimeout = builder.connectTimeout;
+        this.readTimeout = builder.readTimeout;
+        this.writeTimeout = builder.writeTimeout;
+        this.callTimeout = builder.callTimeout;
+        this.retryPolicy = builder.retryPolicy;
+        this.endpointRetryPolicies = Map.copyOf(builder.endpointRetryPolicies);
+        this.retryBudgetTokens = builder.retryBudgetTokens;
+        this.retryBudgetRatio = builder.retryBudgetRatio;
+        this.rateLimits = new EnumMap<>(builder.rateLimits);
+        this.rateLimitTimeout = builder.rateLimitTimeout;
+        this.rateLimiters = builder.rateLimiters != null ? builder.rateLimiters : new RateLimiters();
+        this.circuitBreakerPolicy = builder.circuitBreakerPolicy;
+        this.endpointCircuitBreakerPolicies = Map.copyOf(builder.endpointCircuitBreakerPolicies);
+        this.hedgingPolicy = builder.hedgingPolicy;
+        this.endpointHedgingPolicies = Map.copyOf(builder.endpointHedgingPolicies);
+        this.verifyCacheSize = builder.verifyCacheSize;
+        this.verifyCacheTtl = builder.verifyCacheTtl;
+        this.resolveCacheSize = builder.resolveCacheSize;
+        this.resolveCacheTtl = builder.resolveCacheTtl;
+        this.resolveCacheNegativeTtl = builder.resolveCacheNegativeTtl;
+        this.metrics = builder.metrics != null ? builder.metrics : new InMemoryMetrics();
+        this.tracer = builder.tracer;
+    }
+
+    /**
+     * Copy of a configuration with another secret key
+     */
+    private PaystackConfig(PaystackConfig template, String secretKey) {
         if (secretKey == null || secretKey.trim().isEmpty()) {
             throw new IllegalArgumentException("Secret key cannot be null or empty");
         }
         this.secretKey = secretKey;
-        this.baseUrl = baseUrl;
+        this.baseUrl = template.baseUrl;
+        this.virtualThreads = template.virtualThreads;
+        this.maxRequests = template.maxRequests;
+        this.maxRequestsPerHost = template.maxRequestsPerHost;
+        this.maxIdleConnections = template.maxIdleConnections;
+        this.keepAlive = template.keepAlive;
+        this.http2 = template.http2;
+        this.connectTimeout = template.connectTimeout;
+        this.readTimeout = template.readTimeout;
+        this.writeTimeout = template.writeTimeout;
+        this.callTimeout = template.callTimeout;
+        this.retryPolicy = template.retryPolicy;
+        this.endpointRetryPolicies = template.endpointRetryPolicies;
+        this.retryBudgetTokens = template.retryBudgetTokens;
+        this.retryBudgetRatio = template.retryBudgetRatio;
+        this.rateLimits = template.rateLimits;
+        this.rateLimitTimeout = template.rateLimitTimeout;
+        this.rateLimiters = template.rateLimiters;
+        this.circuitBreakerPolicy = template.circuitBreakerPolicy;
+        this.endpointCircuitBreakerPolicies = template.endpointCircuitBreakerPolicies;
+        this.hedgingPolicy = template.hedgingPolicy;
+        this.endpointHedgingPolicies = template.endpointHedgingPolicies;
+        this.verifyCacheSize = template.verifyCacheSize;
+        this.verifyCacheTtl = template.verifyCacheTtl;
+        this.resolveCacheSize = template.resolveCacheSize;
+        this.resolveCacheTtl = template.resolveCacheTtl;
+        this.resolveCacheNegativeTtl = template.resolveCacheNegativeTtl;
+        this.metrics = template.metrics;
+        this.tracer = template.tracer;
+    }
+
+    /**
+     * Same configuration for another secret key, e.g. one merchant of a
+     * {@link PaystackClientPool}
+     *
+     * @param secretKey Secret key of the new configuration
+     * @return New configuration; this one is unchanged
+     */
+    public PaystackConfig withSecretKey(String secretKey) {
+        return new PaystackConfig(this, secretKey);
     }
 
     public String getSecretKey() {
@@ -40,6 +181,171 @@ public class PaystackConfig {
         return baseUrl;
     }
 
+    /**
+     * Whether async calls and internal fan-out run on virtual threads
+     *
+     * @return true if virtual-thread execution mode is enabled
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public Duration getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    /**
+     * Get the retry policy for an endpoint
+     *
+     * @param pathTemplate Endpoint path template, e.g. {@code /transaction/verify/{reference}}
+     * @return The endpoint-specific policy if one was configured, otherwise the default policy
+     */
+    public RetryPolicy getRetryPolicy(String pathTemplate) {
+        return endpointRetryPolicies.getOrDefault(pathTemplate, retryPolicy);
+    }
+
+    public int getRetryBudgetTokens() {
+        return retryBudgetTokens;
+    }
+
+    public double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    /**
+     * Get the client-side rate limit for an endpoint family
+     *
+     * @param family Endpoint family
+     * @return The rate limit, or null if calls to that family are not limited
+     */
+    public RateLimit getRateLimit(EndpointFamily family) {
+        return rateLimits.get(family);
+    }
+
+    /**
+     * Maximum time a call waits for a rate limit permit
+     *
+     * @return Timeout, or null to wait as long as needed
+     */
+    public Duration getRateLimitTimeout() {
+        return rateLimitTimeout;
+    }
+
+    /**
+     * Registry holding the rate limiters of this configuration's clients; shared by all
+     * configurations copied with {@link #withSecretKey}
+     *
+     * @return The configured registry, a new one per configuration by default
+     */
+    public RateLimiters getRateLimiters() {
+        return rateLimiters;
+    }
+
+    /**
+     * Get the circuit breaker policy for an endpoint
+     *
+     * @param pathTemplate Endpoint path template, e.g. {@code /transfer}
+     * @return The endpoint-specific policy if one was configured, otherwise the default policy,
+     * or null if the endpoint has no circuit breaker
+     */
+    public CircuitBreakerPolicy getCircuitBreakerPolicy(String pathTemplate) {
+        return endpointCircuitBreakerPolicies.getOrDefault(pathTemplate, circuitBreakerPolicy);
+    }
+
+    /**
+     * Get the hedging policy for an endpoint
+     *
+     * @param pathTemplate Endpoint path template, e.g. {@code /transaction/verify/{reference}}
+     * @return The endpoint-specific policy if one was configured, otherwise the default policy,
+     * or null if calls to the endpoint are not hedged
+     */
+    public HedgingPolicy getHedgingPolicy(String pathTemplate) {
+        return endpointHedgingPolicies.getOrDefault(pathTemplate, hedgingPolicy);
+    }
+
+    /**
+     * Maximum number of cached verify results per service
+     *
+     * @return Cache size, or 0 if verify results are not cached
+     */
+    public int getVerifyCacheSize() {
+        return verifyCacheSize;
+    }
+
+    public Duration getVerifyCacheTtl() {
+        return verifyCacheTtl;
+    }
+
+    /**
+     * Maximum number of cached account resolutions
+     *
+     * @return Cache size, or 0 if account resolutions are not cached
+     */
+    public int getResolveCacheSize() {
+        return resolveCacheSize;
+    }
+
+    public Duration getResolveCacheTtl() {
+        return resolveCacheTtl;
+    }
+
+    /**
+     * How long an account that could not be resolved is remembered
+     */
+    public Duration getResolveCacheNegativeTtl() {
+        return resolveCacheNegativeTtl;
+    }
+
+    /**
+     * Metrics the calls are recorded into; shared by all configurations copied with {@link #withSecretKey}
+     *
+     * @return The configured metrics, an {@link InMemoryMetrics} by default
+     */
+    public PaystackMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Tracer creating the spans of calls
+     *
+     * @return The configured tracer, {@link PaystackTracer#noop()} by default
+     */
+    public PaystackTracer getTracer() {
+        return tracer;
+    }
+
     /**
      * Get the Authorization header value
      *
@@ -48,4 +354,380 @@ public class PaystackConfig {
     public String getAuthorizationHeader() {
         return "Bearer " + secretKey;
     }
-}
\ No newline at end of file
+
+    /**
+     * Builder for PaystackConfig
+     * <p>
+     * Transport settings only take effect when {@link PaystackClient} creates its own HTTP client,
+     * i.e. not with {@link PaystackClient#PaystackClient(PaystackConfig, okhttp3.OkHttpClient)}.
+     */
+    public static class Builder {
+        private final String secretKey;
+        private String baseUrl = DEFAULT_BASE_URL;
+        private boolean virtualThreads;
+        private int maxRequests = 64;
+        private int maxRequestsPerHost = 5;
+        private int maxIdleConnections = 5;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private boolean http2 = true;
+        private Duration connectTimeout = Duration.ofSeconds(30);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private Duration writeTimeout = Duration.ofSeconds(30);
+        private Duration callTimeout = Duration.ZERO;
+        private RetryPolicy retryPolicy = RetryPolicy.none();
+        private final Map<String, RetryPolicy> endpointRetryPolicies = new HashMap<>();
+        private int retryBudgetTokens = 10;
+        private double retryBudgetRatio = 0.1;
+        private final Map<EndpointFamily, RateLimit> rateLimits = new EnumMap<>(EndpointFamily.class);
+        private Duration rateLimitTimeout;
+        private RateLimiters rateLimiters;
+        private CircuitBreakerPolicy circuitBreakerPolicy;
+        private final Map<String, CircuitBreakerPolicy> endpointCircuitBreakerPolicies = new HashMap<>();
+        private HedgingPolicy hedgingPolicy;
+        private final Map<String, HedgingPolicy> endpointHedgingPolicies = new HashMap<>();
+        private int verifyCacheSize;
+        private Duration verifyCacheTtl;
+        private int resolveCacheSize;
+        private Duration resolveCacheTtl;
+        private Duration resolveCacheNegativeTtl;
+        private PaystackMetrics metrics;
+        private PaystackTracer tracer = PaystackTracer.noop();
+
+        private Builder(String secretKey) {
+            this.secretKey = secretKey;
+        }
+
+        /**
+         * Set a custom base URL (useful for testing)
+         */
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        /**
+         * Run the OkHttp dispatcher and the client's internal fan-out on a
+         * virtual-thread-per-task executor. Blocking service calls made from
+         * virtual threads then no longer pin a platform thread each.
+         */
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Maximum number of async calls in flight (default 64)
+         */
+        public Builder maxRequests(int maxRequests) {
+            this.maxRequests = requirePositive(maxRequests, "Max requests");
+            return this;
+        }
+
+        /**
+         * Maximum number of async calls in flight per host (default 5).
+         * All calls go to the same Paystack host, so this is the effective async concurrency limit.
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = requirePositive(maxRequestsPerHost, "Max requests per host");
+            return this;
+        }
+
+        /**
+         * Maximum number of idle connections kept in the pool (default 5)
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = requirePositive(maxIdleConnections, "Max idle connections");
+            return this;
+        }
+
+        /**
+         * How long an idle pooled connection is kept alive (default 5 minutes)
+         */
+        public Builder keepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Prefer HTTP/2 when the server supports it (default true). When false only HTTP/1.1 is used.
+         */
+        public Builder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        /**
+         * Timeout for establishing a connection (default 30 seconds)
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Timeout between bytes while reading the response (default 30 seconds)
+         */
+        public Builder readTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        /**
+         * Timeout between bytes while writing the request (default 30 seconds)
+         */
+        public Builder writeTimeout(Duration writeTimeout) {
+            this.writeTimeout = writeTimeout;
+            return this;
+        }
+
+        /**
+         * Timeout for the complete call, including redirects and retries (default none)
+         */
+        public Builder callTimeout(Duration callTimeout) {
+            this.callTimeout = callTimeout;
+            return this;
+        }
+
+        /**
+         * Set the default retry policy for all endpoints (default {@link RetryPolicy#none()})
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Override the retry policy for one endpoint
+         *
+         * @param pathTemplate Endpoint path template, e.g. {@code /transfer} or {@code /transaction/verify/{reference}}
+         * @param retryPolicy  Policy to use for that endpoint
+         */
+        public Builder retryPolicy(String pathTemplate, RetryPolicy retryPolicy) {
+            this.endpointRetryPolicies.put(pathTemplate, retryPolicy);
+            return this;
+        }
+
+        /**
+         * Configure the client-wide retry budget (default 10 tokens, 0.1 per success).
+         * See {@link com.thompson.paystack.resilience.RetryBudget}.
+         */
+        public Builder retryBudget(int maxTokens, double tokenRatio) {
+            this.retryBudgetTokens = requirePositive(maxTokens, "Retry budget tokens");
+            if (tokenRatio <= 0) {
+                throw new IllegalArgumentException("Retry budget ratio must be greater than 0");
+            }
+            this.retryBudgetRatio = tokenRatio;
+            return this;
+        }
+
+        /**
+         * Limit calls to every endpoint family (each family gets its own bucket).
+         * Limiters are shared by all clients of this configuration (and its copies) using the same secret key.
+         */
+        public Builder rateLimit(RateLimit rateLimit) {
+            for (EndpointFamily family : EndpointFamily.values()) {
+                this.rateLimits.put(family, rateLimit);
+            }
+            return this;
+        }
+
+        /**
+         * Limit calls to one endpoint family, e.g. transfers
+         */
+        public Builder rateLimit(EndpointFamily family, RateLimit rateLimit) {
+            this.rateLimits.put(family, rateLimit);
+            return this;
+        }
+
+        /**
+         * Fail calls with a {@link com.thompson.paystack.exceptions.RateLimitExceededException}
+         * instead of waiting longer than this for a rate limit permit (default: wait as long as needed)
+         */
+        public Builder rateLimitTimeout(Duration rateLimitTimeout) {
+            this.rateLimitTimeout = rateLimitTimeout;
+            return this;
+        }
+
+        /**
+         * Keep rate limiters in the given registry, e.g. one shared with the configurations of other
+         * clients for the same secret keys, so that they all draw from the same buckets.
+         * Default: a new registry per configuration.
+         */
+        public Builder rateLimiters(RateLimiters rateLimiters) {
+            if (rateLimiters == null) {
+                throw new IllegalArgumentException("Rate limiters cannot be null");
+            }
+            this.rateLimiters = rateLimiters;
+            return this;
+        }
+
+        /**
+         * Give every endpoint its own circuit breaker with this policy (default: no circuit breakers).
+         * Calls to an open endpoint fail with a {@link com.thompson.paystack.exceptions.CircuitBreakerOpenException}.
+         */
+        public Builder circuitBreaker(CircuitBreakerPolicy circuitBreakerPolicy) {
+            this.circuitBreakerPolicy = circuitBreakerPolicy;
+            return this;
+        }
+
+        /**
+         * Use a circuit breaker with a specific policy for one endpoint
+         *
+         * @param pathTemplate         Endpoint path template, e.g. {@code /transfer} or {@code /transaction/verify/{reference}}
+         * @param circuitBreakerPolicy Policy to use for that endpoint
+         */
+        public Builder circuitBreaker(String pathTemplate, CircuitBreakerPolicy circuitBreakerPolicy) {
+            this.endpointCircuitBreakerPolicies.put(pathTemplate, circuitBreakerPolicy);
+            return this;
+        }
+
+        /**
+         * Hedge calls to all GET endpoints, e.g. transaction and transfer verification (default: no hedging)
+         */
+        public Builder hedging(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        /**
+         * Hedge calls to one GET endpoint
+         *
+         * @param pathTemplate  Endpoint path template, e.g. {@code /transaction/verify/{reference}}
+         * @param hedgingPolicy Policy to use for that endpoint
+         */
+        public Builder hedging(String pathTemplate, HedgingPolicy hedgingPolicy) {
+            this.endpointHedgingPolicies.put(pathTemplate, hedgingPolicy);
+            return this;
+        }
+
+        /**
+         * Cache verify results that can no longer change (transactions that succeeded, failed or were
+         * abandoned; transfers that succeeded, failed, were reversed or rejected). Pending results are
+         * never cached. Default: no cache.
+         * <p>
+         * A successful transfer can still be reversed later, so keep the TTL short enough for that.
+         *
+         * @param maxSize Maximum number of results cached per service
+         * @param ttl     How long a result is cached
+         */
+        public Builder verifyCache(int maxSize, Duration ttl) {
+            this.verifyCacheSize = requirePositive(maxSize, "Verify cache size");
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("Verify cache TTL must be greater than 0");
+            }
+            this.verifyCacheTtl = ttl;
+            return this;
+        }
+
+        /**
+         * Cache account resolutions, e.g. 10,000 accounts for 24 hours. Accounts Paystack could not
+         * resolve are cached too, for the shorter negative TTL, so retries of a mistyped account number
+         * do not reach Paystack each time. Default: no cache.
+         * <p>
+         * Each client has its own cache; clients of a {@link PaystackClientPool} each get one of this size.
+         *
+         * @param maxSize     Maximum number of accounts cached
+         * @param ttl         How long a resolved account is cached
+         * @param negativeTtl How long an account that could not be resolved is cached
+         */
+        public Builder resolveCache(int maxSize, Duration ttl, Duration negativeTtl) {
+            this.resolveCacheSize = requirePositive(maxSize, "Resolve cache size");
+            if (ttl == null || ttl.isNegative() || ttl.isZero()
+                    || negativeTtl == null || negativeTtl.isNegative() || negativeTtl.isZero()) {
+                throw new IllegalArgumentException("Resolve cache TTLs must be greater than 0");
+            }
+            this.resolveCacheTtl = ttl;
+            this.resolveCacheNegativeTtl = negativeTtl;
+            return this;
+        }
+
+        /**
+         * Resolve every account with Paystack, without caching (the default)
+         */
+        public Builder disableResolveCache() {
+            this.resolveCacheSize = 0;
+            return this;
+        }
+
+        /**
+         * Record call counts, status codes, errors and latencies into the given metrics, e.g. an
+         * adapter to your monitoring system. Default: a new {@link InMemoryMetrics} per configuration.
+         */
+        public Builder metrics(PaystackMetrics metrics) {
+            if (metrics == null) {
+                throw new IllegalArgumentException("Metrics cannot be null, use disableMetrics()");
+            }
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Record no metrics
+         */
+        public Builder disableMetrics() {
+            this.metrics = PaystackMetrics.noop();
+            return this;
+        }
+
+        /**
+         * Trace calls with the given tracer: a span per call, with a child span per HTTP attempt.
+         * Default: {@link PaystackTracer#noop()}.
+         */
+        public Builder tracer(PaystackTracer tracer) {
+            if (tracer == null) {
+                throw new IllegalArgumentException("Tracer cannot be null, use PaystackTracer.noop()");
+            }
+            this.tracer = tracer;
+            return this;
+        }
+
+        /**
+         * Build the configuration
+         */
+        public PaystackConfig build() {
+            return new PaystackConfig(this);
+        }
+
+        private static int requirePositive(int value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be greater than 0");
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Create a new builder
+     *
+     * @param secretKey Your Paystack secret key
+     */
+    public static Builder builder(String secretKey) {
+        return new Builder(secretKey);
+    }
+
+    /**
+     * Create a builder preset for high-throughput workloads (batch jobs, checkout tiers doing
+     * many async calls). Compared to the defaults it:
+     * <ul>
+     *     <li>allows 256 async calls in flight, all of them to the Paystack host</li>
+     *     <li>keeps up to 64 idle connections alive for 5 minutes so bursts reuse warm TLS connections</li>
+     *     <li>prefers HTTP/2 so many calls can share one connection</li>
+     *     <li>fails faster: 5s connect, 20s read/write and a 30s cap on the whole call</li>
+     * </ul>
+     * Any of these can still be overridden on the returned builder.
+     *
+     * @param secretKey Your Paystack secret key
+     */
+    public static Builder highThroughput(String secretKey) {
+        return new Builder(secretKey)
+                .maxRequests(256)
+                .maxRequestsPerHost(256)
+                .maxIdleConnections(64)
+                .keepAlive(Duration.ofMinutes(5))
+                .http2(true)
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(20))
+                .writeTimeout(Duration.ofSeconds(20))
+                .callTimeout(Duration.ofSeconds(30));
+    }
+}
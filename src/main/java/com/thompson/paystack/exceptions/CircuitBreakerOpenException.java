@@ -0,0 +1,16 @@
+package com.thompson.paystack.exceptions;
+
+/**
+ * Exception thrown when a call is rejected because the endpoint's circuit breaker is open,
+ * i.e. Paystack has recently been failing or slow on that endpoint
+ */
+public class CircuitBreakerOpenException extends PaystackException {
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+
+    public CircuitBreakerOpenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
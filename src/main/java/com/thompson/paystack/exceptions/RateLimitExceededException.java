@@ -0,0 +1,15 @@
+package com.thompson.paystack.exceptions;
+
+/**
+ * Exception thrown when no client-side rate limit permit became available within the configured timeout
+ */
+public class RateLimitExceededException extends PaystackException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+
+    public RateLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
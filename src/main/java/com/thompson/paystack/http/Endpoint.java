@@ -0,0 +1,273 @@
+package com.thompson.paystack.http;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.utils.JsonUtils;
+
+import java.lang.reflect.Type;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Static description of a Paystack API endpoint.
+ * <p>
+ * Descriptors are meant to be created once (as {@code static final} fields) so that the path
+ * template is pre-split and the Gson {@link TypeAdapter} for the response type is resolved up
+ * front. {@link EndpointExecutor} then does no reflection or TypeToken creation per call.
+ * <pre>
+ * private static final Endpoint&lt;TransactionData&gt; VERIFY = Endpoint
+ *     .get("/transaction/verify/{reference}", new TypeToken&lt;PaystackResponse&lt;TransactionData&gt;&gt;() {})
+ *     .failureMessage("Failed to verify transaction")
+ *     .networkErrorMessage("Network error while verifying transaction")
+ *     .build();
+ * </pre>
+ *
+ * @param <T> Type of the response data
+ */
+public final class Endpoint<T> {
+    private final String method;
+    private final String pathTemplate;
+    private final String name;
+    private final String[] literals;
+    private final int referenceParameter;
+    private final int literalLength;
+    private final String[] queryNames;
+    private final Type responseType;
+    private final TypeAdapter<PaystackResponse<T>> adapter;
+    private final String failureMessage;
+    private final String networkErrorMessage;
+    private final boolean idempotent;
+    private final EndpointFamily family;
+
+    private Endpoint(Builder<T> builder) {
+        this.method = builder.method;
+        this.pathTemplate = builder.pathTemplate;
+        this.name = builder.method + " " + builder.pathTemplate;
+        this.literals = compile(builder.pathTemplate);
+        this.referenceParameter = placeholderIndex(builder.pathTemplate, "{reference}");
+        this.literalLength = pathTemplate.length();
+        this.queryNames = builder.queryNames;
+        this.responseType = builder.responseType.getType();
+        this.adapter = JsonUtils.getGson().getAdapter(builder.responseType);
+        this.failureMessage = builder.failureMessage;
+        this.networkErrorMessage = builder.networkErrorMessage;
+        this.idempotent = builder.idempotent;
+        this.family = EndpointFamily.fromPath(builder.pathTemplate);
+    }
+
+    /**
+     * HTTP method (GET, POST, PUT)
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Path template, e.g. {@code /transaction/verify/{reference}}. Also used as the endpoint name.
+     */
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * Resolved type of the full response, e.g. {@code PaystackResponse<TransactionData>}
+     */
+    public Type getResponseType() {
+        return responseType;
+    }
+
+    /**
+     * Cached Gson adapter for the full response
+     */
+    public TypeAdapter<PaystackResponse<T>> getAdapter() {
+        return adapter;
+    }
+
+    /**
+     * Message prefix used when Paystack answers with a non-2xx status
+     */
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    /**
+     * Message used when the call fails with an IOException
+     */
+    public String getNetworkErrorMessage() {
+        return networkErrorMessage;
+    }
+
+    /**
+     * Whether repeating the call has no additional effect, so it can be retried without a reference
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Family the endpoint belongs to, derived from its path
+     */
+    public EndpointFamily getFamily() {
+        return family;
+    }
+
+    /**
+     * Index of the {@code {reference}} path parameter, or -1 if the path has none
+     */
+    int getReferenceParameter() {
+        return referenceParameter;
+    }
+
+    /**
+     * Expand the path template with the given parameters
+     *
+     * @param baseUrl    Base URL to prefix
+     * @param parameters Values for the {placeholders}, in order, followed by the values of the
+     *                   query parameters (null values are left out)
+     * @return Full URL
+     */
+    String url(String baseUrl, String... parameters) {
+        int pathParameters = literals.length - 1;
+        if (parameters.length != pathParameters + queryNames.length) {
+            throw new IllegalArgumentException("Endpoint " + pathTemplate + " expects "
+                    + pathParameters + " path parameter(s) and " + queryNames.length
+                    + " query parameter(s) but got " + parameters.length);
+        }
+        int length = baseUrl.length() + literalLength;
+        for (String parameter : parameters) {
+            length += parameter == null ? 0 : parameter.length();
+        }
+
+        StringBuilder url = new StringBuilder(length).append(baseUrl).append(literals[0]);
+        for (int i = 0; i < pathParameters; i++) {
+            url.append(parameters[i]).append(literals[i + 1]);
+        }
+        char separator = '?';
+        for (int i = 0; i < queryNames.length; i++) {
+            String value = parameters[pathParameters + i];
+            if (value != null) {
+                url.append(separator).append(queryNames[i]).append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        return url.toString();
+    }
+
+    /**
+     * Split a template into the literal parts around its placeholders.
+     * A template with n placeholders yields n + 1 literals (possibly empty).
+     */
+    private static String[] compile(String template) {
+        List<String> literals = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in path template: " + template);
+            }
+            literals.add(template.substring(start, open));
+            start = close + 1;
+        }
+        literals.add(template.substring(start));
+        return literals.toArray(new String[0]);
+    }
+
+    /**
+     * Position of a placeholder among the template's placeholders, or -1
+     */
+    private static int placeholderIndex(String template, String placeholder) {
+        int at = template.indexOf(placeholder);
+        if (at < 0) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = template.indexOf('{'); i >= 0 && i < at; i = template.indexOf('{', i + 1)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Method and path template, e.g. {@code GET /transaction/verify/{reference}}
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static <T> Builder<T> get(String pathTemplate, TypeToken<PaystackResponse<T>> responseType) {
+        return new Builder<>("GET", pathTemplate, responseType);
+    }
+
+    public static <T> Builder<T> post(String pathTemplate, TypeToken<PaystackResponse<T>> responseType) {
+        return new Builder<>("POST", pathTemplate, responseType);
+    }
+
+    public static <T> Builder<T> put(String pathTemplate, TypeToken<PaystackResponse<T>> responseType) {
+        return new Builder<>("PUT", pathTemplate, responseType);
+    }
+
+    /**
+     * Builder for Endpoint
+     */
+    public static class Builder<T> {
+        private final String method;
+        private final String pathTemplate;
+        private final TypeToken<PaystackResponse<T>> responseType;
+        private String failureMessage;
+        private String networkErrorMessage;
+        private boolean idempotent;
+        private String[] queryNames = new String[0];
+
+        private Builder(String method, String pathTemplate, TypeToken<PaystackResponse<T>> responseType) {
+            this.method = method;
+            this.pathTemplate = pathTemplate;
+            this.responseType = responseType;
+            this.idempotent = "GET".equals(method);
+        }
+
+        /**
+         * Set the message prefix used for non-2xx responses, e.g. "Failed to verify transaction"
+         */
+        public Builder<T> failureMessage(String failureMessage) {
+            this.failureMessage = failureMessage;
+            return this;
+        }
+
+        /**
+         * Set the message used for network errors, e.g. "Network error while verifying transaction"
+         */
+        public Builder<T> networkErrorMessage(String networkErrorMessage) {
+            this.networkErrorMessage = networkErrorMessage;
+            return this;
+        }
+
+        /**
+         * Mark the endpoint as idempotent (GET endpoints are by default)
+         */
+        public Builder<T> idempotent(boolean idempotent) {
+            this.idempotent = idempotent;
+            return this;
+        }
+
+        /**
+         * Declare query parameters; their values follow the path parameters when calling the endpoint
+         */
+        public Builder<T> query(String... queryNames) {
+            this.queryNames = queryNames.clone();
+            return this;
+        }
+
+        public Endpoint<T> build() {
+            if (failureMessage == null || networkErrorMessage == null) {
+                throw new IllegalArgumentException("Failure and network error messages are required");
+            }
+            return new Endpoint<>(this);
+        }
+    }
+}
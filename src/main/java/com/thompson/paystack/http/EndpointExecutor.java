@@ -0,0 +1,860 @@
+package com.thompson.paystack.http;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.CircuitBreakerOpenException;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.exceptions.PaystackException;
+import com.thompson.paystack.exceptions.RateLimitExceededException;
+import com.thompson.paystack.metrics.PaystackMetrics;
+import com.thompson.paystack.models.request.ReferencedRequest;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.resilience.CircuitBreaker;
+import com.thompson.paystack.resilience.CircuitBreakerPolicy;
+import com.thompson.paystack.resilience.Hedger;
+import com.thompson.paystack.resilience.HedgingPolicy;
+import com.thompson.paystack.resilience.RateLimit;
+import com.thompson.paystack.resilience.RateLimiter;
+import com.thompson.paystack.resilience.RetryBudget;
+import com.thompson.paystack.resilience.RetryPolicy;
+import com.thompson.paystack.tracing.PaystackContext;
+import com.thompson.paystack.tracing.PaystackScope;
+import com.thompson.paystack.tracing.PaystackSpan;
+import com.thompson.paystack.tracing.PaystackTracer;
+import com.thompson.paystack.tracing.SpanAttributes;
+import com.thompson.paystack.utils.JsonUtils;
+import okhttp3.*;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes {@link Endpoint} calls against the Paystack API.
+ * <p>
+ * All services go through this class: it builds the request, runs it (blocking or via
+ * OkHttp {@code enqueue}), checks the endpoint's {@link CircuitBreaker}, takes a permit from the
+ * endpoint family's {@link RateLimiter}, retries it according to the endpoint's {@link RetryPolicy}
+ * (never once a response has been received and failed while being read),
+ * hedges GETs that have a {@link HedgingPolicy},
+ * parses the body with the endpoint's cached adapter and maps failures to
+ * {@link PaystackApiException} / {@link PaystackException}.
+ * Every attempt, decode and call is recorded into the configured {@link PaystackMetrics}, and
+ * traced with a span per call and a child span per attempt by the configured {@link PaystackTracer}.
+ */
+public class EndpointExecutor {
+    private static final Logger log = LoggerFactory.getLogger(EndpointExecutor.class);
+
+    private final OkHttpClient httpClient;
+    private final PaystackConfig config;
+    private final String authorizationHeader;
+    private final RetryBudget retryBudget;
+    private final RateLimiter[] rateLimiters;
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Hedger> hedgers = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final PaystackMetrics metrics;
+    private final PaystackTracer tracer;
+
+    public EndpointExecutor(OkHttpClient httpClient, PaystackConfig config) {
+        this.httpClient = httpClient;
+        this.config = config;
+        this.metrics = config.getMetrics();
+        this.tracer = config.getTracer();
+        this.authorizationHeader = config.getAuthorizationHeader();
+        this.retryBudget = new RetryBudget(config.getRetryBudgetTokens(), config.getRetryBudgetRatio());
+        this.rateLimiters = new RateLimiter[EndpointFamily.values().length];
+        for (EndpointFamily family : EndpointFamily.values()) {
+            RateLimit rateLimit = config.getRateLimit(family);
+            if (rateLimit != null) {
+                rateLimiters[family.ordinal()] = config.getRateLimiters().forKey(config.getSecretKey(), family.name(), rateLimit);
+            }
+        }
+    }
+
+    public PaystackConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get the rate limiter used for an endpoint family, e.g. to read its wait-time metrics
+     *
+     * @param family Endpoint family
+     * @return The limiter, or null if the family is not rate limited
+     */
+    public RateLimiter getRateLimiter(EndpointFamily family) {
+        return rateLimiters[family.ordinal()];
+    }
+
+    /**
+     * Get the circuit breaker of an endpoint, e.g. to read its state and failure rates
+     *
+     * @param pathTemplate Endpoint path template, e.g. {@code /transfer}
+     * @return The breaker, or null if the endpoint has no circuit breaker or has not been called yet
+     */
+    public CircuitBreaker getCircuitBreaker(String pathTemplate) {
+        return circuitBreakers.get(pathTemplate);
+    }
+
+    /**
+     * Number of calls started through this executor that have not completed yet
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Get the hedging state of an endpoint, e.g. to read its hedge win rate
+     *
+     * @param pathTemplate Endpoint path template, e.g. {@code /transaction/verify/{reference}}
+     * @return The hedger, or null if the endpoint is not hedged or has not been called yet
+     */
+    public Hedger getHedger(String pathTemplate) {
+        return hedgers.get(pathTemplate);
+    }
+
+    /**
+     * Call an endpoint and block until the response is parsed
+     *
+     * @param endpoint   Endpoint descriptor
+     * @param body       Request body to serialize as JSON, or null for GET requests
+     * @param pathParams Values for the endpoint's path placeholders, in order
+     * @return Parsed response
+     * @throws PaystackApiException if Paystack returns an error
+     * @throws PaystackException    if the call fails with a network error
+     * @throws CircuitBreakerOpenException if the endpoint's circuit breaker is open
+     */
+    public <T> PaystackResponse<T> execute(Endpoint<T> endpoint, Object body, String... pathParams) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        PaystackSpan span = startCallSpan(endpoint, body, pathParams);
+        try (PaystackScope scope = span.makeCurrent()) {
+            PaystackResponse<T> response = call(endpoint, span, body, pathParams);
+            metrics.recordCall(endpoint, System.nanoTime() - start, null);
+            return response;
+        } catch (RuntimeException e) {
+            metrics.recordCall(endpoint, System.nanoTime() - start, e);
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.end();
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private <T> PaystackResponse<T> call(Endpoint<T> endpoint, PaystackSpan span, Object body, String... pathParams) {
+        Hedger hedger = hedger(endpoint);
+        if (hedger != null) {
+            try {
+                return new HedgedCall<>(hedger, endpoint, span, null, body, pathParams).start().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new PaystackException(endpoint.getNetworkErrorMessage(), e.getCause());
+            }
+        }
+
+        Request request = newRequest(endpoint, body, pathParams);
+        RetryPolicy policy = retryPolicy(endpoint, body);
+        CircuitBreaker breaker = circuitBreaker(endpoint);
+        long delay = 0;
+
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = attempt >= policy.getMaxAttempts();
+            // An open circuit fails the call without spending rate limit budget on it
+            if (breaker != null && !breaker.tryAcquirePermission()) {
+                throw circuitOpen(endpoint);
+            }
+            try {
+                acquirePermit(endpoint);
+            } catch (RuntimeException e) {
+                releasePermission(breaker);
+                throw e;
+            }
+            PaystackSpan attemptSpan = startAttemptSpan(span, attempt, false);
+            long start = System.nanoTime();
+            boolean responded = false;
+            boolean outcomeRecorded = false;
+            try (Response response = httpClient.newCall(request).execute()) {
+                responded = true;
+                metrics.recordAttempt(endpoint, response.code(), System.nanoTime() - start);
+                recordStatus(span, attemptSpan, response.code());
+                recordOutcome(breaker, response, start);
+                outcomeRecorded = true;
+                if (!lastAttempt && (delay = retryDelay(policy, response, delay)) >= 0) {
+                    log.debug("{} returned {}, retrying in {} ms (attempt {})", endpoint, response.code(), delay, attempt);
+                } else {
+                    onCompleted(response);
+                    return decode(endpoint, response);
+                }
+            } catch (IOException e) {
+                if (!responded) {
+                    if (breaker != null) {
+                        breaker.onResult(System.nanoTime() - start, true);
+                    }
+                    metrics.recordAttempt(endpoint, 0, System.nanoTime() - start);
+                }
+                attemptSpan.recordError(e);
+                // A response that failed while being read was received: resending could repeat it
+                if (responded || lastAttempt || (delay = retryDelay(policy, delay)) < 0) {
+                    throw new PaystackException(endpoint.getNetworkErrorMessage(), e);
+                }
+                log.debug("{} failed with {}, retrying in {} ms (attempt {})", endpoint, e.toString(), delay, attempt);
+            } catch (RuntimeException e) {
+                // e.g. an interceptor or a metrics or tracing hook throwing: without a result the
+                // breaker's permission has to be handed back, or a half-open breaker never closes
+                if (!outcomeRecorded) {
+                    releasePermission(breaker);
+                }
+                attemptSpan.recordError(e);
+                throw e;
+            } finally {
+                attemptSpan.end();
+            }
+            sleep(delay);
+        }
+    }
+
+    /**
+     * Call an endpoint without blocking the calling thread.
+     * The returned future fails with the same exceptions {@link #execute} throws;
+     * cancelling it cancels the underlying call, including pending retries.
+     *
+     * @param endpoint   Endpoint descriptor
+     * @param body       Request body to serialize as JSON, or null for GET requests
+     * @param pathParams Values for the endpoint's path placeholders, in order
+     * @return Future completed with the parsed response
+     */
+    public <T> CompletableFuture<PaystackResponse<T>> executeAsync(Endpoint<T> endpoint, Object body, String... pathParams) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        PaystackContext callerContext = tracer.captureContext();
+        CallTracker tracker = new CallTracker(endpoint, startCallSpan(endpoint, body, pathParams), callerContext, start);
+        CompletableFuture<PaystackResponse<T>> future;
+        try {
+            future = callAsync(endpoint, tracker, body, pathParams);
+        } catch (RuntimeException e) {
+            tracker.finish(e);
+            throw e;
+        }
+        // Normally done before the future completes; this covers a caller cancelling it
+        future.whenComplete((response, error) -> tracker.finish(error));
+        return future;
+    }
+
+    private <T> CompletableFuture<PaystackResponse<T>> callAsync(Endpoint<T> endpoint, CallTracker tracker,
+                                                                 Object body, String... pathParams) {
+        Hedger hedger = hedger(endpoint);
+        if (hedger != null) {
+            return new HedgedCall<>(hedger, endpoint, tracker.span, tracker, body, pathParams).start();
+        }
+        return executeOnce(endpoint, tracker.span, false, tracker, body, pathParams);
+    }
+
+    /**
+     * @param tracker Tracker of the call to finish when this request completes it, or null for a
+     *                request of a hedged call
+     */
+    private <T> CompletableFuture<PaystackResponse<T>> executeOnce(Endpoint<T> endpoint, PaystackSpan span, boolean hedge,
+                                                                   CallTracker tracker, Object body, String... pathParams) {
+        AsyncCall<T> asyncCall = new AsyncCall<>(endpoint, span, hedge, tracker, newRequest(endpoint, body, pathParams),
+                retryPolicy(endpoint, body), circuitBreaker(endpoint));
+        asyncCall.start();
+        return asyncCall.future;
+    }
+
+    /**
+     * Bookkeeping of one async call: the in-flight count, the call metrics and the call span.
+     * It is done once, before the call's future completes, so continuations the caller chains on the
+     * future (which run first) and code after {@code join()} see the call finished, and the
+     * recorded duration does not include them.
+     */
+    private final class CallTracker {
+        private final Endpoint<?> endpoint;
+        private final PaystackSpan span;
+        private final PaystackContext callerContext;
+        private final long start;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        CallTracker(Endpoint<?> endpoint, PaystackSpan span, PaystackContext callerContext, long start) {
+            this.endpoint = endpoint;
+            this.span = span;
+            this.callerContext = callerContext;
+            this.start = start;
+        }
+
+        /**
+         * Finish the call, then complete its future with the caller's context current, so that
+         * continuations chained on it, which may run on this thread, are traced as the caller's
+         */
+        <R> void complete(CompletableFuture<R> future, R response, Throwable error) {
+            finish(error);
+            try (PaystackScope scope = callerContext.makeCurrent()) {
+                if (error == null) {
+                    future.complete(response);
+                } else {
+                    future.completeExceptionally(error);
+                }
+            }
+        }
+
+        void finish(Throwable error) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            inFlight.decrementAndGet();
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            metrics.recordCall(endpoint, System.nanoTime() - start, cause);
+            if (cause != null) {
+                span.recordError(cause);
+            }
+            span.end();
+        }
+    }
+
+    /**
+     * A hedged call: the first request is sent right away and, if it has not completed after the
+     * hedge delay and the budget allows, an identical second request is sent. The first success
+     * completes the call and cancels the other request; the call only fails when every request
+     * that was sent has failed.
+     */
+    private class HedgedCall<T> {
+        private final Hedger hedger;
+        private final Endpoint<T> endpoint;
+        private final PaystackSpan span;
+        private final CallTracker tracker;
+        private final Object body;
+        private final String[] pathParams;
+        private final CompletableFuture<PaystackResponse<T>> result = new CompletableFuture<>();
+        private final AtomicInteger outstanding = new AtomicInteger(1);
+        private final AtomicBoolean won = new AtomicBoolean();
+        private volatile CompletableFuture<PaystackResponse<T>> primary;
+        private volatile CompletableFuture<PaystackResponse<T>> hedge;
+
+        /**
+         * @param tracker Tracker to finish before completing, or null for a blocking call
+         */
+        HedgedCall(Hedger hedger, Endpoint<T> endpoint, PaystackSpan span, CallTracker tracker, Object body,
+                   String[] pathParams) {
+            this.hedger = hedger;
+            this.endpoint = endpoint;
+            this.span = span;
+            this.tracker = tracker;
+            this.body = body;
+            this.pathParams = pathParams;
+            result.whenComplete((response, error) -> {
+                cancel(primary);
+                cancel(hedge);
+            });
+        }
+
+        CompletableFuture<PaystackResponse<T>> start() {
+            hedger.onCall();
+            primary = send(false);
+            if (!result.isDone()) {
+                CompletableFuture.delayedExecutor(hedger.hedgeDelayNanos(), TimeUnit.NANOSECONDS)
+                        .execute(this::sendHedge);
+            }
+            return result;
+        }
+
+        private void sendHedge() {
+            if (result.isDone() || !hedger.tryHedge()) {
+                return;
+            }
+            outstanding.incrementAndGet();
+            log.debug("{} still pending, sending hedge", endpoint);
+            hedge = send(true);
+            if (result.isDone()) {
+                cancel(hedge);
+            }
+        }
+
+        private CompletableFuture<PaystackResponse<T>> send(boolean isHedge) {
+            long start = System.nanoTime();
+            CompletableFuture<PaystackResponse<T>> request =
+                    executeOnce(endpoint, span, isHedge, null, body, pathParams);
+            request.whenComplete((response, error) -> {
+                // The delay is the first request's latency percentile, whoever wins: a first request
+                // cancelled because the hedge won took at least until now, so leaving it out would
+                // skew the percentile towards fast requests and fire hedges earlier and earlier
+                if (!isHedge && (error == null || request.isCancelled())) {
+                    hedger.recordLatency(System.nanoTime() - start);
+                }
+                if (error == null) {
+                    if (!result.isDone() && won.compareAndSet(false, true)) {
+                        // Counted before completing, so the caller sees it once the call returns
+                        if (isHedge) {
+                            hedger.onHedgeWin();
+                        }
+                        complete(response, null);
+                    }
+                } else if (outstanding.decrementAndGet() == 0) {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    complete(null, cause);
+                }
+            });
+            return request;
+        }
+
+        private void complete(PaystackResponse<T> response, Throwable error) {
+            if (tracker != null) {
+                tracker.complete(result, response, error);
+            } else if (error == null) {
+                result.complete(response);
+            } else {
+                result.completeExceptionally(error);
+            }
+        }
+
+        private void cancel(CompletableFuture<PaystackResponse<T>> request) {
+            if (request != null && !request.isDone()) {
+                request.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * One async call and its retries. Each attempt is enqueued on the OkHttp dispatcher;
+     * retries are scheduled with a delayed executor so no thread waits between attempts.
+     */
+    private class AsyncCall<T> implements Callback {
+        private final Endpoint<T> endpoint;
+        private final PaystackSpan span;
+        private final boolean hedge;
+        private final CallTracker tracker;
+        private final Request request;
+        private final RetryPolicy policy;
+        private final CircuitBreaker breaker;
+        private final CompletableFuture<PaystackResponse<T>> future = new CompletableFuture<>();
+        private volatile Call call;
+        private volatile int attempt;
+        private volatile long delay;
+        private volatile long start;
+        private volatile PaystackSpan attemptSpan;
+
+        AsyncCall(Endpoint<T> endpoint, PaystackSpan span, boolean hedge, CallTracker tracker, Request request,
+                  RetryPolicy policy, CircuitBreaker breaker) {
+            this.endpoint = endpoint;
+            this.span = span;
+            this.hedge = hedge;
+            this.tracker = tracker;
+            this.request = request;
+            this.policy = policy;
+            this.breaker = breaker;
+            future.whenComplete((result, error) -> {
+                Call current = call;
+                if (future.isCancelled() && current != null) {
+                    current.cancel();
+                }
+            });
+        }
+
+        /**
+         * Start an attempt: check the circuit breaker, then wait for a rate limit permit, so an
+         * open circuit fails the call without spending rate limit budget on it
+         */
+        void start() {
+            if (future.isDone()) {
+                return;
+            }
+            if (breaker != null && !breaker.tryAcquirePermission()) {
+                complete(null, circuitOpen(endpoint));
+                return;
+            }
+            RateLimiter limiter = rateLimiters[endpoint.getFamily().ordinal()];
+            if (limiter == null) {
+                send();
+                return;
+            }
+            Duration timeout = config.getRateLimitTimeout();
+            if (timeout == null) {
+                limiter.acquireAsync().thenRun(this::send);
+                return;
+            }
+            limiter.tryAcquireAsync(timeout).thenAccept(acquired -> {
+                if (acquired) {
+                    send();
+                } else {
+                    releasePermission();
+                    complete(null, rateLimitExceeded(endpoint, timeout));
+                }
+            });
+        }
+
+        private void send() {
+            if (future.isDone()) {
+                releasePermission();
+                return;
+            }
+            attempt++;
+            attemptSpan = startAttemptSpan(span, attempt, hedge);
+            start = System.nanoTime();
+            call = httpClient.newCall(request);
+            call.enqueue(this);
+        }
+
+        /**
+         * Give back the breaker permission of an attempt that has no result to record
+         */
+        private void releasePermission() {
+            if (breaker != null) {
+                breaker.releasePermission();
+            }
+        }
+
+        private void retryLater() {
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(this::start);
+        }
+
+        private boolean lastAttempt() {
+            return attempt >= policy.getMaxAttempts() || future.isDone();
+        }
+
+        /**
+         * Complete the call; a request of a hedged call just completes its own future, which the
+         * hedged call completes the call from
+         */
+        private void complete(PaystackResponse<T> response, Throwable error) {
+            if (tracker != null) {
+                tracker.complete(future, response, error);
+            } else if (error == null) {
+                future.complete(response);
+            } else {
+                future.completeExceptionally(error);
+            }
+        }
+
+        @Override
+        public void onFailure(@NotNull Call call, @NotNull IOException e) {
+            // Read before a retry is scheduled, which starts the next attempt's span
+            PaystackSpan attemptSpan = this.attemptSpan;
+            if (breaker != null) {
+                if (future.isCancelled()) {
+                    breaker.releasePermission();
+                } else {
+                    breaker.onResult(System.nanoTime() - start, true);
+                }
+            }
+            metrics.recordAttempt(endpoint, 0, System.nanoTime() - start);
+            attemptSpan.recordError(e);
+            attemptSpan.end();
+            if (lastAttempt() || (delay = retryDelay(policy, delay)) < 0) {
+                complete(null, new PaystackException(endpoint.getNetworkErrorMessage(), e));
+                return;
+            }
+            log.debug("{} failed with {}, retrying in {} ms (attempt {})", endpoint, e.toString(), delay, attempt);
+            retryLater();
+        }
+
+        @Override
+        public void onResponse(@NotNull Call call, @NotNull Response response) {
+            PaystackSpan attemptSpan = this.attemptSpan;
+            PaystackResponse<T> result = null;
+            Throwable error = null;
+            boolean outcomeRecorded = false;
+            try (response) {
+                metrics.recordAttempt(endpoint, response.code(), System.nanoTime() - start);
+                recordStatus(span, attemptSpan, response.code());
+                recordOutcome(breaker, response, start);
+                outcomeRecorded = true;
+                if (!lastAttempt() && (delay = retryDelay(policy, response, delay)) >= 0) {
+                    log.debug("{} returned {}, retrying in {} ms (attempt {})", endpoint, response.code(), delay, attempt);
+                    attemptSpan.end();
+                    retryLater();
+                    return;
+                }
+                onCompleted(response);
+                result = decode(endpoint, response);
+            } catch (IOException e) {
+                error = new PaystackException(endpoint.getNetworkErrorMessage(), e);
+            } catch (RuntimeException e) {
+                if (!outcomeRecorded) {
+                    releasePermission();
+                }
+                error = e;
+            }
+            attemptSpan.end();
+            complete(result, error);
+        }
+    }
+
+    /**
+     * Start the span of a call, with the endpoint and, if the call has one, the reference
+     */
+    private PaystackSpan startCallSpan(Endpoint<?> endpoint, Object body, String[] pathParams) {
+        PaystackSpan span = tracer.startSpan(endpoint.toString(), null)
+                .setAttribute(SpanAttributes.ENDPOINT, endpoint.toString())
+                .setAttribute(SpanAttributes.HTTP_METHOD, endpoint.getMethod());
+        String reference = null;
+        if (body instanceof ReferencedRequest) {
+            reference = ((ReferencedRequest) body).getReference();
+        } else if (endpoint.getReferenceParameter() >= 0 && endpoint.getReferenceParameter() < pathParams.length) {
+            reference = pathParams[endpoint.getReferenceParameter()];
+        }
+        if (reference != null) {
+            span.setAttribute(SpanAttributes.REFERENCE, reference);
+        }
+        return span;
+    }
+
+    private PaystackSpan startAttemptSpan(PaystackSpan callSpan, int attempt, boolean hedge) {
+        callSpan.setAttribute(SpanAttributes.ATTEMPT, attempt);
+        return tracer.startSpan(SpanAttributes.ATTEMPT_SPAN, callSpan)
+                .setAttribute(SpanAttributes.ATTEMPT, attempt)
+                .setAttribute(SpanAttributes.HEDGE, hedge);
+    }
+
+    private static void recordStatus(PaystackSpan callSpan, PaystackSpan attemptSpan, int statusCode) {
+        attemptSpan.setAttribute(SpanAttributes.STATUS_CODE, statusCode);
+        callSpan.setAttribute(SpanAttributes.STATUS_CODE, statusCode);
+    }
+
+    /**
+     * Get or create the endpoint's circuit breaker, or null if it has none
+     */
+    private CircuitBreaker circuitBreaker(Endpoint<?> endpoint) {
+        CircuitBreaker breaker = circuitBreakers.get(endpoint.getPathTemplate());
+        if (breaker != null) {
+            return breaker;
+        }
+        CircuitBreakerPolicy policy = config.getCircuitBreakerPolicy(endpoint.getPathTemplate());
+        if (policy == null) {
+            return null;
+        }
+        return circuitBreakers.computeIfAbsent(endpoint.getPathTemplate(),
+                pathTemplate -> new CircuitBreaker(endpoint.toString(), policy));
+    }
+
+    /**
+     * Get or create the endpoint's hedger, or null if the endpoint is not hedged.
+     * Only GET endpoints are hedged, since sending the request twice must be harmless.
+     */
+    private Hedger hedger(Endpoint<?> endpoint) {
+        Hedger hedger = hedgers.get(endpoint.getPathTemplate());
+        if (hedger != null) {
+            return hedger;
+        }
+        HedgingPolicy policy = config.getHedgingPolicy(endpoint.getPathTemplate());
+        if (policy == null || !"GET".equals(endpoint.getMethod())) {
+            return null;
+        }
+        return hedgers.computeIfAbsent(endpoint.getPathTemplate(), pathTemplate -> new Hedger(policy));
+    }
+
+    /**
+     * Record a response with the circuit breaker: 5xx counts as a failure, anything else
+     * (including 4xx validation errors) means the endpoint is healthy
+     */
+    private static void recordOutcome(CircuitBreaker breaker, Response response, long start) {
+        if (breaker != null) {
+            breaker.onResult(System.nanoTime() - start, response.code() >= 500);
+        }
+    }
+
+    /**
+     * Give back a breaker permission that no result will be recorded for
+     */
+    private static void releasePermission(CircuitBreaker breaker) {
+        if (breaker != null) {
+            breaker.releasePermission();
+        }
+    }
+
+    private static CircuitBreakerOpenException circuitOpen(Endpoint<?> endpoint) {
+        return new CircuitBreakerOpenException("Circuit breaker for " + endpoint + " is open");
+    }
+
+    /**
+     * Block until the endpoint family's rate limiter hands out a permit
+     */
+    private void acquirePermit(Endpoint<?> endpoint) {
+        RateLimiter limiter = rateLimiters[endpoint.getFamily().ordinal()];
+        if (limiter == null) {
+            return;
+        }
+        Duration timeout = config.getRateLimitTimeout();
+        try {
+            if (timeout == null) {
+                limiter.acquire();
+            } else if (!limiter.tryAcquire(timeout)) {
+                throw rateLimitExceeded(endpoint, timeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaystackException("Interrupted while waiting for a rate limit permit", e);
+        }
+    }
+
+    private static RateLimitExceededException rateLimitExceeded(Endpoint<?> endpoint, Duration timeout) {
+        return new RateLimitExceededException("No rate limit permit for " + endpoint
+                + " within " + timeout.toMillis() + " ms");
+    }
+
+    /**
+     * Resolve the policy for a call, applying the safety rules: idempotent endpoints use their
+     * policy as configured, other endpoints only retry when the request has a stable reference.
+     */
+    private RetryPolicy retryPolicy(Endpoint<?> endpoint, Object body) {
+        RetryPolicy policy = config.getRetryPolicy(endpoint.getPathTemplate());
+        if (policy.getMaxAttempts() <= 1 || endpoint.isIdempotent()) {
+            return policy;
+        }
+        if (body instanceof ReferencedRequest) {
+            String reference = ((ReferencedRequest) body).getReference();
+            if (reference != null && !reference.trim().isEmpty()) {
+                return policy;
+            }
+        }
+        return RetryPolicy.none();
+    }
+
+    /**
+     * Delay before retrying a response, or -1 if it should not be retried
+     */
+    private long retryDelay(RetryPolicy policy, Response response, long previousDelay) {
+        if (!policy.isRetryableStatus(response.code()) || !retryBudget.onFailure()) {
+            return -1;
+        }
+        long retryAfter = response.code() == 429 || response.code() == 503
+                ? parseRetryAfter(response.header("Retry-After"))
+                : -1;
+        return policy.nextDelayMillis(previousDelay, retryAfter);
+    }
+
+    /**
+     * Delay before retrying a network error, or -1 if it should not be retried
+     */
+    private long retryDelay(RetryPolicy policy, long previousDelay) {
+        if (!policy.isRetryOnNetworkError() || !retryBudget.onFailure()) {
+            return -1;
+        }
+        return policy.nextDelayMillis(previousDelay, -1);
+    }
+
+    private void onCompleted(Response response) {
+        if (response.code() < 500 && response.code() != 429) {
+            retryBudget.onSuccess();
+        }
+    }
+
+    /**
+     * Parse a Retry-After header given either as delta-seconds or as an HTTP date
+     *
+     * @return Delay in milliseconds, or -1 if the header is absent or invalid
+     */
+    static long parseRetryAfter(String value) {
+        if (value == null || value.isEmpty()) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException ignored) {
+            // not delta-seconds, try an HTTP date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaystackException("Interrupted while waiting to retry", e);
+        }
+    }
+
+    private Request newRequest(Endpoint<?> endpoint, Object body, String... pathParams) {
+        Request.Builder builder = new Request.Builder()
+                .url(endpoint.url(config.getBaseUrl(), pathParams))
+                .header("Authorization", authorizationHeader)
+                .tag(Endpoint.class, endpoint);
+
+        if (body == null) {
+            return builder.method(endpoint.getMethod(), null).build();
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("{} request: {}", endpoint, JsonUtils.toJson(body));
+        }
+        return builder
+                .method(endpoint.getMethod(), new JsonRequestBody(JsonUtils.getGson(), body))
+                .build();
+    }
+
+    /**
+     * Decode a final response, recording the time spent as decode time
+     */
+    private <T> PaystackResponse<T> decode(Endpoint<T> endpoint, Response response) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return handle(endpoint, response);
+        } catch (JsonIOException e) {
+            // Gson wraps I/O errors of some adapters, e.g. a body cut off while streaming in
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new PaystackException(endpoint.getFailureMessage() + ": unreadable response body", e);
+        } catch (JsonParseException e) {
+            throw new PaystackException(endpoint.getFailureMessage() + ": malformed response body", e);
+        } finally {
+            metrics.recordDecode(endpoint, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Decode a response. Successful bodies are streamed from the socket straight into the
+     * response object through a {@link JsonReader}; the raw body is only read into a String
+     * when it has to be attached to a {@link PaystackApiException}.
+     */
+    private <T> PaystackResponse<T> handle(Endpoint<T> endpoint, Response response) throws IOException {
+        ResponseBody body = response.body();
+
+        if (!response.isSuccessful()) {
+            throw new PaystackApiException(
+                    endpoint.getFailureMessage() + ": " + response.message(),
+                    response.code(),
+                    body.string()
+            );
+        }
+
+        JsonReader reader = new JsonReader(body.charStream());
+        reader.setLenient(true);
+        PaystackResponse<T> paystackResponse = endpoint.getAdapter().read(reader);
+
+        if (paystackResponse == null) {
+            throw new PaystackApiException(endpoint.getFailureMessage() + ": empty response body", response.code(), "");
+        }
+
+        if (!paystackResponse.isStatus()) {
+            // The body has already been consumed; report the parsed response instead of the raw bytes
+            throw new PaystackApiException(
+                    "API returned error: " + paystackResponse.getMessage(),
+                    response.code(),
+                    JsonUtils.toJson(paystackResponse)
+            );
+        }
+
+        return paystackResponse;
+    }
+}
@@ -0,0 +1,33 @@
+package com.thompson.paystack.http;
+
+/**
+ * Groups of Paystack endpoints that share client-side limits (e.g. rate limiter buckets)
+ */
+public enum EndpointFamily {
+    TRANSACTIONS("/transaction"),
+    TRANSFERS("/transfer"),
+    SUBACCOUNTS("/subaccount"),
+    OTHER("");
+
+    private final String pathPrefix;
+
+    EndpointFamily(String pathPrefix) {
+        this.pathPrefix = pathPrefix;
+    }
+
+    /**
+     * Resolve the family of an endpoint from its path template
+     * ({@code /transferrecipient} belongs to TRANSFERS)
+     *
+     * @param pathTemplate Endpoint path template
+     * @return Matching family, or OTHER
+     */
+    public static EndpointFamily fromPath(String pathTemplate) {
+        for (EndpointFamily family : values()) {
+            if (family != OTHER && pathTemplate.startsWith(family.pathPrefix)) {
+                return family;
+            }
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,59 @@
+package com.thompson.paystack.http;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request body that serializes a model with Gson into an Okio buffer.
+ * <p>
+ * Unlike {@code RequestBody.create(Gson.toJson(model), JSON)} no intermediate JSON String or
+ * UTF-8 byte[] of the whole payload is built: the JSON is encoded straight into pooled Okio
+ * segments. Encoding up front gives the body a known length, so requests carry a
+ * {@code Content-Length} instead of being chunked. Writing the body hands those segments to the
+ * sink without copying the bytes and without flushing, so it leaves the socket together with the
+ * rest of the request; it can be written more than once (e.g. on retry).
+ */
+final class JsonRequestBody extends RequestBody {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final Buffer json = new Buffer();
+
+    JsonRequestBody(Gson gson, Object model) {
+        try {
+            Writer writer = new OutputStreamWriter(json.outputStream(), StandardCharsets.UTF_8);
+            JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            gson.toJson(model, model.getClass(), jsonWriter);
+            jsonWriter.flush();
+        } catch (IOException e) {
+            // Writing to a Buffer does not fail
+            throw new JsonIOException(e);
+        }
+    }
+
+    @Override
+    public MediaType contentType() {
+        return JSON;
+    }
+
+    @Override
+    public long contentLength() {
+        return json.size();
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException {
+        json.copyTo(sink.getBuffer(), 0, json.size());
+        sink.emitCompleteSegments();
+    }
+}
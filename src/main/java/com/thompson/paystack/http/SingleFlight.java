@@ -0,0 +1,197 @@
+package com.thompson.paystack.http;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one in-flight call.
+ * <p>
+ * The first caller for a key runs the call; callers arriving while it is in flight get the same
+ * result (or exception) instead of starting their own. Once the call completes the key is
+ * released, so later callers start a fresh call; nothing is cached. Sync and async callers share
+ * the same in-flight calls.
+ * <p>
+ * All callers receive the same result object, so it should be treated as read-only.
+ *
+ * @param <K> Key type, e.g. a reference
+ * @param <V> Result type
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Run a blocking call, or wait for the one already in flight for the key
+     *
+     * @param key  Key identifying the call
+     * @param call Call to run if none is in flight
+     * @return Result of the shared call
+     */
+    public V execute(K key, Supplier<V> call) {
+        Flight<V> flight = new Flight<>();
+        Flight<V> existing = join(key, flight);
+        if (existing != null) {
+            try {
+                return existing.promise.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        V result;
+        try {
+            result = call.get();
+        } catch (Throwable e) {
+            finish(key, flight, null, e);
+            throw e;
+        }
+        finish(key, flight, result, null);
+        return result;
+    }
+
+    /**
+     * Start an async call, or share the one already in flight for the key.
+     * <p>
+     * Each caller gets its own future. Cancelling it only detaches that caller, unless it is the
+     * last one waiting: then the shared call is cancelled too (so the future returned by the call
+     * should pass cancellation on to the request). Blocking callers sharing the call keep it alive.
+     *
+     * @param key  Key identifying the call
+     * @param call Call to start if none is in flight
+     * @return Future completed with the result of the shared call
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        Flight<V> flight = new Flight<>();
+        Flight<V> existing = join(key, flight);
+        if (existing != null) {
+            return existing.waiter();
+        }
+        CompletableFuture<V> waiter = flight.waiter();
+        CompletableFuture<V> future;
+        try {
+            future = call.get();
+        } catch (Throwable e) {
+            finish(key, flight, null, e);
+            return waiter;
+        }
+        flight.call = future;
+        if (flight.abandoned) {
+            future.cancel(true);
+        }
+        future.whenComplete((result, error) -> finish(key, flight,
+                result, error instanceof CompletionException ? error.getCause() : error));
+        return waiter;
+    }
+
+    /**
+     * Register the flight as the call in flight for the key, or join the one already there
+     *
+     * @return The call already in flight, or null if the caller has to run the call
+     */
+    private Flight<V> join(K key, Flight<V> flight) {
+        calls.increment();
+        Flight<V> joined = inFlight.compute(key, (k, existing) ->
+                existing != null && existing.enter() ? existing : flight);
+        if (joined == flight) {
+            return null;
+        }
+        coalesced.increment();
+        return joined;
+    }
+
+    /**
+     * Release the key, then hand the outcome to everyone waiting
+     */
+    private void finish(K key, Flight<V> flight, V result, Throwable error) {
+        inFlight.remove(key, flight);
+        if (error != null) {
+            flight.promise.completeExceptionally(error);
+        } else {
+            flight.promise.complete(result);
+        }
+    }
+
+    /**
+     * Number of calls made through this instance
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Number of calls that shared an in-flight call instead of making their own
+     */
+    public long getCoalescedCalls() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Number of distinct calls currently in flight
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * One shared call and the number of callers still waiting for it
+     */
+    private static final class Flight<R> {
+        private final CompletableFuture<R> promise = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger(1);
+        private volatile CompletableFuture<R> call;
+        private volatile boolean abandoned;
+
+        /**
+         * Add a waiter, unless every waiter has already left and the call is being cancelled
+         */
+        boolean enter() {
+            int count;
+            do {
+                count = waiters.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!waiters.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        /**
+         * Future for one async waiter; cancelling it leaves the flight
+         */
+        CompletableFuture<R> waiter() {
+            CompletableFuture<R> waiter = new CompletableFuture<>();
+            promise.whenComplete((result, error) -> {
+                if (error != null) {
+                    waiter.completeExceptionally(error);
+                } else {
+                    waiter.complete(result);
+                }
+            });
+            waiter.whenComplete((result, error) -> {
+                if (waiter.isCancelled() && waiters.decrementAndGet() == 0) {
+                    abandon();
+                }
+            });
+            return waiter;
+        }
+
+        /**
+         * Nobody is waiting any more: cancel the call (or have the leader cancel it once started)
+         */
+        private void abandon() {
+            abandoned = true;
+            CompletableFuture<R> started = call;
+            if (started != null) {
+                started.cancel(true);
+            }
+        }
+    }
+}
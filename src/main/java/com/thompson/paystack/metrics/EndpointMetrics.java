@@ -0,0 +1,133 @@
+package com.thompson.paystack.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of one endpoint, kept by {@link InMemoryMetrics}
+ */
+public class EndpointMetrics {
+    private static final int STATUS_CODES = 600;
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+    private final AtomicLongArray statusCodes = new AtomicLongArray(STATUS_CODES);
+    private final ConcurrentMap<Class<? extends Throwable>, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LatencyHistogram callLatency = new LatencyHistogram();
+    private final LatencyHistogram networkLatency = new LatencyHistogram();
+    private final LatencyHistogram decodeLatency = new LatencyHistogram();
+
+    EndpointMetrics(String name) {
+        this.name = name;
+    }
+
+    void recordAttempt(int statusCode, long networkNanos) {
+        statusCodes.incrementAndGet(statusCode > 0 && statusCode < STATUS_CODES ? statusCode : 0);
+        networkLatency.record(networkNanos);
+    }
+
+    void recordDecode(long decodeNanos) {
+        decodeLatency.record(decodeNanos);
+    }
+
+    void recordCall(long nanos, Throwable error) {
+        calls.increment();
+        callLatency.record(nanos);
+        if (error != null) {
+            failedCalls.increment();
+            LongAdder count = errors.get(error.getClass());
+            if (count == null) {
+                // Only the first error of each class allocates
+                count = errors.computeIfAbsent(error.getClass(), type -> new LongAdder());
+            }
+            count.increment();
+        }
+    }
+
+    /**
+     * Endpoint name, e.g. {@code GET /transaction/verify/{reference}}
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Number of completed calls
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Number of calls that ended with an exception
+     */
+    public long getFailedCalls() {
+        return failedCalls.sum();
+    }
+
+    /**
+     * Number of attempts answered with a status code
+     *
+     * @param statusCode HTTP status code, or 0 for attempts without a response
+     */
+    public long getStatusCount(int statusCode) {
+        return statusCode >= 0 && statusCode < STATUS_CODES ? statusCodes.get(statusCode) : 0;
+    }
+
+    /**
+     * Attempts per status code seen, 0 standing for attempts without a response
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        for (int code = 0; code < STATUS_CODES; code++) {
+            long count = statusCodes.get(code);
+            if (count > 0) {
+                counts.put(code, count);
+            }
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Failed calls per exception class
+     */
+    public Map<Class<? extends Throwable>, Long> getErrorCounts() {
+        Map<Class<? extends Throwable>, Long> counts = new HashMap<>();
+        errors.forEach((type, count) -> counts.put(type, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Duration of whole calls, including rate limit waits, retries and decoding
+     */
+    public LatencyHistogram getCallLatency() {
+        return callLatency;
+    }
+
+    /**
+     * Duration of HTTP attempts, up to the response headers
+     */
+    public LatencyHistogram getNetworkLatency() {
+        return networkLatency;
+    }
+
+    /**
+     * Time spent reading and decoding response bodies
+     */
+    public LatencyHistogram getDecodeLatency() {
+        return decodeLatency;
+    }
+
+    @Override
+    public String toString() {
+        return name + ": calls=" + getCalls() + ", failed=" + getFailedCalls() + ", status=" + getStatusCounts()
+                + ", network=[" + networkLatency + "], decode=[" + decodeLatency + "]";
+    }
+}
@@ -0,0 +1,115 @@
+package com.thompson.paystack.metrics;
+
+import com.thompson.paystack.http.Endpoint;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Default {@link PaystackMetrics}: per-endpoint call and status counts, error classes and
+ * latency histograms for whole calls, network time and decode time, kept in memory. Across
+ * endpoints, it keeps the time spent in each network phase, connection reuse and a log of the
+ * latest slow calls (see {@link #getNetwork()}).
+ * <p>
+ * Recording is lock-free and, once an endpoint has been called, does not allocate, so it is
+ * cheap enough to leave on in production. Read the numbers with {@link #endpoint(String)} or
+ * {@link #getEndpoints()}, e.g. from a scheduled exporter.
+ * <pre>
+ * InMemoryMetrics metrics = (InMemoryMetrics) client.metrics();
+ * LatencyHistogram verify = metrics.endpoint("GET /transaction/verify/{reference}").getNetworkLatency();
+ * long p99 = verify.getValueAtPercentile(99, TimeUnit.MILLISECONDS);
+ * </pre>
+ */
+public class InMemoryMetrics implements PaystackMetrics {
+    /**
+     * Calls taking at least this long are kept in the slow call log by default
+     */
+    public static final Duration DEFAULT_SLOW_CALL_THRESHOLD = Duration.ofSeconds(1);
+    /**
+     * Slow calls kept by default
+     */
+    public static final int DEFAULT_SLOW_CALL_CAPACITY = 64;
+
+    private final ConcurrentMap<Endpoint<?>, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final NetworkMetrics network;
+
+    public InMemoryMetrics() {
+        this(DEFAULT_SLOW_CALL_THRESHOLD, DEFAULT_SLOW_CALL_CAPACITY);
+    }
+
+    /**
+     * @param slowCallThreshold HTTP calls taking at least this long are kept in the slow call log
+     * @param slowCallCapacity  Number of slow calls kept
+     */
+    public InMemoryMetrics(Duration slowCallThreshold, int slowCallCapacity) {
+        this.network = new NetworkMetrics(new SlowCallLog(slowCallThreshold, slowCallCapacity));
+    }
+
+    @Override
+    public void recordAttempt(Endpoint<?> endpoint, int statusCode, long networkNanos) {
+        metrics(endpoint).recordAttempt(statusCode, networkNanos);
+    }
+
+    @Override
+    public void recordDecode(Endpoint<?> endpoint, long decodeNanos) {
+        metrics(endpoint).recordDecode(decodeNanos);
+    }
+
+    @Override
+    public void recordCall(Endpoint<?> endpoint, long nanos, Throwable error) {
+        metrics(endpoint).recordCall(nanos, error);
+    }
+
+    @Override
+    public void recordNetworkTimings(NetworkTimings timings) {
+        network.record(timings);
+    }
+
+    /**
+     * Metrics of an endpoint
+     *
+     * @param name Endpoint name, i.e. method and path template: {@code GET /transaction/verify/{reference}}
+     * @return The metrics, or null if the endpoint has not been called
+     */
+    public EndpointMetrics endpoint(String name) {
+        for (EndpointMetrics metrics : endpoints.values()) {
+            if (metrics.getName().equals(name)) {
+                return metrics;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Metrics of all endpoints called so far, by name
+     */
+    public Map<String, EndpointMetrics> getEndpoints() {
+        Map<String, EndpointMetrics> byName = new TreeMap<>();
+        for (EndpointMetrics metrics : endpoints.values()) {
+            byName.put(metrics.getName(), metrics);
+        }
+        return Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Network phase latencies, connection reuse and slow calls of all endpoints
+     */
+    public NetworkMetrics getNetwork() {
+        return network;
+    }
+
+    /**
+     * Endpoints are keyed by identity; their descriptors are static, so the map stays small
+     */
+    private EndpointMetrics metrics(Endpoint<?> endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        if (metrics == null) {
+            metrics = endpoints.computeIfAbsent(endpoint, key -> new EndpointMetrics(key.toString()));
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,136 @@
+package com.thompson.paystack.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, in the style of HdrHistogram.
+ * <p>
+ * Values are bucketed by their highest bit and, within each power of two, into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so any recorded value is reported within
+ * 1/{@value #SUB_BUCKETS} (about 3%) of its true value, from nanoseconds up to the
+ * {@value #MAX_BITS}-bit maximum (about 18 minutes). Recording is a couple of bit operations and
+ * atomic increments: no locks and no allocation. Readers see the counts as they are while calls
+ * keep recording, so a percentile read during a burst may be off by the values recorded meanwhile.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_BITS = 40;
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+    private static final int BUCKETS = bucketIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a latency
+     *
+     * @param nanos Latency in nanoseconds; negative values count as 0, values above the maximum as the maximum
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        counts.incrementAndGet(bucketIndex(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // Another thread raised the max; check again
+        }
+    }
+
+    /**
+     * Number of recorded values
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Largest recorded value in nanoseconds (exact), or 0 if none
+     */
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Mean of the recorded values in nanoseconds (exact), or 0 if none
+     */
+    public double getMeanNanos() {
+        long values = count.get();
+        return values == 0 ? 0 : (double) total.get() / values;
+    }
+
+    /**
+     * Value below which the given share of the recorded values fall
+     *
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return Upper bound of the bucket holding the percentile, in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long values = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            values += counts.get(i);
+        }
+        if (values == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * values));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Value at a percentile in the given unit
+     *
+     * @see #getValueAtPercentile(double)
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit unit) {
+        return unit.convert(getValueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.1fus, p50=%dus, p99=%dus, p99.9=%dus, max=%dus",
+                getCount(), getMeanNanos() / 1000, getValueAtPercentile(50, TimeUnit.MICROSECONDS),
+                getValueAtPercentile(99, TimeUnit.MICROSECONDS), getValueAtPercentile(99.9, TimeUnit.MICROSECONDS),
+                TimeUnit.NANOSECONDS.toMicros(getMaxNanos()));
+    }
+
+    /**
+     * Values below 2 * SUB_BUCKETS get a bucket each. Above, a value whose highest bit is b is
+     * shifted right by b - SUB_BUCKET_BITS, leaving SUB_BUCKETS..2*SUB_BUCKETS-1, and offset by
+     * SUB_BUCKETS per shift so the ranges of consecutive powers of two follow each other.
+     */
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * Largest value that falls into a bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (index - shift * SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,238 @@
+package com.thompson.paystack.metrics;
+
+import com.thompson.paystack.http.Endpoint;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * OkHttp event listener timing the phases of a call (queueing, DNS, TCP connect, TLS handshake,
+ * request, server time, response) and whether its connection was reused, and handing them to
+ * {@link PaystackMetrics#recordNetworkTimings} when the call ends.
+ * <p>
+ * {@link com.thompson.paystack.client.PaystackClient} installs it in the HTTP clients it builds.
+ * To get the breakdown with your own client, add the factory to it:
+ * <pre>
+ * OkHttpClient httpClient = new OkHttpClient.Builder()
+ *     .eventListenerFactory(NetworkEventListener.factory(config.getMetrics()))
+ *     .build();
+ * </pre>
+ * OkHttp creates a listener per call and delivers its events one after the other, so the
+ * listener keeps plain timestamps.
+ */
+public final class NetworkEventListener extends EventListener implements NetworkTimings {
+    private final PaystackMetrics metrics;
+    private final Request request;
+    private final long[] phaseNanos = new long[NetworkPhase.all().length];
+    private final long callStart;
+    private boolean acquiring;
+    private boolean connected;
+    private boolean reused;
+    private long dnsStart;
+    private long connectStart;
+    private long secureConnectStart;
+    private long requestStart;
+    private long requestEnd;
+    private long responseStart;
+    private long totalNanos;
+    private int statusCode;
+    private IOException failure;
+
+    private NetworkEventListener(PaystackMetrics metrics, Call call) {
+        this.metrics = metrics;
+        this.request = call.request();
+        this.callStart = System.nanoTime();
+    }
+
+    /**
+     * Factory creating a listener per call that records into the given metrics
+     */
+    public static EventListener.Factory factory(PaystackMetrics metrics) {
+        return call -> new NetworkEventListener(metrics, call);
+    }
+
+    /**
+     * The first step towards a connection ends the time spent queued
+     */
+    private void acquiring(long now) {
+        if (!acquiring) {
+            acquiring = true;
+            phaseNanos[NetworkPhase.QUEUE.ordinal()] += now - callStart;
+        }
+    }
+
+    private void add(NetworkPhase phase, long start, long end) {
+        if (start != 0) {
+            phaseNanos[phase.ordinal()] += end - start;
+        }
+    }
+
+    @Override
+    public void proxySelectStart(Call call, HttpUrl url) {
+        acquiring(System.nanoTime());
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+        acquiring(dnsStart);
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        add(NetworkPhase.DNS, dnsStart, System.nanoTime());
+        dnsStart = 0;
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = System.nanoTime();
+        connected = true;
+        acquiring(connectStart);
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStart = System.nanoTime();
+        add(NetworkPhase.CONNECT, connectStart, secureConnectStart);
+        connectStart = 0;
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        add(NetworkPhase.TLS, secureConnectStart, System.nanoTime());
+        secureConnectStart = 0;
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        connectDone();
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+                              IOException ioe) {
+        connectDone();
+    }
+
+    /**
+     * Close the TCP or TLS phase the connection attempt ended in
+     */
+    private void connectDone() {
+        long now = System.nanoTime();
+        add(NetworkPhase.CONNECT, connectStart, now);
+        add(NetworkPhase.TLS, secureConnectStart, now);
+        connectStart = 0;
+        secureConnectStart = 0;
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        acquiring(System.nanoTime());
+        reused = !connected;
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void requestHeadersEnd(Call call, Request request) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        requestEnd = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        responseStart = System.nanoTime();
+        if (requestEnd != 0) {
+            add(NetworkPhase.REQUEST, requestStart, requestEnd);
+            add(NetworkPhase.SERVER, requestEnd, responseStart);
+        }
+        requestStart = 0;
+        requestEnd = 0;
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        statusCode = response.code();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        add(NetworkPhase.RESPONSE, responseStart, System.nanoTime());
+        responseStart = 0;
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        end(null);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        end(ioe);
+    }
+
+    private void end(IOException ioe) {
+        totalNanos = System.nanoTime() - callStart;
+        failure = ioe;
+        metrics.recordNetworkTimings(this);
+    }
+
+    @Override
+    public Endpoint<?> getEndpoint() {
+        return request.tag(Endpoint.class);
+    }
+
+    @Override
+    public String getMethod() {
+        return request.method();
+    }
+
+    @Override
+    public String getPath() {
+        return request.url().encodedPath();
+    }
+
+    @Override
+    public long getNanos(NetworkPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public boolean isConnectionReused() {
+        return reused;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public Throwable getFailure() {
+        return failure;
+    }
+}
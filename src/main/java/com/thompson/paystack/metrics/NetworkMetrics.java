@@ -0,0 +1,97 @@
+package com.thompson.paystack.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Network phase latencies, connection reuse and slow calls of all HTTP calls, kept by
+ * {@link InMemoryMetrics} from the timings of {@link NetworkEventListener}
+ */
+public class NetworkMetrics {
+    private final LatencyHistogram[] phaseLatency = new LatencyHistogram[NetworkPhase.all().length];
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+    private final LongAdder newConnections = new LongAdder();
+    private final LongAdder reusedConnections = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+    private final SlowCallLog slowCalls;
+
+    NetworkMetrics(SlowCallLog slowCalls) {
+        this.slowCalls = slowCalls;
+        for (int i = 0; i < phaseLatency.length; i++) {
+            phaseLatency[i] = new LatencyHistogram();
+        }
+    }
+
+    void record(NetworkTimings timings) {
+        for (NetworkPhase phase : NetworkPhase.all()) {
+            long nanos = timings.getNanos(phase);
+            // Phases that did not happen (e.g. the handshake on a reused connection) are not zeros
+            if (nanos > 0) {
+                phaseLatency[phase.ordinal()].record(nanos);
+            }
+        }
+        totalLatency.record(timings.getTotalNanos());
+        if (timings.isConnectionReused()) {
+            reusedConnections.increment();
+        } else if (timings.getNanos(NetworkPhase.CONNECT) > 0) {
+            newConnections.increment();
+        }
+        if (timings.getFailure() != null) {
+            failedCalls.increment();
+        }
+        slowCalls.record(timings);
+    }
+
+    /**
+     * Time spent in a phase, by the calls that went through it
+     */
+    public LatencyHistogram getPhaseLatency(NetworkPhase phase) {
+        return phaseLatency[phase.ordinal()];
+    }
+
+    /**
+     * Duration of HTTP calls, from being made to their end
+     */
+    public LatencyHistogram getTotalLatency() {
+        return totalLatency;
+    }
+
+    /**
+     * Number of calls that opened a connection
+     */
+    public long getNewConnections() {
+        return newConnections.sum();
+    }
+
+    /**
+     * Number of calls that ran on a pooled connection
+     */
+    public long getReusedConnections() {
+        return reusedConnections.sum();
+    }
+
+    /**
+     * Number of calls that failed with an I/O error or were canceled
+     */
+    public long getFailedCalls() {
+        return failedCalls.sum();
+    }
+
+    /**
+     * The latest calls slower than the threshold
+     */
+    public SlowCallLog getSlowCalls() {
+        return slowCalls;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("network: new=").append(getNewConnections())
+                .append(", reused=").append(getReusedConnections())
+                .append(", failed=").append(getFailedCalls())
+                .append(", slow=").append(slowCalls.getRecorded());
+        for (NetworkPhase phase : NetworkPhase.all()) {
+            text.append(", ").append(phase.getLabel()).append("=[").append(getPhaseLatency(phase)).append(']');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.thompson.paystack.metrics;
+
+/**
+ * Phases of an HTTP call on the wire, as measured by {@link NetworkEventListener}
+ */
+public enum NetworkPhase {
+    /**
+     * From the call being made to looking for a connection: time queued in the OkHttp dispatcher
+     * behind its request limits (async calls)
+     */
+    QUEUE("queue"),
+    /**
+     * Resolving the host name
+     */
+    DNS("dns"),
+    /**
+     * Opening the TCP connection
+     */
+    CONNECT("connect"),
+    /**
+     * TLS handshake on a new connection
+     */
+    TLS("tls"),
+    /**
+     * Writing the request headers and body
+     */
+    REQUEST("request"),
+    /**
+     * From the end of the request to the first byte of the response: Paystack's processing time plus one round trip
+     */
+    SERVER("server"),
+    /**
+     * Reading the response headers and body; bodies are decoded as they stream in, so this includes decoding
+     */
+    RESPONSE("response");
+
+    private static final NetworkPhase[] VALUES = values();
+
+    private final String label;
+
+    NetworkPhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Short lowercase name, e.g. {@code tls}
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * All phases, without the copy {@link #values()} makes
+     */
+    static NetworkPhase[] all() {
+        return VALUES;
+    }
+}
@@ -0,0 +1,53 @@
+package com.thompson.paystack.metrics;
+
+import com.thompson.paystack.http.Endpoint;
+
+/**
+ * Phase breakdown of one HTTP call, passed to {@link PaystackMetrics#recordNetworkTimings}.
+ * Retries and hedges are separate calls. The timings are only valid during that method; copy
+ * what you keep.
+ */
+public interface NetworkTimings {
+
+    /**
+     * Endpoint called, or null for requests not made by the library (e.g. on a shared HTTP client)
+     */
+    Endpoint<?> getEndpoint();
+
+    /**
+     * HTTP method, e.g. {@code GET}
+     */
+    String getMethod();
+
+    /**
+     * Path requested, with its parameters filled in and without the query
+     */
+    String getPath();
+
+    /**
+     * Time spent in a phase, summed if it happened more than once (e.g. OkHttp retrying another route)
+     *
+     * @return Nanoseconds, 0 if the phase did not happen (e.g. no DNS lookup on a reused connection)
+     */
+    long getNanos(NetworkPhase phase);
+
+    /**
+     * Time from the call being made to its end or failure
+     */
+    long getTotalNanos();
+
+    /**
+     * Whether the call ran on a pooled connection instead of opening one
+     */
+    boolean isConnectionReused();
+
+    /**
+     * HTTP status code of the response, or 0 if none arrived
+     */
+    int getStatusCode();
+
+    /**
+     * Exception the call failed with, or null if it ended normally
+     */
+    Throwable getFailure();
+}
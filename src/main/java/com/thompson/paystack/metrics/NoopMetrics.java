@@ -0,0 +1,11 @@
+package com.thompson.paystack.metrics;
+
+/**
+ * {@link PaystackMetrics} that keeps every default, i.e. records nothing
+ */
+final class NoopMetrics implements PaystackMetrics {
+    static final NoopMetrics INSTANCE = new NoopMetrics();
+
+    private NoopMetrics() {
+    }
+}
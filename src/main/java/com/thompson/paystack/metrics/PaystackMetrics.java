@@ -0,0 +1,62 @@
+package com.thompson.paystack.metrics;
+
+import com.thompson.paystack.http.Endpoint;
+
+/**
+ * Receives measurements of the calls made by a client, e.g. to export them to a monitoring system.
+ * <p>
+ * Methods are called on the threads making the calls (callers, OkHttp dispatcher threads), on
+ * every call, so implementations must be thread-safe and fast, and should not allocate. Endpoint
+ * descriptors are static, so they can be used as map keys as they are. Every method has an empty
+ * default, implement the ones you need.
+ * <p>
+ * The library records into an {@link InMemoryMetrics} unless configured otherwise
+ * (see {@link com.thompson.paystack.client.PaystackConfig.Builder#metrics(PaystackMetrics)}).
+ */
+public interface PaystackMetrics {
+
+    /**
+     * An HTTP attempt ended: a response arrived or the request failed. Retries and hedges are separate attempts.
+     *
+     * @param endpoint     Endpoint called
+     * @param statusCode   HTTP status code, or 0 if no response arrived (network error, cancellation)
+     * @param networkNanos Time from sending the request to receiving the response headers (or the failure)
+     */
+    default void recordAttempt(Endpoint<?> endpoint, int statusCode, long networkNanos) {
+    }
+
+    /**
+     * The body of a final response was read and decoded
+     *
+     * @param endpoint    Endpoint called
+     * @param decodeNanos Time spent reading the body from the connection and decoding it
+     */
+    default void recordDecode(Endpoint<?> endpoint, long decodeNanos) {
+    }
+
+    /**
+     * A call completed, after all of its attempts
+     *
+     * @param endpoint Endpoint called
+     * @param nanos    Time from the call to its result, including rate limit waits and retry delays
+     * @param error    Exception the call failed with, or null if it succeeded
+     */
+    default void recordCall(Endpoint<?> endpoint, long nanos, Throwable error) {
+    }
+
+    /**
+     * An HTTP call ended, with the time spent in each network phase. Called by
+     * {@link NetworkEventListener}, i.e. only for HTTP clients it is installed in.
+     *
+     * @param timings Phase breakdown; only valid during this method
+     */
+    default void recordNetworkTimings(NetworkTimings timings) {
+    }
+
+    /**
+     * Metrics that record nothing
+     */
+    static PaystackMetrics noop() {
+        return NoopMetrics.INSTANCE;
+    }
+}
@@ -0,0 +1,110 @@
+package com.thompson.paystack.metrics;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of a call that took longer than the slow call threshold, kept in a {@link SlowCallLog}
+ */
+public final class SlowCall {
+    private final Instant endedAt;
+    private final String endpoint;
+    private final String path;
+    private final int statusCode;
+    private final String failure;
+    private final boolean connectionReused;
+    private final long[] phaseNanos;
+    private final long totalNanos;
+
+    private SlowCall(NetworkTimings timings) {
+        this.endedAt = Instant.now();
+        this.endpoint = timings.getEndpoint() != null
+                ? timings.getEndpoint().toString()
+                : timings.getMethod() + " " + timings.getPath();
+        this.path = timings.getPath();
+        this.statusCode = timings.getStatusCode();
+        this.failure = timings.getFailure() == null ? null : timings.getFailure().toString();
+        this.connectionReused = timings.isConnectionReused();
+        NetworkPhase[] phases = NetworkPhase.all();
+        this.phaseNanos = new long[phases.length];
+        for (NetworkPhase phase : phases) {
+            phaseNanos[phase.ordinal()] = timings.getNanos(phase);
+        }
+        this.totalNanos = timings.getTotalNanos();
+    }
+
+    static SlowCall of(NetworkTimings timings) {
+        return new SlowCall(timings);
+    }
+
+    /**
+     * When the call ended
+     */
+    public Instant getEndedAt() {
+        return endedAt;
+    }
+
+    /**
+     * Endpoint name, e.g. {@code GET /transaction/verify/{reference}}, or method and path for
+     * requests not made by the library
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Path requested, e.g. {@code /transaction/verify/ref_123}
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * HTTP status code, or 0 if no response arrived
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Exception the call failed with, as text, or null
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    public boolean isConnectionReused() {
+        return connectionReused;
+    }
+
+    /**
+     * Time spent in a phase, in nanoseconds
+     */
+    public long getNanos(NetworkPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Duration of the call, in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * One line, e.g. {@code 2024-05-02T10:15:30Z GET /transaction/verify/{reference} /transaction/verify/ref_123
+     * 200 1520ms [queue=0ms dns=0ms connect=0ms tls=0ms request=0ms server=1518ms response=1ms reused]}
+     */
+    @Override
+    public String toString() {
+        StringBuilder line = new StringBuilder()
+                .append(endedAt).append(' ').append(endpoint).append(' ').append(path).append(' ')
+                .append(failure != null ? failure : String.valueOf(statusCode)).append(' ')
+                .append(TimeUnit.NANOSECONDS.toMillis(totalNanos)).append("ms [");
+        for (NetworkPhase phase : NetworkPhase.all()) {
+            line.append(phase.getLabel()).append('=')
+                    .append(TimeUnit.NANOSECONDS.toMillis(getNanos(phase))).append("ms ");
+        }
+        return line.append(connectionReused ? "reused" : "new connection").append(']').toString();
+    }
+}
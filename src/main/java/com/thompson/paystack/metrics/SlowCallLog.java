@@ -0,0 +1,80 @@
+package com.thompson.paystack.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded ring buffer of the latest calls slower than a threshold, with their phase breakdown.
+ * <p>
+ * Calls under the threshold cost a comparison; a slow call takes a slot with an atomic increment
+ * and overwrites the oldest sample once the buffer is full. Dump it when calls are slow to see
+ * where the time went:
+ * <pre>
+ * ((InMemoryMetrics) client.metrics()).getNetwork().getSlowCalls().dump().forEach(System.out::println);
+ * </pre>
+ */
+public class SlowCallLog {
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowCall> calls;
+    private final AtomicLong recorded = new AtomicLong();
+
+    /**
+     * @param threshold Calls taking at least this long are kept
+     * @param capacity  Number of samples kept
+     */
+    SlowCallLog(Duration threshold, int capacity) {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("Slow call threshold cannot be negative");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Slow call log capacity must be greater than 0");
+        }
+        this.thresholdNanos = threshold.toNanos();
+        this.calls = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Keep the call if it is slow
+     */
+    void record(NetworkTimings timings) {
+        if (timings.getTotalNanos() >= thresholdNanos) {
+            long slot = recorded.getAndIncrement();
+            calls.set((int) (slot % calls.length()), SlowCall.of(timings));
+        }
+    }
+
+    /**
+     * The samples kept, oldest first. A dump taken while slow calls are being recorded may miss
+     * the very latest ones.
+     */
+    public List<SlowCall> dump() {
+        List<SlowCall> dump = new ArrayList<>(calls.length());
+        for (int i = 0; i < calls.length(); i++) {
+            SlowCall call = calls.get(i);
+            if (call != null) {
+                dump.add(call);
+            }
+        }
+        dump.sort(Comparator.comparing(SlowCall::getEndedAt));
+        return dump;
+    }
+
+    /**
+     * Number of slow calls seen, including the ones overwritten since
+     */
+    public long getRecorded() {
+        return recorded.get();
+    }
+
+    public Duration getThreshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    public int getCapacity() {
+        return calls.length();
+    }
+}
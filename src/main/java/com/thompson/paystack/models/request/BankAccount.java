@@ -0,0 +1,19 @@
+package com.thompson.paystack.models.request;
+
+import lombok.Value;
+
+/**
+ * A bank account identified by its account number and bank code, e.g. as a map key
+ */
+@Value(staticConstructor = "of")
+public class BankAccount {
+    String accountNumber;
+    String bankCode;
+
+    /**
+     * Account of a recipient creation request
+     */
+    public static BankAccount of(TransferRecipientRequest request) {
+        return of(request.getAccountNumber(), request.getBankCode());
+    }
+}
@@ -0,0 +1,15 @@
+package com.thompson.paystack.models.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request model for creating several transfer recipients in one call ({@code /transferrecipient/bulk})
+ */
+@Data
+@AllArgsConstructor
+public class BulkTransferRecipientRequest {
+    private List<TransferRecipientRequest> batch;
+}
@@ -0,0 +1,50 @@
+package com.thompson.paystack.models.request;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request model for initiating several transfers in one call ({@code /transfer/bulk}).
+ * All transfers of a bulk request share the source and currency.
+ */
+@Data
+public class BulkTransferRequest {
+    private String source = "balance";
+    private String currency;
+    private List<Item> transfers;
+
+    /**
+     * One transfer of a bulk request
+     */
+    @Data
+    public static class Item {
+        private long amount;
+        private String recipient;
+        private String reference;
+        private String reason;
+    }
+
+    /**
+     * Build a bulk request from single transfer requests with the same source and currency
+     */
+    public static BulkTransferRequest from(List<TransferInitRequest> requests) {
+        BulkTransferRequest bulk = new BulkTransferRequest();
+        List<Item> items = new ArrayList<>(requests.size());
+        for (TransferInitRequest request : requests) {
+            Item item = new Item();
+            item.amount = request.getAmount();
+            item.recipient = request.getRecipient();
+            item.reference = request.getReference();
+            item.reason = request.getReason();
+            items.add(item);
+        }
+        if (!requests.isEmpty()) {
+            bulk.source = requests.get(0).getSource();
+            bulk.currency = requests.get(0).getCurrency();
+        }
+        bulk.transfers = items;
+        return bulk;
+    }
+}
@@ -3,6 +3,7 @@ package com.thompson.paystack.models.request;
 import com.google.gson.annotations.SerializedName;
 import com.thompson.paystack.enums.Currency;
 import com.thompson.paystack.utils.AmountUtils;
+import com.thompson.paystack.utils.ReferenceGenerator;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
@@ -11,7 +12,7 @@ import java.util.Map;
 /**
  * Request model for charging a saved authorization
  */
-public class ChargeAuthorizationRequest {
+public class ChargeAuthorizationRequest implements ReferencedRequest {
     @SerializedName("authorization_code")
     private String authorizationCode;
 
@@ -40,6 +41,7 @@ public class ChargeAuthorizationRequest {
         return currency;
     }
 
+    @Override
     public String getReference() {
         return reference;
     }
@@ -91,6 +93,22 @@ public class ChargeAuthorizationRequest {
             return this;
         }
 
+        /**
+         * Set a unique, time-ordered reference from {@link ReferenceGenerator#getDefault()}, so
+         * retries and later verification always use the same reference
+         */
+        public Builder generateReference() {
+            return generateReference(ReferenceGenerator.getDefault());
+        }
+
+        /**
+         * Set a unique reference from the given generator
+         */
+        public Builder generateReference(ReferenceGenerator generator) {
+            request.reference = generator.nextReference();
+            return this;
+        }
+
         public Builder metadata(Map<String, Object> metadata) {
             request.metadata = metadata;
             return this;
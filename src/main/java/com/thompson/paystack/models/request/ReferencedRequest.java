@@ -0,0 +1,14 @@
+package com.thompson.paystack.models.request;
+
+/**
+ * A request that carries a caller-supplied reference.
+ * Paystack rejects a second request with the same reference, so a request with a
+ * stable reference is safe to retry.
+ */
+public interface ReferencedRequest {
+
+    /**
+     * @return The unique reference, or null if Paystack should generate one
+     */
+    String getReference();
+}
@@ -4,6 +4,7 @@ import com.google.gson.annotations.SerializedName;
 import com.thompson.paystack.enums.Bearer;
 import com.thompson.paystack.enums.Currency;
 import com.thompson.paystack.utils.AmountUtils;
+import com.thompson.paystack.utils.ReferenceGenerator;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -14,7 +15,7 @@ import java.util.Map;
  * Request model for initializing a transaction
  */
 @Data
-public class TransactionInitRequest {
+public class TransactionInitRequest implements ReferencedRequest {
     private String email;
     private long amount;  // Amount in kobo
     private String currency;
@@ -95,6 +96,22 @@ public class TransactionInitRequest {
             return this;
         }
 
+        /**
+         * Set a unique, time-ordered reference from {@link ReferenceGenerator#getDefault()}, so
+         * retries and later verification always use the same reference
+         */
+        public Builder generateReference() {
+            return generateReference(ReferenceGenerator.getDefault());
+        }
+
+        /**
+         * Set a unique reference from the given generator
+         */
+        public Builder generateReference(ReferenceGenerator generator) {
+            request.reference = generator.nextReference();
+            return this;
+        }
+
         /**
          * Set callback URL where customer will be redirected after payment
          */
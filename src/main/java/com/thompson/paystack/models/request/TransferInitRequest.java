@@ -2,6 +2,7 @@ package com.thompson.paystack.models.request;
 
 import com.thompson.paystack.enums.Currency;
 import com.thompson.paystack.utils.AmountUtils;
+import com.thompson.paystack.utils.ReferenceGenerator;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -10,7 +11,7 @@ import java.math.BigDecimal;
  * Request model for initiating a transfer
  */
 @Data
-public class TransferInitRequest {
+public class TransferInitRequest implements ReferencedRequest {
     private String source = "balance"; // Default source
     private String reason;
     private long amount;  // Amount in kobo
@@ -61,6 +62,22 @@ public class TransferInitRequest {
             return this;
         }
 
+        /**
+         * Set a unique, time-ordered reference from {@link ReferenceGenerator#getDefault()}, so
+         * retries and later verification always use the same reference
+         */
+        public Builder generateReference() {
+            return generateReference(ReferenceGenerator.getDefault());
+        }
+
+        /**
+         * Set a unique reference from the given generator
+         */
+        public Builder generateReference(ReferenceGenerator generator) {
+            request.reference = generator.nextReference();
+            return this;
+        }
+
         public Builder source(String source) {
             request.source = source;
             return this;
@@ -0,0 +1,19 @@
+package com.thompson.paystack.models.response;
+
+import com.google.gson.annotations.SerializedName;
+import lombok.Data;
+
+/**
+ * Account resolution data: the name on a bank account
+ */
+@Data
+public class AccountResolutionData {
+    @SerializedName("account_number")
+    private String accountNumber;
+
+    @SerializedName("account_name")
+    private String accountName;
+
+    @SerializedName("bank_id")
+    private long bankId;
+}
@@ -0,0 +1,37 @@
+package com.thompson.paystack.models.response;
+
+import com.google.gson.annotations.SerializedName;
+import lombok.Data;
+
+/**
+ * Bank data, as returned by the bank list endpoint
+ */
+@Data
+public class BankData {
+    private long id;
+    private String name;
+    private String slug;
+    private String code;
+    private String longcode;
+    private String gateway;
+
+    @SerializedName("pay_with_bank")
+    private boolean payWithBank;
+
+    @SerializedName("supports_transfer")
+    private boolean supportsTransfer;
+
+    @SerializedName("available_for_direct_debit")
+    private boolean availableForDirectDebit;
+
+    private boolean active;
+    private String country;
+    private String currency;
+    private String type;
+
+    @SerializedName("is_deleted")
+    private boolean deleted;
+
+    private String createdAt;
+    private String updatedAt;
+}
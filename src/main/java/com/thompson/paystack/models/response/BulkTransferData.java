@@ -0,0 +1,19 @@
+package com.thompson.paystack.models.response;
+
+import com.google.gson.annotations.SerializedName;
+import lombok.Data;
+
+/**
+ * Result of one transfer of a bulk transfer request
+ */
+@Data
+public class BulkTransferData {
+    private String reference;
+    private String recipient;
+    private long amount;
+    private String currency;
+    private String status;
+
+    @SerializedName("transfer_code")
+    private String transferCode;
+}
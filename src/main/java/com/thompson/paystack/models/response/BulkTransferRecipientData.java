@@ -0,0 +1,15 @@
+package com.thompson.paystack.models.response;
+
+import com.google.gson.JsonObject;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Result of a bulk transfer recipient request: the recipients created and the entries that were rejected
+ */
+@Data
+public class BulkTransferRecipientData {
+    private List<TransferRecipientData> success;
+    private List<JsonObject> errors;
+}
@@ -0,0 +1,25 @@
+package com.thompson.paystack.models.response;
+
+import lombok.Data;
+
+/**
+ * Paging information returned by list endpoints
+ */
+@Data
+public class PageMeta {
+    private long total;
+    private long skipped;
+    private int perPage;
+    private int page;
+    private int pageCount;
+
+    /**
+     * Cursor of the next page, on endpoints paged by cursor (null on the last page)
+     */
+    private String next;
+
+    /**
+     * Cursor of the previous page, on endpoints paged by cursor
+     */
+    private String previous;
+}
@@ -12,4 +12,5 @@ public class PaystackResponse<T> {
     private boolean status;
     private String message;
     private T data;
+    private PageMeta meta; // Only present on list endpoints
 }
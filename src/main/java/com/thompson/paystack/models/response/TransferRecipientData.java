@@ -29,4 +29,30 @@ public class TransferRecipientData {
 
     @SerializedName("created_at")
     private String createdAt;
+
+    /**
+     * Account details, where Paystack nests them instead of returning them at the top level
+     */
+    private Details details;
+
+    /**
+     * Bank account details of a recipient
+     */
+    @Data
+    public static class Details {
+        @SerializedName("authorization_code")
+        private String authorizationCode;
+
+        @SerializedName("account_number")
+        private String accountNumber;
+
+        @SerializedName("account_name")
+        private String accountName;
+
+        @SerializedName("bank_code")
+        private String bankCode;
+
+        @SerializedName("bank_name")
+        private String bankName;
+    }
 }
@@ -0,0 +1,131 @@
+package com.thompson.paystack.pagination;
+
+import com.thompson.paystack.models.response.PageMeta;
+import com.thompson.paystack.models.response.PaystackResponse;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Iterator over the items of a list endpoint, created by {@link Paginator}.
+ * <p>
+ * Pages in flight are kept in a queue in page order. Until the page count is known only one page
+ * is fetched ahead; afterwards up to the paginator's parallelism. Without paging metadata the end
+ * is detected by a page shorter than the page size. Not thread-safe.
+ *
+ * @param <T> Item type
+ */
+public class PageIterator<T> implements Iterator<T>, AutoCloseable {
+    private static final int UNKNOWN = -1;
+
+    private final Paginator.PageFetcher<T> fetcher;
+    private final int perPage;
+    private final int parallelism;
+    private final ArrayDeque<CompletableFuture<PaystackResponse<List<T>>>> inFlight = new ArrayDeque<>();
+
+    private int nextPage = 1;
+    private int lastPage = UNKNOWN;
+    private List<T> current = Collections.emptyList();
+    private int index;
+    private PageMeta meta;
+
+    PageIterator(Paginator.PageFetcher<T> fetcher, int perPage, int parallelism) {
+        this.fetcher = fetcher;
+        this.perPage = perPage;
+        this.parallelism = parallelism;
+        inFlight.add(fetcher.fetch(nextPage++, perPage));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index >= current.size()) {
+            CompletableFuture<PaystackResponse<List<T>>> next = inFlight.poll();
+            if (next == null) {
+                return false;
+            }
+            onPage(nextPage - inFlight.size() - 1, await(next));
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.get(index++);
+    }
+
+    /**
+     * Paging metadata of the most recently received page, or null before the first page
+     * (or if the endpoint does not return any)
+     */
+    public PageMeta getMeta() {
+        return meta;
+    }
+
+    /**
+     * Cancel pages that have been requested but not consumed
+     */
+    @Override
+    public void close() {
+        CompletableFuture<PaystackResponse<List<T>>> pending;
+        while ((pending = inFlight.poll()) != null) {
+            pending.cancel(true);
+        }
+        lastPage = 0;
+    }
+
+    private void onPage(int page, PaystackResponse<List<T>> response) {
+        List<T> data = response.getData() == null ? Collections.emptyList() : response.getData();
+        current = data;
+        index = 0;
+        PageMeta pageMeta = response.getMeta();
+        if (pageMeta != null) {
+            meta = pageMeta;
+        }
+
+        // Prefer the page count: Paystack may cap perPage, so a short page does not always mean the end
+        if (data.isEmpty()) {
+            lastPage = page;
+        } else if (pageMeta != null && pageMeta.getPageCount() > 0) {
+            lastPage = pageMeta.getPageCount();
+        } else if (data.size() < perPage) {
+            lastPage = page;
+        }
+        fill();
+    }
+
+    /**
+     * Request pages ahead: one while the page count is unknown, up to the parallelism afterwards
+     */
+    private void fill() {
+        int window = lastPage == UNKNOWN ? 1 : parallelism;
+        while (inFlight.size() < window && (lastPage == UNKNOWN || nextPage <= lastPage)) {
+            inFlight.add(fetcher.fetch(nextPage++, perPage));
+        }
+        if (lastPage != UNKNOWN) {
+            // A short or empty page ends the listing even if later pages were already requested
+            while (inFlight.size() > 0 && nextPage - 1 > lastPage) {
+                inFlight.pollLast().cancel(true);
+                nextPage--;
+            }
+        }
+    }
+
+    private static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.thompson.paystack.pagination;
+
+import com.thompson.paystack.models.response.PaystackResponse;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy view over all items of a Paystack list endpoint.
+ * <p>
+ * Pages are only fetched while items are consumed. As soon as a page arrives the next one is
+ * requested in the background, so the network round trip overlaps with processing the current
+ * page. With {@link #parallel(int)}, once the first page has reported the page count, up to N
+ * pages are kept in flight at once; items are still returned in page order.
+ * <pre>
+ * try (Stream&lt;SubaccountData&gt; subaccounts = client.subaccounts().list(100).parallel(4).stream()) {
+ *     subaccounts.filter(SubaccountData::isActive).forEach(this::sync);
+ * }
+ * </pre>
+ * Close streams that are not fully consumed (or call {@link PageIterator#close()}) to cancel
+ * prefetched pages.
+ *
+ * @param <T> Item type
+ */
+public class Paginator<T> implements Iterable<T> {
+    /**
+     * Page size Paystack uses when none is given
+     */
+    public static final int DEFAULT_PER_PAGE = 50;
+
+    private final PageFetcher<T> fetcher;
+    private final int perPage;
+    private final int parallelism;
+
+    /**
+     * Fetches one page of a list endpoint
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+        /**
+         * @param page    Page number, starting at 1
+         * @param perPage Items per page
+         * @return Future completed with the page
+         */
+        CompletableFuture<PaystackResponse<List<T>>> fetch(int page, int perPage);
+    }
+
+    /**
+     * @param fetcher Fetches one page
+     * @param perPage Items per page
+     */
+    public Paginator(PageFetcher<T> fetcher, int perPage) {
+        this(fetcher, perPage, 1);
+    }
+
+    private Paginator(PageFetcher<T> fetcher, int perPage, int parallelism) {
+        if (perPage <= 0) {
+            throw new IllegalArgumentException("Items per page must be greater than 0");
+        }
+        this.fetcher = fetcher;
+        this.perPage = perPage;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Fetch up to the given number of pages concurrently once the page count is known
+     *
+     * @param pages Maximum number of pages in flight
+     * @return A paginator with the given parallelism
+     */
+    public Paginator<T> parallel(int pages) {
+        if (pages <= 0) {
+            throw new IllegalArgumentException("Pages in flight must be greater than 0");
+        }
+        return new Paginator<>(fetcher, perPage, pages);
+    }
+
+    /**
+     * Start iterating; the first page is requested right away
+     */
+    @Override
+    public PageIterator<T> iterator() {
+        return new PageIterator<>(fetcher, perPage, parallelism);
+    }
+
+    /**
+     * Stream all items lazily, in page order. Closing the stream cancels prefetched pages.
+     */
+    public Stream<T> stream() {
+        PageIterator<T> iterator = iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+}
@@ -0,0 +1,208 @@
+package com.thompson.paystack.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker for one endpoint.
+ * <p>
+ * Outcomes are recorded in a count-based sliding window (a ring of the last N calls with running
+ * failure and slow-call counts, so computing the rates is O(1)). The permission check on the hot
+ * path only reads a volatile state; recording an outcome takes a short lock on the window.
+ * <ul>
+ *     <li>CLOSED: calls go through; the breaker opens when the failure or slow-call rate reaches its threshold</li>
+ *     <li>OPEN: calls are rejected until the open duration has passed</li>
+ *     <li>HALF_OPEN: a fixed number of probe calls go through; the breaker closes if their rates are
+ *     below the thresholds and opens again otherwise</li>
+ * </ul>
+ */
+public class CircuitBreaker {
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    /**
+     * Circuit breaker states
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final CircuitBreakerPolicy policy;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int minimumCalls;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+
+    // Sliding window, guarded by this
+    private final byte[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+    private int probes;
+    private int probeFailures;
+    private int probeSlowCalls;
+
+    private final LongAdder notPermitted = new LongAdder();
+    private final AtomicInteger timesOpened = new AtomicInteger();
+
+    /**
+     * @param name   Name used in messages, usually the endpoint
+     * @param policy Thresholds and durations
+     */
+    public CircuitBreaker(String name, CircuitBreakerPolicy policy) {
+        this.name = name;
+        this.policy = policy;
+        this.slowCallNanos = policy.getSlowCallDuration().toNanos();
+        this.openNanos = policy.getOpenDuration().toNanos();
+        this.minimumCalls = Math.min(policy.getMinimumCalls(), policy.getSlidingWindowSize());
+        this.outcomes = new byte[policy.getSlidingWindowSize()];
+    }
+
+    /**
+     * Check whether a call may go through. Every permitted call must be followed by
+     * {@link #onResult(long, boolean)} or {@link #releasePermission()}.
+     *
+     * @return true if the call is permitted, false if the breaker is open
+     */
+    public boolean tryAcquirePermission() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                notPermitted.increment();
+                return false;
+            }
+            toHalfOpen();
+        }
+        int permits;
+        do {
+            permits = halfOpenPermits.get();
+            if (permits <= 0) {
+                notPermitted.increment();
+                return false;
+            }
+        } while (!halfOpenPermits.compareAndSet(permits, permits - 1));
+        return true;
+    }
+
+    /**
+     * Give back a permission for a call that was not made or was cancelled
+     */
+    public void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record the outcome of a permitted call
+     *
+     * @param durationNanos Time until the response (or error) was received
+     * @param failed        Whether the call failed (network error or 5xx)
+     */
+    public synchronized void onResult(long durationNanos, boolean failed) {
+        boolean slow = durationNanos >= slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            probes++;
+            probeFailures += failed ? 1 : 0;
+            probeSlowCalls += slow ? 1 : 0;
+            if (exceedsThresholds(probeFailures, probeSlowCalls, probes)) {
+                open();
+            } else if (probes >= policy.getHalfOpenCalls()) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record((byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0)));
+            if (recorded >= minimumCalls && exceedsThresholds(failures, slowCalls, recorded)) {
+                open();
+            }
+        }
+        // Results arriving while open belong to calls started before the breaker opened
+    }
+
+    private void record(byte outcome) {
+        if (recorded == outcomes.length) {
+            byte evicted = outcomes[next];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        outcomes[next] = outcome;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+        next = (next + 1) % outcomes.length;
+    }
+
+    private boolean exceedsThresholds(int failed, int slow, int total) {
+        return failed >= policy.getFailureRateThreshold() * total
+                || slow >= policy.getSlowCallRateThreshold() * total;
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        state = State.OPEN;
+        timesOpened.incrementAndGet();
+    }
+
+    private synchronized void toHalfOpen() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            probes = 0;
+            probeFailures = 0;
+            probeSlowCalls = 0;
+            halfOpenPermits.set(policy.getHalfOpenCalls());
+            state = State.HALF_OPEN;
+        }
+    }
+
+    private void close() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+        state = State.CLOSED;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Share of failed calls in the current window, 0 to 1
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : failures / (double) recorded;
+    }
+
+    /**
+     * Share of slow calls in the current window, 0 to 1
+     */
+    public synchronized double getSlowCallRate() {
+        return recorded == 0 ? 0 : slowCalls / (double) recorded;
+    }
+
+    /**
+     * Number of calls rejected because the breaker was open
+     */
+    public long getNotPermittedCalls() {
+        return notPermitted.sum();
+    }
+
+    /**
+     * Number of times the breaker has opened
+     */
+    public int getTimesOpened() {
+        return timesOpened.get();
+    }
+}
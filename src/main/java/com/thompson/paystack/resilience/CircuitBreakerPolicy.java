@@ -0,0 +1,165 @@
+package com.thompson.paystack.resilience;
+
+import java.time.Duration;
+
+/**
+ * Settings for a per-endpoint {@link CircuitBreaker}
+ * <p>
+ * The breaker looks at the outcome of the last {@code slidingWindowSize} calls. Once at least
+ * {@code minimumCalls} have been recorded it opens when the share of failed calls (network
+ * errors and 5xx responses) or of slow calls reaches its threshold. While open, calls fail
+ * immediately; after {@code openDuration} a few probe calls are let through and close the
+ * breaker again if they are healthy.
+ * <pre>
+ * PaystackConfig config = PaystackConfig.builder("sk_test_xxxxx")
+ *     .circuitBreaker(CircuitBreakerPolicy.defaults())
+ *     .circuitBreaker("/transfer", CircuitBreakerPolicy.builder()
+ *         .slowCallDuration(Duration.ofSeconds(3))
+ *         .build())
+ *     .build();
+ * </pre>
+ */
+public class CircuitBreakerPolicy {
+    private static final CircuitBreakerPolicy DEFAULTS = builder().build();
+
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration slowCallDuration;
+    private final double slowCallRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+
+    private CircuitBreakerPolicy(Builder builder) {
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.openDuration = builder.openDuration;
+        this.halfOpenCalls = builder.halfOpenCalls;
+    }
+
+    /**
+     * Window of 100 calls, at least 20 calls, opens at 50% failures or 80% calls slower than 5s,
+     * stays open 30s and closes after 5 healthy probes
+     */
+    public static CircuitBreakerPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for CircuitBreakerPolicy
+     */
+    public static class Builder {
+        private int slidingWindowSize = 100;
+        private int minimumCalls = 20;
+        private double failureRateThreshold = 0.5;
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+        private double slowCallRateThreshold = 0.8;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 5;
+
+        /**
+         * Number of most recent calls the rates are computed over
+         */
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Calls that must be recorded before the breaker can open
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Share of failed calls (0 to 1) that opens the breaker
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Calls taking at least this long to get a response are counted as slow
+         */
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+        /**
+         * Share of slow calls (0 to 1) that opens the breaker
+         */
+        public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * How long the breaker stays open before letting probe calls through
+         */
+        public Builder openDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Number of probe calls allowed while half-open; the breaker closes if they are healthy
+         */
+        public Builder halfOpenCalls(int halfOpenCalls) {
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        public CircuitBreakerPolicy build() {
+            if (slidingWindowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+                throw new IllegalArgumentException("Window size, minimum calls and half-open calls must be at least 1");
+            }
+            if (failureRateThreshold <= 0 || failureRateThreshold > 1
+                    || slowCallRateThreshold <= 0 || slowCallRateThreshold > 1) {
+                throw new IllegalArgumentException("Rate thresholds must be in (0, 1]");
+            }
+            if (slowCallDuration.isNegative() || slowCallDuration.isZero() || openDuration.isNegative()) {
+                throw new IllegalArgumentException("Slow call duration must be positive and open duration not negative");
+            }
+            return new CircuitBreakerPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.thompson.paystack.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedging state for one endpoint: recent latencies, the hedge budget and win-rate metrics.
+ * <p>
+ * Latencies of first requests go into a fixed ring of samples, including first requests cancelled
+ * because their hedge won; the percentile used as hedge delay is recomputed
+ * every {@value #RECOMPUTE_INTERVAL} samples rather than on every call, so reading the delay is a
+ * single volatile read.
+ */
+public class Hedger {
+    private static final int SAMPLES = 512;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_INTERVAL = 64;
+
+    private final HedgingPolicy policy;
+    private final long fixedDelayNanos;
+    private final long minDelayNanos;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(SAMPLES);
+    private final AtomicLong samples = new AtomicLong();
+    private volatile long percentileNanos = -1;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetRejections = new LongAdder();
+
+    public Hedger(HedgingPolicy policy) {
+        this.policy = policy;
+        this.fixedDelayNanos = policy.getDelay().toNanos();
+        this.minDelayNanos = policy.getMinDelay().toNanos();
+    }
+
+    /**
+     * Record a call that may be hedged
+     */
+    public void onCall() {
+        calls.incrementAndGet();
+    }
+
+    /**
+     * Time to wait for the first request before sending a hedge
+     *
+     * @return Delay in nanoseconds
+     */
+    public long hedgeDelayNanos() {
+        long observed = percentileNanos;
+        if (policy.getPercentile() <= 0 || observed < 0) {
+            return fixedDelayNanos;
+        }
+        return Math.max(minDelayNanos, observed);
+    }
+
+    /**
+     * Take a hedge from the budget
+     *
+     * @return true if a hedge may be sent, false if it would exceed the max hedge ratio
+     */
+    public boolean tryHedge() {
+        long current;
+        do {
+            current = hedges.get();
+            if (current + 1 > policy.getMaxHedgeRatio() * calls.get()) {
+                budgetRejections.increment();
+                return false;
+            }
+        } while (!hedges.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Record the latency of a first request, whether or not a hedge won. The hedge delay is a
+     * percentile of these samples.
+     *
+     * @param nanos Time from sending the first request to its parsed response or, if it was
+     *              cancelled (e.g. because the hedge won), to its cancellation: a lower bound
+     */
+    public void recordLatency(long nanos) {
+        long index = samples.getAndIncrement();
+        latencies.set((int) (index % SAMPLES), nanos);
+        if (policy.getPercentile() > 0 && index + 1 >= MIN_SAMPLES
+                && (index + 1 == MIN_SAMPLES || (index + 1) % RECOMPUTE_INTERVAL == 0)) {
+            recompute((int) Math.min(index + 1, SAMPLES));
+        }
+    }
+
+    private void recompute(int count) {
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        percentileNanos = sorted[(int) Math.min(count - 1, Math.ceil(policy.getPercentile() * count) - 1)];
+    }
+
+    /**
+     * Record that the hedge completed before the first request
+     */
+    public void onHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * Number of hedges sent
+     */
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * Number of hedges that completed before the first request
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * Share of hedges that won, 0 to 1
+     */
+    public double getHedgeWinRate() {
+        long sent = hedges.get();
+        return sent == 0 ? 0 : hedgeWins.sum() / (double) sent;
+    }
+
+    /**
+     * Number of hedges not sent because the budget was used up
+     */
+    public long getBudgetRejections() {
+        return budgetRejections.sum();
+    }
+}
@@ -0,0 +1,129 @@
+package com.thompson.paystack.resilience;
+
+import java.time.Duration;
+
+/**
+ * Hedging settings for idempotent GET endpoints such as verify
+ * <p>
+ * When a call has not completed after the hedge delay, a second identical request is sent and
+ * whichever completes first wins; the other one is cancelled. The delay is either fixed or, with
+ * {@link Builder#percentile(double)}, follows a percentile of recently observed latencies. The
+ * share of calls that may be hedged is capped by {@link Builder#maxHedgeRatio(double)} so a slow
+ * Paystack never sees more than that much extra load.
+ * <pre>
+ * PaystackConfig config = PaystackConfig.builder("sk_test_xxxxx")
+ *     .hedging(HedgingPolicy.builder()
+ *         .percentile(0.95)
+ *         .maxHedgeRatio(0.05)
+ *         .build())
+ *     .build();
+ * </pre>
+ */
+public class HedgingPolicy {
+    private final Duration delay;
+    private final double percentile;
+    private final Duration minDelay;
+    private final double maxHedgeRatio;
+
+    private HedgingPolicy(Builder builder) {
+        this.delay = builder.delay;
+        this.percentile = builder.percentile;
+        this.minDelay = builder.minDelay;
+        this.maxHedgeRatio = builder.maxHedgeRatio;
+    }
+
+    /**
+     * Hedge after a fixed delay, with the default 10% hedge budget
+     *
+     * @param delay Time to wait for the first request before sending the hedge
+     */
+    public static HedgingPolicy fixed(Duration delay) {
+        return builder().delay(delay).build();
+    }
+
+    /**
+     * Hedge after the observed p95 latency, with the default 10% hedge budget
+     */
+    public static HedgingPolicy p95() {
+        return builder().percentile(0.95).build();
+    }
+
+    public Duration getDelay() {
+        return delay;
+    }
+
+    /**
+     * Latency percentile used as the hedge delay, or 0 for a fixed delay
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+
+    public double getMaxHedgeRatio() {
+        return maxHedgeRatio;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for HedgingPolicy
+     */
+    public static class Builder {
+        private Duration delay = Duration.ofMillis(200);
+        private double percentile;
+        private Duration minDelay = Duration.ofMillis(10);
+        private double maxHedgeRatio = 0.1;
+
+        /**
+         * Fixed hedge delay; with a percentile it is only used until enough latencies have been observed
+         * (default 200ms)
+         */
+        public Builder delay(Duration delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        /**
+         * Use this percentile (e.g. 0.95) of recent latencies as the hedge delay
+         */
+        public Builder percentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Lower bound for a percentile-based delay (default 10ms)
+         */
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Maximum number of hedges as a share of calls (default 0.1, i.e. at most 10% extra requests)
+         */
+        public Builder maxHedgeRatio(double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            if (delay.isNegative() || minDelay.isNegative()) {
+                throw new IllegalArgumentException("Hedge delays must not be negative");
+            }
+            if (percentile < 0 || percentile >= 1) {
+                throw new IllegalArgumentException("Percentile must be in [0, 1)");
+            }
+            if (maxHedgeRatio <= 0 || maxHedgeRatio > 1) {
+                throw new IllegalArgumentException("Max hedge ratio must be in (0, 1]");
+            }
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.thompson.paystack.resilience;
+
+/**
+ * Rate limit settings: a sustained rate plus the burst allowed after an idle period
+ */
+public class RateLimit {
+    private final double permitsPerSecond;
+    private final int burst;
+
+    /**
+     * @param permitsPerSecond Sustained rate
+     * @param burst            Number of calls that can be made at once after an idle period
+     */
+    public RateLimit(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be greater than 0 and burst at least 1");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RateLimit)) {
+            return false;
+        }
+        RateLimit other = (RateLimit) o;
+        return Double.compare(permitsPerSecond, other.permitsPerSecond) == 0 && burst == other.burst;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(permitsPerSecond) + burst;
+    }
+
+    @Override
+    public String toString() {
+        return permitsPerSecond + "/s, burst " + burst;
+    }
+}
@@ -0,0 +1,192 @@
+package com.thompson.paystack.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free token-bucket rate limiter.
+ * <p>
+ * Implemented as a generic cell rate algorithm (GCRA): the whole bucket state is a single
+ * "theoretical arrival time" held in an {@link AtomicLong}, so acquiring a permit is one CAS
+ * and no thread ever holds a lock. Permits are handed out in arrival order; a caller that
+ * has to wait reserves its slot first and then parks until that slot is reached.
+ * <p>
+ * Three acquire modes are supported:
+ * <ul>
+ *     <li>{@link #acquire()} blocks until a permit is available</li>
+ *     <li>{@link #tryAcquire(Duration)} waits at most the given time, or takes no permit</li>
+ *     <li>{@link #acquireAsync()} / {@link #tryAcquireAsync(Duration)} return a future completed
+ *     when the permit is available</li>
+ * </ul>
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * @param permitsPerSecond Sustained rate
+     * @param burst            Number of permits that can be taken at once after an idle period
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be greater than 0 and burst at least 1");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime() - toleranceNanos - intervalNanos);
+    }
+
+    /**
+     * Take a permit, blocking until it is available
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve(Long.MAX_VALUE);
+        park(waitNanos);
+    }
+
+    /**
+     * Take a permit if one becomes available within the timeout
+     *
+     * @param timeout Maximum time to wait
+     * @return true if a permit was taken, false if none was available in time (no permit is consumed)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean tryAcquire(Duration timeout) throws InterruptedException {
+        long waitNanos = reserve(timeout.toNanos());
+        if (waitNanos < 0) {
+            return false;
+        }
+        park(waitNanos);
+        return true;
+    }
+
+    /**
+     * Take a permit without blocking the calling thread
+     *
+     * @return Future completed once the permit is available
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        long waitNanos = reserve(Long.MAX_VALUE);
+        if (waitNanos == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> { },
+                CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Take a permit without blocking the calling thread, waiting at most the given time
+     *
+     * @param timeout Maximum time to wait
+     * @return Future completed with true once the permit is available, or with false right away
+     * if none would be available in time (no permit is consumed)
+     */
+    public CompletableFuture<Boolean> tryAcquireAsync(Duration timeout) {
+        long waitNanos = reserve(timeout.toNanos());
+        if (waitNanos <= 0) {
+            return CompletableFuture.completedFuture(waitNanos == 0);
+        }
+        return CompletableFuture.supplyAsync(() -> true,
+                CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Reserve the next permit slot
+     *
+     * @param maxWait Give up (without reserving) if the wait would be longer than this, in nanoseconds
+     * @return Nanoseconds to wait before using the permit, or -1 if the wait would exceed maxWait
+     */
+    private long reserve(long maxWait) {
+        long now;
+        long current;
+        long next;
+        long wait;
+        do {
+            now = System.nanoTime();
+            current = theoreticalArrival.get();
+            long base = current - now > 0 ? current : now;
+            wait = Math.max(0, base - toleranceNanos - now);
+            if (wait > maxWait) {
+                rejected.increment();
+                return -1;
+            }
+            next = base + intervalNanos;
+        } while (!theoreticalArrival.compareAndSet(current, next));
+
+        acquired.increment();
+        if (wait > 0) {
+            delayed.increment();
+            totalWaitNanos.add(wait);
+            maxWaitNanos.accumulateAndGet(wait, Math::max);
+        }
+        return wait;
+    }
+
+    private static void park(long waitNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + waitNanos;
+        long remaining = waitNanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * Number of permits handed out
+     */
+    public long getAcquiredPermits() {
+        return acquired.sum();
+    }
+
+    /**
+     * Number of permits that had to wait
+     */
+    public long getDelayedPermits() {
+        return delayed.sum();
+    }
+
+    /**
+     * Number of timed acquires that gave up
+     */
+    public long getRejectedPermits() {
+        return rejected.sum();
+    }
+
+    /**
+     * Total time callers spent waiting for permits, in nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    /**
+     * Longest single wait for a permit, in nanoseconds
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    /**
+     * Average wait per acquired permit, in nanoseconds
+     */
+    public double getAverageWaitNanos() {
+        long count = acquired.sum();
+        return count == 0 ? 0 : totalWaitNanos.sum() / (double) count;
+    }
+}
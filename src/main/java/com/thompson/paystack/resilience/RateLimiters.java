@@ -0,0 +1,93 @@
+package com.thompson.paystack.resilience;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of rate limiters, keyed by secret key and endpoint family.
+ * <p>
+ * Paystack enforces limits per integration (secret key), so every client using the same registry
+ * and key shares the same buckets. A registry belongs to a configuration: clients built from it,
+ * or from copies made with {@link com.thompson.paystack.client.PaystackConfig#withSecretKey}
+ * (e.g. the tenants of a {@link com.thompson.paystack.client.PaystackClientPool}), share it, and
+ * it is dropped with them. Pass one registry to several configurations to share limiters across them
+ * (see {@link com.thompson.paystack.client.PaystackConfig.Builder#rateLimiters(RateLimiters)}).
+ * <p>
+ * Keys are stored as a SHA-256 fingerprint of the secret key, never the key itself.
+ */
+public final class RateLimiters {
+    private final ConcurrentMap<String, Registration> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * A limiter and the settings it was created with
+     */
+    private static final class Registration {
+        private final RateLimit rateLimit;
+        private final RateLimiter limiter;
+
+        private Registration(RateLimit rateLimit) {
+            this.rateLimit = rateLimit;
+            this.limiter = new RateLimiter(rateLimit.getPermitsPerSecond(), rateLimit.getBurst());
+        }
+    }
+
+    /**
+     * Get or create the limiter for a secret key and family
+     *
+     * @param secretKey Paystack secret key
+     * @param family    Endpoint family name
+     * @param rateLimit Settings of the limiter
+     * @return Shared limiter
+     * @throws IllegalArgumentException if the key and family already have a limiter with other settings
+     */
+    public RateLimiter forKey(String secretKey, String family, RateLimit rateLimit) {
+        Objects.requireNonNull(rateLimit, "rateLimit");
+        Registration registration = limiters.computeIfAbsent(fingerprint(secretKey) + '/' + family,
+                key -> new Registration(rateLimit));
+        if (!registration.rateLimit.equals(rateLimit)) {
+            throw new IllegalArgumentException("Rate limit of " + family + " is already " + registration.rateLimit
+                    + " for this secret key, cannot register " + rateLimit);
+        }
+        return registration.limiter;
+    }
+
+    /**
+     * Drop the limiters of a secret key, e.g. when its client is discarded. A limiter left idle
+     * for longer than its burst takes to refill has a full bucket, so dropping it then loses nothing.
+     *
+     * @param secretKey Paystack secret key
+     * @return Number of limiters dropped
+     */
+    public int remove(String secretKey) {
+        String prefix = fingerprint(secretKey) + '/';
+        int removed = 0;
+        for (String key : limiters.keySet()) {
+            if (key.startsWith(prefix) && limiters.remove(key) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Number of limiters, one per secret key and rate limited family
+     */
+    public int size() {
+        return limiters.size();
+    }
+
+    private static String fingerprint(String secretKey) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(secretKey.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
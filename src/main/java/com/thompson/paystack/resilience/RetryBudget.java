@@ -0,0 +1,65 @@
+package com.thompson.paystack.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client-wide budget that stops retries when a large share of calls is failing.
+ * <p>
+ * Token-based throttling: the budget starts full at {@code maxTokens}; each retryable
+ * failure removes one token and each success adds {@code tokenRatio} tokens back.
+ * Retries are only allowed while more than half of the tokens are left, so during an
+ * outage the client degrades to roughly one attempt per call instead of multiplying
+ * load on Paystack.
+ */
+public class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long maxTokens;
+    private final long threshold;
+    private final long tokenRatio;
+    private final AtomicLong tokens;
+
+    /**
+     * @param maxTokens  Size of the budget, in failures
+     * @param tokenRatio Tokens returned per successful call (e.g. 0.1 allows one retry per ten successes)
+     */
+    public RetryBudget(int maxTokens, double tokenRatio) {
+        if (maxTokens <= 0 || tokenRatio <= 0) {
+            throw new IllegalArgumentException("Max tokens and token ratio must be greater than 0");
+        }
+        this.maxTokens = maxTokens * SCALE;
+        this.threshold = this.maxTokens / 2;
+        this.tokenRatio = Math.max(1, Math.round(tokenRatio * SCALE));
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+
+    /**
+     * Record a successful call
+     */
+    public void onSuccess() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current >= maxTokens) {
+                return;
+            }
+        } while (!tokens.compareAndSet(current, Math.min(maxTokens, current + tokenRatio)));
+    }
+
+    /**
+     * Record a retryable failure and check whether it may be retried
+     *
+     * @return true if the budget still allows a retry
+     */
+    public boolean onFailure() {
+        long remaining = tokens.updateAndGet(current -> Math.max(0, current - SCALE));
+        return remaining > threshold;
+    }
+
+    /**
+     * Tokens currently left
+     */
+    public double getAvailableTokens() {
+        return tokens.get() / (double) SCALE;
+    }
+}
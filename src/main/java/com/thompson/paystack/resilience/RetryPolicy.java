@@ -0,0 +1,181 @@
+package com.thompson.paystack.resilience;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy for Paystack calls
+ * <p>
+ * Delays follow "decorrelated jitter": each delay is picked at random between the base delay
+ * and three times the previous delay (the base delay before the first retry), capped at the max delay. For 429 responses a
+ * {@code Retry-After} header takes precedence over the computed delay.
+ * <p>
+ * Whether a call may be retried at all is decided by the caller: idempotent endpoints
+ * (e.g. verify) retry freely, while POSTs that create something (e.g. initiate,
+ * chargeAuthorization) are only retried when the request carries a stable reference.
+ * <pre>
+ * PaystackConfig config = PaystackConfig.builder("sk_test_xxxxx")
+ *     .retryPolicy(RetryPolicy.defaults())
+ *     .retryPolicy("/transfer", RetryPolicy.builder().maxAttempts(5).build())
+ *     .build();
+ * </pre>
+ */
+public class RetryPolicy {
+    private static final RetryPolicy NONE = builder().maxAttempts(1).build();
+    private static final RetryPolicy DEFAULTS = builder().build();
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Set<Integer> retryableStatusCodes;
+    private final boolean retryOnNetworkError;
+    private final boolean respectRetryAfter;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+        this.retryableStatusCodes = Set.copyOf(builder.retryableStatusCodes);
+        this.retryOnNetworkError = builder.retryOnNetworkError;
+        this.respectRetryAfter = builder.respectRetryAfter;
+    }
+
+    /**
+     * Policy that never retries
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * 3 attempts, 200ms base delay, 5s max delay, retrying network errors, 429 and 5xx gateway errors
+     */
+    public static RetryPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public boolean isRetryOnNetworkError() {
+        return retryOnNetworkError;
+    }
+
+    public boolean isRespectRetryAfter() {
+        return respectRetryAfter;
+    }
+
+    /**
+     * Whether a response with this HTTP status should be retried
+     *
+     * @param statusCode HTTP status code
+     * @return true if the status is retryable under this policy
+     */
+    public boolean isRetryableStatus(int statusCode) {
+        return retryableStatusCodes.contains(statusCode);
+    }
+
+    /**
+     * Compute the delay before the next attempt
+     *
+     * @param previousDelayMillis Delay used before the previous attempt, or 0 for the first retry
+     * @param retryAfterMillis    Delay requested by a Retry-After header, or -1 if absent
+     * @return Delay in milliseconds, or -1 if the server asks to wait longer than the max delay
+     */
+    public long nextDelayMillis(long previousDelayMillis, long retryAfterMillis) {
+        long cap = maxDelay.toMillis();
+        if (respectRetryAfter && retryAfterMillis >= 0) {
+            return retryAfterMillis <= cap ? retryAfterMillis : -1;
+        }
+        long base = baseDelay.toMillis();
+        // The first retry is drawn from [base, 3 * base] too, so clients that failed together spread out
+        long previous = Math.max(base, previousDelayMillis);
+        long upper = Math.min(cap, previous * 3);
+        long delay = upper > base ? ThreadLocalRandom.current().nextLong(base, upper + 1) : base;
+        return Math.min(cap, delay);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for RetryPolicy
+     */
+    public static class Builder {
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(200);
+        private Duration maxDelay = Duration.ofSeconds(5);
+        private Set<Integer> retryableStatusCodes = Set.of(429, 500, 502, 503, 504);
+        private boolean retryOnNetworkError = true;
+        private boolean respectRetryAfter = true;
+
+        /**
+         * Total number of attempts including the first one (1 disables retries)
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Max attempts must be at least 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Lower bound of the jittered delay
+         */
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        /**
+         * Upper bound of the jittered delay and of an accepted Retry-After
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * HTTP status codes that should be retried
+         */
+        public Builder retryableStatusCodes(Set<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = retryableStatusCodes;
+            return this;
+        }
+
+        /**
+         * Retry when the call fails with an IOException (connect/read errors, timeouts)
+         */
+        public Builder retryOnNetworkError(boolean retryOnNetworkError) {
+            this.retryOnNetworkError = retryOnNetworkError;
+            return this;
+        }
+
+        /**
+         * Honor Retry-After headers instead of the computed delay
+         */
+        public Builder respectRetryAfter(boolean respectRetryAfter) {
+            this.respectRetryAfter = respectRetryAfter;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalArgumentException("Delays must satisfy 0 <= baseDelay <= maxDelay");
+            }
+            return new RetryPolicy(this);
+        }
+    }
+}
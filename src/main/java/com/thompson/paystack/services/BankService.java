@@ -0,0 +1,241 @@
+package com.thompson.paystack.services;
+
+import com.google.gson.reflect.TypeToken;
+import com.thompson.paystack.batch.ItemResult;
+import com.thompson.paystack.cache.ExpiringCache;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.exceptions.PaystackException;
+import com.thompson.paystack.http.Endpoint;
+import com.thompson.paystack.http.EndpointExecutor;
+import com.thompson.paystack.http.SingleFlight;
+import com.thompson.paystack.models.request.BankAccount;
+import com.thompson.paystack.models.response.AccountResolutionData;
+import com.thompson.paystack.models.response.BankData;
+import com.thompson.paystack.models.response.PaystackResponse;
+import okhttp3.OkHttpClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Service for Paystack bank operations
+ */
+public class BankService {
+    private static final Endpoint<List<BankData>> LIST = Endpoint
+            .get("/bank", new TypeToken<PaystackResponse<List<BankData>>>() {})
+            .query("country", "perPage", "use_cursor", "next")
+            .failureMessage("Failed to fetch banks")
+            .networkErrorMessage("Network error while fetching banks")
+            .build();
+
+    private static final Endpoint<AccountResolutionData> RESOLVE = Endpoint
+            .get("/bank/resolve", new TypeToken<PaystackResponse<AccountResolutionData>>() {})
+            .query("account_number", "bank_code")
+            .failureMessage("Failed to resolve account")
+            .networkErrorMessage("Network error while resolving account")
+            .build();
+
+    /**
+     * Banks requested per page when fetching the whole list
+     */
+    private static final String PAGE_SIZE = "100";
+
+    private final EndpointExecutor executor;
+    private final SingleFlight<BankAccount, PaystackResponse<AccountResolutionData>> resolveCalls = new SingleFlight<>();
+    private final ExpiringCache<BankAccount, ItemResult<PaystackResponse<AccountResolutionData>>> resolveCache;
+
+    public BankService(OkHttpClient httpClient, PaystackConfig config) {
+        this(new EndpointExecutor(httpClient, config));
+    }
+
+    public BankService(EndpointExecutor executor) {
+        this.executor = executor;
+        PaystackConfig config = executor.getConfig();
+        this.resolveCache = config.getResolveCacheSize() > 0
+                ? new ExpiringCache<>(config.getResolveCacheSize(), config.getResolveCacheTtl())
+                : null;
+    }
+
+    /**
+     * Fetch all banks of a country, following the list cursor until the last page
+     *
+     * @param country Country name as Paystack expects it (e.g. nigeria, ghana), or null for the default
+     * @return All banks
+     * @throws PaystackException if a request fails
+     */
+    public List<BankData> getAll(String country) {
+        List<BankData> banks = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaystackResponse<List<BankData>> page = executor.execute(LIST, null, country, PAGE_SIZE, "true", cursor);
+            cursor = addPage(banks, page);
+        } while (cursor != null);
+        return banks;
+    }
+
+    /**
+     * Fetch all banks of a country without blocking the calling thread
+     *
+     * @param country Country name as Paystack expects it (e.g. nigeria, ghana), or null for the default
+     * @return Future completed with all banks, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<List<BankData>> getAllAsync(String country) {
+        return fetchFrom(country, null, new ArrayList<>());
+    }
+
+    /**
+     * Resolve the name on a bank account, e.g. to confirm it before creating a transfer recipient.
+     * With a resolve cache configured (see {@link PaystackConfig.Builder#resolveCache}), results are cached,
+     * accounts that could not be resolved included. Concurrent resolutions of the same account share one API call.
+     *
+     * @param accountNumber Account number
+     * @param bankCode      Bank code, as in {@link BankData#getCode()}
+     * @return Response containing the account name
+     * @throws PaystackApiException if Paystack could not resolve the account
+     * @throws PaystackException    if request fails
+     */
+    public PaystackResponse<AccountResolutionData> resolveAccount(String accountNumber, String bankCode) {
+        BankAccount account = account(accountNumber, bankCode);
+        PaystackResponse<AccountResolutionData> cached = cachedResolution(account);
+        if (cached != null) {
+            return cached;
+        }
+        return resolveCalls.execute(account, () -> {
+            try {
+                return cacheResolution(account, executor.execute(RESOLVE, null, accountNumber, bankCode));
+            } catch (PaystackApiException e) {
+                cacheFailure(account, e);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Resolve the name on a bank account without blocking the calling thread
+     *
+     * @param accountNumber Account number
+     * @param bankCode      Bank code, as in {@link BankData#getCode()}
+     * @return Future completed with the account name, or failed with a {@link PaystackException}
+     * @see #resolveAccount(String, String)
+     */
+    public CompletableFuture<PaystackResponse<AccountResolutionData>> resolveAccountAsync(String accountNumber,
+                                                                                         String bankCode) {
+        BankAccount account = account(accountNumber, bankCode);
+        PaystackResponse<AccountResolutionData> cached;
+        try {
+            cached = cachedResolution(account);
+        } catch (PaystackApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return resolveCalls.executeAsync(account, () -> {
+            CompletableFuture<PaystackResponse<AccountResolutionData>> call =
+                    executor.executeAsync(RESOLVE, null, accountNumber, bankCode);
+            CompletableFuture<PaystackResponse<AccountResolutionData>> resolved = call.whenComplete((response, error) -> {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof PaystackApiException) {
+                    cacheFailure(account, (PaystackApiException) cause);
+                } else if (error == null) {
+                    cacheResolution(account, response);
+                }
+            });
+            // Cancelling the shared resolution cancels the HTTP call (a no-op once it has completed)
+            resolved.whenComplete((response, error) -> call.cancel(true));
+            return resolved;
+        });
+    }
+
+    /**
+     * Get the account resolution cache, e.g. to read its hit rate
+     *
+     * @return ExpiringCache instance, or null if resolutions are not cached
+     */
+    public ExpiringCache<BankAccount, ItemResult<PaystackResponse<AccountResolutionData>>> getResolveCache() {
+        return resolveCache;
+    }
+
+    /**
+     * Get the coalescing metrics of {@link #resolveAccount} and {@link #resolveAccountAsync}
+     *
+     * @return SingleFlight instance shared by both methods
+     */
+    public SingleFlight<BankAccount, PaystackResponse<AccountResolutionData>> getResolveCalls() {
+        return resolveCalls;
+    }
+
+    /**
+     * Cached resolution of the account, or null
+     *
+     * @throws PaystackApiException (a copy of the original) if the account is cached as not resolvable
+     */
+    private PaystackResponse<AccountResolutionData> cachedResolution(BankAccount account) {
+        if (resolveCache == null) {
+            return null;
+        }
+        ItemResult<PaystackResponse<AccountResolutionData>> cached = resolveCache.get(account);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isSuccess()) {
+            return cached.getData();
+        }
+        PaystackApiException error = (PaystackApiException) cached.getError();
+        throw new PaystackApiException(error.getMessage(), error.getStatusCode(), error.getResponseBody());
+    }
+
+    private PaystackResponse<AccountResolutionData> cacheResolution(BankAccount account,
+                                                                    PaystackResponse<AccountResolutionData> response) {
+        if (resolveCache != null) {
+            resolveCache.put(account, ItemResult.success(response));
+        }
+        return response;
+    }
+
+    /**
+     * Remember an account Paystack rejected (400 or 422). Other failures, such as rate limiting,
+     * authentication or server errors, say nothing about the account and are not cached.
+     */
+    private void cacheFailure(BankAccount account, PaystackApiException error) {
+        if (resolveCache != null && (error.getStatusCode() == 400 || error.getStatusCode() == 422)) {
+            resolveCache.put(account, ItemResult.failure(error), executor.getConfig().getResolveCacheNegativeTtl());
+        }
+    }
+
+    private static BankAccount account(String accountNumber, String bankCode) {
+        if (accountNumber == null || accountNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Account number cannot be null or empty");
+        }
+        if (bankCode == null || bankCode.trim().isEmpty()) {
+            throw new IllegalArgumentException("Bank code cannot be null or empty");
+        }
+        return BankAccount.of(accountNumber, bankCode);
+    }
+
+    private CompletableFuture<List<BankData>> fetchFrom(String country, String cursor, List<BankData> banks) {
+        return executor.executeAsync(LIST, null, country, PAGE_SIZE, "true", cursor)
+                .thenCompose(page -> {
+                    String next = addPage(banks, page);
+                    return next == null ? CompletableFuture.completedFuture(banks) : fetchFrom(country, next, banks);
+                });
+    }
+
+    /**
+     * Add the banks of a page
+     *
+     * @return Cursor of the next page, or null if this was the last one
+     */
+    private static String addPage(List<BankData> banks, PaystackResponse<List<BankData>> page) {
+        List<BankData> data = page.getData();
+        if (data == null || data.isEmpty()) {
+            return null;
+        }
+        banks.addAll(data);
+        String next = page.getMeta() == null ? null : page.getMeta().getNext();
+        return next == null || next.isEmpty() ? null : next;
+    }
+}
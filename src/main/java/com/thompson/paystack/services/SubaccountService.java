@@ -2,34 +2,62 @@ package com.thompson.paystack.services;
 
 import com.google.gson.reflect.TypeToken;
 import com.thompson.paystack.client.PaystackConfig;
-import com.thompson.paystack.exceptions.PaystackApiException;
 import com.thompson.paystack.exceptions.PaystackException;
+import com.thompson.paystack.http.Endpoint;
+import com.thompson.paystack.http.EndpointExecutor;
 import com.thompson.paystack.models.request.SubaccountCreateRequest;
 import com.thompson.paystack.models.response.PaystackResponse;
 import com.thompson.paystack.models.response.SubaccountData;
-import com.thompson.paystack.utils.JsonUtils;
-import okhttp3.*;
-import org.jetbrains.annotations.NotNull;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.IOException;
-import java.lang.reflect.Type;
+import com.thompson.paystack.pagination.Paginator;
+import okhttp3.OkHttpClient;
+
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for handling Paystack subaccount operations
  */
 public class SubaccountService {
-    private static final Logger log = LoggerFactory.getLogger(SubaccountService.class);
-    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
-
-    private final OkHttpClient httpClient;
-    private final PaystackConfig config;
+    private static final Endpoint<SubaccountData> CREATE = Endpoint
+            .post("/subaccount", new TypeToken<PaystackResponse<SubaccountData>>() {})
+            .failureMessage("Failed to create subaccount")
+            .networkErrorMessage("Network error while creating subaccount")
+            .build();
+
+    private static final Endpoint<SubaccountData> GET = Endpoint
+            .get("/subaccount/{code}", new TypeToken<PaystackResponse<SubaccountData>>() {})
+            .failureMessage("Failed to fetch subaccount")
+            .networkErrorMessage("Network error while fetching subaccount")
+            .build();
+
+    private static final Endpoint<List<SubaccountData>> GET_ALL = Endpoint
+            .get("/subaccount", new TypeToken<PaystackResponse<List<SubaccountData>>>() {})
+            .failureMessage("Failed to fetch subaccount")
+            .networkErrorMessage("Network error while fetching subaccount")
+            .build();
+
+    private static final Endpoint<SubaccountData> UPDATE = Endpoint
+            .put("/subaccount/{code}", new TypeToken<PaystackResponse<SubaccountData>>() {})
+            .failureMessage("Failed to update subaccount")
+            .networkErrorMessage("Network error while updating subaccount")
+            .idempotent(true)
+            .build();
+
+    private static final Endpoint<List<SubaccountData>> LIST = Endpoint
+            .get("/subaccount", new TypeToken<PaystackResponse<List<SubaccountData>>>() {})
+            .query("perPage", "page")
+            .failureMessage("Failed to list subaccounts")
+            .networkErrorMessage("Network error while listing subaccounts")
+            .build();
+
+    private final EndpointExecutor executor;
 
     public SubaccountService(OkHttpClient httpClient, PaystackConfig config) {
-        this.httpClient = httpClient;
-        this.config = config;
+        this(new EndpointExecutor(httpClient, config));
+    }
+
+    public SubaccountService(EndpointExecutor executor) {
+        this.executor = executor;
     }
 
     /**
@@ -40,34 +68,17 @@ public class SubaccountService {
      * @throws PaystackException if request fails
      */
     public PaystackResponse<SubaccountData> create(SubaccountCreateRequest request) {
-        String url = config.getBaseUrl() + "/subaccount";
-        String jsonBody = JsonUtils.toJson(request);
-        log.debug("Create Subaccount request: {}", jsonBody);
-
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .addHeader("Content-Type", "application/json")
-                .post(RequestBody.create(jsonBody, JSON))
-                .build();
-
-        try (Response response = httpClient.newCall(httpRequest).execute();) {
-
-            String responseBody = response.body().string();
-
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to create subaccount: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            return getSubaccountDataPaystackResponse(response, responseBody);
+        return executor.execute(CREATE, request);
+    }
 
-        } catch (IOException e) {
-            throw new PaystackException("Network error while creating subaccount", e);
-        }
+    /**
+     * Create a new subaccount without blocking the calling thread
+     *
+     * @param request Subaccount creation request
+     * @return Future completed with the subaccount details, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<SubaccountData>> createAsync(SubaccountCreateRequest request) {
+        return executor.executeAsync(CREATE, request);
     }
 
     /**
@@ -78,105 +89,59 @@ public class SubaccountService {
      * @throws PaystackException if request fails
      */
     public PaystackResponse<SubaccountData> get(String subaccountCode) {
-        if (subaccountCode == null || subaccountCode.trim().isEmpty()) {
-            throw new IllegalArgumentException("Subaccount code cannot be null or empty");
-        }
-
-        String url = config.getBaseUrl() + "/subaccount/" + subaccountCode;
-
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .get()
-                .build();
-
-        try (Response response = httpClient.newCall(httpRequest).execute();) {
-            String responseBody = response.body().string();
-
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to fetch subaccount: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            return getSubaccountDataPaystackResponse(response, responseBody);
-
-        } catch (IOException e) {
-            throw new PaystackException("Network error while fetching subaccount", e);
-        }
-    }
-
-    @NotNull
-    private PaystackResponse<SubaccountData> getSubaccountDataPaystackResponse(Response response, String responseBody) {
-        Type type = new TypeToken<PaystackResponse<SubaccountData>>() {
-        }.getType();
-        PaystackResponse<SubaccountData> paystackResponse = JsonUtils.getGson().fromJson(responseBody, type);
-
-        if (!paystackResponse.isStatus()) {
-            throw new PaystackApiException(
-                    "API returned error: " + paystackResponse.getMessage(),
-                    response.code(),
-                    responseBody
-            );
-        }
-
-        return paystackResponse;
+        validateCode(subaccountCode);
+        return executor.execute(GET, null, subaccountCode);
     }
 
-    private PaystackResponse<List<SubaccountData>> getSubaccountListPaystackResponse(Response response, String responseBody) {
-        Type type = new TypeToken<PaystackResponse<List<SubaccountData>>>() {}.getType();
-        PaystackResponse<List<SubaccountData>> paystackResponse = JsonUtils.getGson().fromJson(responseBody, type);
-        if (!paystackResponse.isStatus()) {
-            throw new PaystackApiException("API returned error: " + paystackResponse.getMessage(), response.code(), responseBody);
-        }
-        return paystackResponse;
+    /**
+     * Fetch details of a subaccount without blocking the calling thread
+     *
+     * @param subaccountCode The subaccount code (e.g., ACCT_xxxxxxxxx)
+     * @return Future completed with the subaccount details, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<SubaccountData>> getAsync(String subaccountCode) {
+        validateCode(subaccountCode);
+        return executor.executeAsync(GET, null, subaccountCode);
     }
 
-
     /**
-     * Fetch all subaccount
+     * Fetch all subaccount.
+     * This is a single request, so Paystack only returns its first page; use {@link #list()} to go through all of them.
      *
      * @return Response containing lists of subaccounts
      * @throws PaystackException if request fails
      */
     public PaystackResponse<List<SubaccountData>> getAll() {
-        String url = config.getBaseUrl() + "/subaccount";
-
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .get()
-                .build();
-
-
-        try (Response response = httpClient.newCall(httpRequest).execute();) {
-            String responseBody = response.body().string();
-
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to fetch subaccount: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            PaystackResponse<List<SubaccountData>> paystackResponse = getSubaccountListPaystackResponse(response, responseBody);
+        return executor.execute(GET_ALL, null);
+    }
 
-            if (!paystackResponse.isStatus()) {
-                throw new PaystackApiException(
-                        "API returned error: " + paystackResponse.getMessage(),
-                        response.code(),
-                        responseBody
-                );
-            }
+    /**
+     * Fetch all subaccounts without blocking the calling thread
+     *
+     * @return Future completed with the list of subaccounts, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<List<SubaccountData>>> getAllAsync() {
+        return executor.executeAsync(GET_ALL, null);
+    }
 
-            return paystackResponse;
+    /**
+     * List subaccounts, newest first, fetching pages lazily as the items are consumed
+     *
+     * @return Paginator over all subaccounts, {@value Paginator#DEFAULT_PER_PAGE} per page
+     */
+    public Paginator<SubaccountData> list() {
+        return list(Paginator.DEFAULT_PER_PAGE);
+    }
 
-        } catch (IOException e) {
-            throw new PaystackException("Network error while fetching subaccount", e);
-        }
+    /**
+     * List subaccounts, fetching pages lazily as the items are consumed
+     *
+     * @param perPage Items per page
+     * @return Paginator over all subaccounts
+     */
+    public Paginator<SubaccountData> list(int perPage) {
+        return new Paginator<>((page, size) -> executor.executeAsync(LIST, null,
+                String.valueOf(size), String.valueOf(page)), perPage);
     }
 
     /**
@@ -188,32 +153,24 @@ public class SubaccountService {
      * @throws PaystackException if request fails
      */
     public PaystackResponse<SubaccountData> update(String subaccountCodeOrId, SubaccountCreateRequest request) {
-        String url = config.getBaseUrl() + "/subaccount/" + subaccountCodeOrId;
-        String jsonBody = JsonUtils.toJson(request);
-        log.debug("Update Subaccount request: {}", jsonBody);
-
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .addHeader("Content-Type", "application/json")
-                .put(RequestBody.create(jsonBody, JSON))
-                .build();
-
-        try (Response response = httpClient.newCall(httpRequest).execute();) {
-            String responseBody = response.body().string();
-
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to update subaccount: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            return getSubaccountDataPaystackResponse(response, responseBody);
-
-        } catch (IOException e) {
-            throw new PaystackException("Network error while updating subaccount", e);
+        return executor.execute(UPDATE, request, subaccountCodeOrId);
+    }
+
+    /**
+     * Updates details of a subaccount without blocking the calling thread
+     *
+     * @param subaccountCodeOrId The subaccount code or Id (e.g., ACCT_xxxxxxxxx)
+     * @param request            The subaccount updated pay load
+     * @return Future completed with the subaccount details, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<SubaccountData>> updateAsync(String subaccountCodeOrId,
+                                                                         SubaccountCreateRequest request) {
+        return executor.executeAsync(UPDATE, request, subaccountCodeOrId);
+    }
+
+    private static void validateCode(String subaccountCode) {
+        if (subaccountCode == null || subaccountCode.trim().isEmpty()) {
+            throw new IllegalArgumentException("Subaccount code cannot be null or empty");
         }
     }
 
@@ -1,35 +1,76 @@
 package com.thompson.paystack.services;
 
 import com.google.gson.reflect.TypeToken;
+import com.thompson.paystack.batch.BatchIterator;
+import com.thompson.paystack.batch.BatchVerifier;
+import com.thompson.paystack.batch.ItemResult;
+import com.thompson.paystack.cache.VerificationCache;
 import com.thompson.paystack.client.PaystackConfig;
-import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.enums.TransactionStatus;
 import com.thompson.paystack.exceptions.PaystackException;
+import com.thompson.paystack.http.Endpoint;
+import com.thompson.paystack.http.EndpointExecutor;
+import com.thompson.paystack.http.SingleFlight;
 import com.thompson.paystack.models.request.ChargeAuthorizationRequest;
 import com.thompson.paystack.models.request.TransactionInitRequest;
 import com.thompson.paystack.models.response.PaystackResponse;
 import com.thompson.paystack.models.response.TransactionData;
 import com.thompson.paystack.models.response.TransactionInitData;
-import com.thompson.paystack.utils.JsonUtils;
-import okhttp3.*;
+import com.thompson.paystack.pagination.Paginator;
+import okhttp3.OkHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * Service for handling Paystack transaction operations
  */
 public class TransactionService {
     private static final Logger LOGGER = LoggerFactory.getLogger(TransactionService.class);
-    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
 
-    private final OkHttpClient httpClient;
-    private final PaystackConfig config;
+    private static final Endpoint<TransactionInitData> INITIALIZE = Endpoint
+            .post("/transaction/initialize", new TypeToken<PaystackResponse<TransactionInitData>>() {})
+            .failureMessage("Failed to initialize transaction")
+            .networkErrorMessage("Network error while initializing transaction")
+            .build();
+
+    private static final Endpoint<TransactionData> VERIFY = Endpoint
+            .get("/transaction/verify/{reference}", new TypeToken<PaystackResponse<TransactionData>>() {})
+            .failureMessage("Failed to verify transaction")
+            .networkErrorMessage("Network error while verifying transaction")
+            .build();
+
+    private static final Endpoint<TransactionData> CHARGE_AUTHORIZATION = Endpoint
+            .post("/transaction/charge_authorization", new TypeToken<PaystackResponse<TransactionData>>() {})
+            .failureMessage("Failed to charge authorization")
+            .networkErrorMessage("Network error while charging authorization")
+            .build();
+
+    private static final Endpoint<List<TransactionData>> LIST = Endpoint
+            .get("/transaction", new TypeToken<PaystackResponse<List<TransactionData>>>() {})
+            .query("perPage", "page", "status")
+            .failureMessage("Failed to list transactions")
+            .networkErrorMessage("Network error while listing transactions")
+            .build();
+
+    private final EndpointExecutor executor;
+    private final SingleFlight<String, PaystackResponse<TransactionData>> verifyCalls = new SingleFlight<>();
+    private final VerificationCache<TransactionData> verifyCache;
 
     public TransactionService(OkHttpClient httpClient, PaystackConfig config) {
-        this.httpClient = httpClient;
-        this.config = config;
+        this(new EndpointExecutor(httpClient, config));
+    }
+
+    public TransactionService(EndpointExecutor executor) {
+        this.executor = executor;
+        PaystackConfig config = executor.getConfig();
+        this.verifyCache = config.getVerifyCacheSize() > 0
+                ? new VerificationCache<>(config.getVerifyCacheSize(), config.getVerifyCacheTtl(),
+                        TransactionData::getReference, data -> data.getStatusEnum() != TransactionStatus.PENDING)
+                : null;
     }
 
     /**
@@ -40,92 +81,129 @@ public class TransactionService {
      * @throws PaystackException if request fails
      */
     public PaystackResponse<TransactionInitData> initialize(TransactionInitRequest request) {
-        String url = config.getBaseUrl() + "/transaction/initialize";
-        String jsonBody = JsonUtils.toJson(request);
-
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .addHeader("Content-Type", "application/json")
-                .post(RequestBody.create(jsonBody, JSON))
-                .build();
-
-        try (Response response = httpClient.newCall(httpRequest).execute()) {
-            String responseBody = response.body().string();
-
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to initialize transaction: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            Type type = new TypeToken<PaystackResponse<TransactionInitData>>() {
-            }.getType();
-            PaystackResponse<TransactionInitData> paystackResponse = JsonUtils.getGson().fromJson(responseBody, type);
-
-            if (!paystackResponse.isStatus()) {
-                throw new PaystackApiException(
-                        "API returned error: " + paystackResponse.getMessage(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            return paystackResponse;
-        } catch (IOException e) {
-            throw new PaystackException("Network error while initializing transaction", e);
-        }
+        return executor.execute(INITIALIZE, request);
+    }
+
+    /**
+     * Initialize a transaction without blocking the calling thread
+     *
+     * @param request Transaction initialization request
+     * @return Future completed with the authorization URL and reference, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<TransactionInitData>> initializeAsync(TransactionInitRequest request) {
+        return executor.executeAsync(INITIALIZE, request);
     }
 
     /**
-     * Verify a transaction using its reference
+     * Verify a transaction using its reference.
+     * Concurrent verifications of the same reference share one API call and its response;
+     * with a verify cache configured, final results are served from the cache.
      *
      * @param reference Transaction reference
      * @return Response containing complete transaction details
      * @throws PaystackException if request fails
      */
     public PaystackResponse<TransactionData> verify(String reference) {
-        if (reference == null || reference.trim().isEmpty()) {
-            throw new IllegalArgumentException("Reference cannot be null or empty");
+        validateReference(reference);
+        PaystackResponse<TransactionData> cached = cachedVerification(reference);
+        if (cached != null) {
+            return cached;
         }
+        PaystackResponse<TransactionData> paystackResponse =
+                verifyCalls.execute(reference, () -> cacheVerification(reference, executor.execute(VERIFY, null, reference)));
+        LOGGER.debug("Paystack response: {}", paystackResponse);
+        return paystackResponse;
+    }
 
-        String url = config.getBaseUrl() + "/transaction/verify/" + reference;
-
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .get()
-                .build();
-
-        try (Response response = httpClient.newCall(httpRequest).execute()) {
-            String responseBody = response.body().string();
-            LOGGER.debug(responseBody);
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to verify transaction: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            Type type = new TypeToken<PaystackResponse<TransactionData>>() {}.getType();
-            PaystackResponse<TransactionData> paystackResponse = JsonUtils.getGson().fromJson(responseBody, type);
-            LOGGER.debug("Paystack response: {}", paystackResponse);
-            if (!paystackResponse.isStatus()) {
-                throw new PaystackApiException(
-                        "API returned error: " + paystackResponse.getMessage(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            return paystackResponse;
-        } catch (IOException e) {
-            throw new PaystackException("Network error while verifying transaction", e);
+    /**
+     * Verify a transaction without blocking the calling thread.
+     * Concurrent verifications of the same reference share one API call and its response;
+     * with a verify cache configured, final results are served from the cache.
+     *
+     * @param reference Transaction reference
+     * @return Future completed with the transaction details, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<TransactionData>> verifyAsync(String reference) {
+        validateReference(reference);
+        PaystackResponse<TransactionData> cached = cachedVerification(reference);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+        return verifyCalls.executeAsync(reference, () -> {
+            CompletableFuture<PaystackResponse<TransactionData>> call = executor.executeAsync(VERIFY, null, reference);
+            CompletableFuture<PaystackResponse<TransactionData>> verified =
+                    call.thenApply(response -> cacheVerification(reference, response));
+            // Cancelling the shared verification cancels the HTTP call (a no-op once it has completed)
+            verified.whenComplete((response, error) -> call.cancel(true));
+            return verified;
+        });
+    }
 
+    /**
+     * Verify many transactions with at most {@code concurrency} calls in flight, calling the callback
+     * on the calling thread as each result arrives. A failed reference gets a failed {@link ItemResult}
+     * and the batch carries on.
+     *
+     * @param references  Transaction references, read lazily
+     * @param concurrency Maximum verifications in flight
+     * @param callback    Receives each reference with its result, in completion order
+     */
+    public void verifyAll(Iterable<String> references, int concurrency,
+                          BiConsumer<String, ItemResult<PaystackResponse<TransactionData>>> callback) {
+        new BatchVerifier<>(this::verifyAsync, concurrency).verify(references, callback);
+    }
+
+    /**
+     * Verify many transactions with at most {@code concurrency} calls in flight, starting calls
+     * as the returned iterator is consumed
+     *
+     * @param references  Transaction references, read lazily
+     * @param concurrency Maximum verifications in flight
+     * @return Iterator over each reference with its result, in completion order; close it to stop early
+     */
+    public BatchIterator<PaystackResponse<TransactionData>> verifyAll(Iterable<String> references, int concurrency) {
+        return new BatchVerifier<>(this::verifyAsync, concurrency).iterator(references);
+    }
+
+    /**
+     * List transactions, newest first, fetching pages lazily as the items are consumed
+     *
+     * @return Paginator over all transactions, {@value Paginator#DEFAULT_PER_PAGE} per page
+     */
+    public Paginator<TransactionData> list() {
+        return list(Paginator.DEFAULT_PER_PAGE, null);
+    }
+
+    /**
+     * List transactions, fetching pages lazily as the items are consumed
+     *
+     * @param perPage Items per page
+     * @return Paginator over all transactions
+     */
+    public Paginator<TransactionData> list(int perPage) {
+        return list(perPage, null);
+    }
+
+    /**
+     * List transactions, fetching pages lazily as the items are consumed
+     *
+     * @param perPage Items per page
+     * @param status  Only list transactions with this status, or null for all
+     * @return Paginator over the matching transactions
+     */
+    public Paginator<TransactionData> list(int perPage, TransactionStatus status) {
+        String statusValue = status == null ? null : status.getValue();
+        return new Paginator<>((page, size) -> executor.executeAsync(LIST, null,
+                String.valueOf(size), String.valueOf(page), statusValue), perPage);
+    }
+
+    /**
+     * Get the coalescing metrics of {@link #verify} and {@link #verifyAsync}
+     *
+     * @return SingleFlight instance shared by both methods
+     */
+    public SingleFlight<String, PaystackResponse<TransactionData>> getVerifyCalls() {
+        return verifyCalls;
     }
 
     /**
@@ -136,43 +214,42 @@ public class TransactionService {
      * @throws PaystackException if request fails
      */
     public PaystackResponse<TransactionData> chargeAuthorization(ChargeAuthorizationRequest request) {
-        String url = config.getBaseUrl() + "/transaction/charge_authorization";
-        String jsonBody = JsonUtils.toJson(request);
-
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .addHeader("Content-Type", "application/json")
-                .post(RequestBody.create(jsonBody, JSON))
-                .build();
-
-        try {
-            Response response = httpClient.newCall(httpRequest).execute();
-            String responseBody = response.body().string();
-
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to charge authorization: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            Type type = new TypeToken<PaystackResponse<TransactionData>>(){}.getType();
-            PaystackResponse<TransactionData> paystackResponse = JsonUtils.getGson().fromJson(responseBody, type);
-
-            if (!paystackResponse.isStatus()) {
-                throw new PaystackApiException(
-                        "API returned error: " + paystackResponse.getMessage(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            return paystackResponse;
-
-        } catch (IOException e) {
-            throw new PaystackException("Network error while charging authorization", e);
+        return executor.execute(CHARGE_AUTHORIZATION, request);
+    }
+
+    /**
+     * Charge a saved authorization without blocking the calling thread
+     *
+     * @param request Charge authorization request
+     * @return Future completed with the transaction data, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<TransactionData>> chargeAuthorizationAsync(ChargeAuthorizationRequest request) {
+        return executor.executeAsync(CHARGE_AUTHORIZATION, request);
+    }
+
+    /**
+     * Get the cache of final verify results, e.g. to read its hit rate
+     *
+     * @return VerificationCache instance, or null if no verify cache is configured
+     */
+    public VerificationCache<TransactionData> getVerifyCache() {
+        return verifyCache;
+    }
+
+    private PaystackResponse<TransactionData> cachedVerification(String reference) {
+        return verifyCache == null ? null : verifyCache.get(reference);
+    }
+
+    private PaystackResponse<TransactionData> cacheVerification(String reference, PaystackResponse<TransactionData> response) {
+        if (verifyCache != null) {
+            verifyCache.putIfTerminal(reference, response);
+        }
+        return response;
+    }
+
+    private static void validateReference(String reference) {
+        if (reference == null || reference.trim().isEmpty()) {
+            throw new IllegalArgumentException("Reference cannot be null or empty");
         }
     }
 
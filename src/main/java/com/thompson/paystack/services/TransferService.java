@@ -1,30 +1,106 @@
 package com.thompson.paystack.services;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
+import com.thompson.paystack.batch.BulkSubmitter;
+import com.thompson.paystack.batch.ItemResult;
+import com.thompson.paystack.cache.VerificationCache;
 import com.thompson.paystack.client.PaystackConfig;
-import com.thompson.paystack.exceptions.PaystackApiException;
 import com.thompson.paystack.exceptions.PaystackException;
+import com.thompson.paystack.http.Endpoint;
+import com.thompson.paystack.http.EndpointExecutor;
+import com.thompson.paystack.http.SingleFlight;
+import com.thompson.paystack.models.request.BankAccount;
+import com.thompson.paystack.models.request.BulkTransferRecipientRequest;
+import com.thompson.paystack.models.request.BulkTransferRequest;
 import com.thompson.paystack.models.request.TransferInitRequest;
 import com.thompson.paystack.models.request.TransferRecipientRequest;
 import com.thompson.paystack.models.response.*;
-import com.thompson.paystack.utils.JsonUtils;
-import okhttp3.*;
+import com.thompson.paystack.pagination.Paginator;
+import com.thompson.paystack.utils.ReferenceGenerator;
+import okhttp3.OkHttpClient;
 
-import java.io.IOException;
-import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for handling Paystack transfer operations
  */
 public class TransferService {
-    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final Endpoint<TransferRecipientData> CREATE_RECIPIENT = Endpoint
+            .post("/transferrecipient", new TypeToken<PaystackResponse<TransferRecipientData>>() {})
+            .failureMessage("Failed to create recipient")
+            .networkErrorMessage("Network error while creating recipient")
+            .build();
 
-    private final OkHttpClient httpClient;
-    private final PaystackConfig config;
+    private static final Endpoint<TransferData> INITIATE = Endpoint
+            .post("/transfer", new TypeToken<PaystackResponse<TransferData>>() {})
+            .failureMessage("Failed to initiate transfer")
+            .networkErrorMessage("Network error while initiating transfer")
+            .build();
+
+    private static final Endpoint<TransferData> VERIFY = Endpoint
+            .get("/transfer/verify/{reference}", new TypeToken<PaystackResponse<TransferData>>() {})
+            .failureMessage("Failed to verify transfer")
+            .networkErrorMessage("Network error while verifying transfer")
+            .build();
+
+    private static final Endpoint<List<TransferData>> LIST = Endpoint
+            .get("/transfer", new TypeToken<PaystackResponse<List<TransferData>>>() {})
+            .query("perPage", "page")
+            .failureMessage("Failed to list transfers")
+            .networkErrorMessage("Network error while listing transfers")
+            .build();
+
+    private static final Endpoint<List<BulkTransferData>> INITIATE_BULK = Endpoint
+            .post("/transfer/bulk", new TypeToken<PaystackResponse<List<BulkTransferData>>>() {})
+            .failureMessage("Failed to initiate bulk transfer")
+            .networkErrorMessage("Network error while initiating bulk transfer")
+            .build();
+
+    private static final Endpoint<BulkTransferRecipientData> CREATE_RECIPIENT_BULK = Endpoint
+            .post("/transferrecipient/bulk", new TypeToken<PaystackResponse<BulkTransferRecipientData>>() {})
+            .failureMessage("Failed to create transfer recipients")
+            .networkErrorMessage("Network error while creating transfer recipients")
+            .build();
+
+    /**
+     * Maximum number of transfers Paystack accepts in one bulk request
+     */
+    public static final int BULK_TRANSFER_CHUNK_SIZE = 100;
+
+    /**
+     * Number of recipients sent per bulk recipient request
+     */
+    public static final int BULK_RECIPIENT_CHUNK_SIZE = 100;
+
+    /**
+     * Default maximum number of bulk requests in flight
+     */
+    public static final int DEFAULT_BULK_CONCURRENCY = 4;
+
+    private static final Set<String> FINAL_STATUSES = Set.of("success", "failed", "reversed", "rejected", "abandoned");
+
+    private final EndpointExecutor executor;
+    private final SingleFlight<String, PaystackResponse<TransferData>> verifyCalls = new SingleFlight<>();
+    private final VerificationCache<TransferData> verifyCache;
 
     public TransferService(OkHttpClient httpClient, PaystackConfig config) {
-        this.httpClient = httpClient;
-        this.config = config;
+        this(new EndpointExecutor(httpClient, config));
+    }
+
+    public TransferService(EndpointExecutor executor) {
+        this.executor = executor;
+        PaystackConfig config = executor.getConfig();
+        this.verifyCache = config.getVerifyCacheSize() > 0
+                ? new VerificationCache<>(config.getVerifyCacheSize(), config.getVerifyCacheTtl(),
+                        TransferData::getReference, TransferService::isFinal)
+                : null;
     }
 
     /**
@@ -34,45 +110,51 @@ public class TransferService {
      * @return Response containing recipient code
      */
     public PaystackResponse<TransferRecipientData> createRecipient(TransferRecipientRequest request) {
-        String url = config.getBaseUrl() + "/transferrecipient";
-        String jsonBody = JsonUtils.toJson(request);
-
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .addHeader("Content-Type", "application/json")
-                .post(RequestBody.create(jsonBody, JSON))
-                .build();
-
-        try {
-            Response response = httpClient.newCall(httpRequest).execute();
-            String responseBody = response.body().string();
-
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to create recipient: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            Type type = new TypeToken<PaystackResponse<TransferRecipientData>>(){}.getType();
-            PaystackResponse<TransferRecipientData> paystackResponse =
-                    JsonUtils.getGson().fromJson(responseBody, type);
+        return executor.execute(CREATE_RECIPIENT, request);
+    }
 
-            if (!paystackResponse.isStatus()) {
-                throw new PaystackApiException(
-                        "API returned error: " + paystackResponse.getMessage(),
-                        response.code(),
-                        responseBody
-                );
-            }
+    /**
+     * Create a transfer recipient without blocking the calling thread
+     *
+     * @param request Recipient creation request
+     * @return Future completed with the recipient code, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<TransferRecipientData>> createRecipientAsync(TransferRecipientRequest request) {
+        return executor.executeAsync(CREATE_RECIPIENT, request);
+    }
 
-            return paystackResponse;
+    /**
+     * Create many transfer recipients through the bulk recipient endpoint, at most
+     * {@value #DEFAULT_BULK_CONCURRENCY} bulk requests at a time
+     *
+     * @param requests Recipients to create
+     * @return Result per account; the recipient code is {@link TransferRecipientData#getRecipientCode()}
+     * @see #createRecipients(Iterable, int)
+     */
+    public Map<BankAccount, ItemResult<TransferRecipientData>> createRecipients(Iterable<TransferRecipientRequest> requests) {
+        return createRecipients(requests, DEFAULT_BULK_CONCURRENCY);
+    }
 
-        } catch (IOException e) {
-            throw new PaystackException("Network error while creating recipient", e);
-        }
+    /**
+     * Create many transfer recipients through the bulk recipient endpoint.
+     * <p>
+     * The input is read lazily and split into requests of {@value #BULK_RECIPIENT_CHUNK_SIZE} recipients.
+     * Recipients rejected by Paystack fail with the error it reported for them; a failed bulk request
+     * fails each of its recipients, and other requests carry on.
+     *
+     * @param requests            Recipients to create; each account (account number and bank code) once
+     * @param maxConcurrentChunks Maximum bulk requests in flight
+     * @return Result per account; the recipient code is {@link TransferRecipientData#getRecipientCode()}
+     */
+    public Map<BankAccount, ItemResult<TransferRecipientData>> createRecipients(Iterable<TransferRecipientRequest> requests,
+                                                                                int maxConcurrentChunks) {
+        BulkSubmitter<TransferRecipientRequest, BankAccount, TransferRecipientData> submitter = new BulkSubmitter<>(
+                BULK_RECIPIENT_CHUNK_SIZE, maxConcurrentChunks,
+                request -> Boolean.TRUE,
+                BankAccount::of,
+                chunk -> executor.executeAsync(CREATE_RECIPIENT_BULK, new BulkTransferRecipientRequest(chunk))
+                        .thenApply(response -> recipientResults(chunk, response.getData())));
+        return submitter.submit(requests);
     }
 
     /**
@@ -82,94 +164,272 @@ public class TransferService {
      * @return Response containing transfer details
      */
     public PaystackResponse<TransferData> initiate(TransferInitRequest request) {
-        String url = config.getBaseUrl() + "/transfer";
-        String jsonBody = JsonUtils.toJson(request);
-
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .addHeader("Content-Type", "application/json")
-                .post(RequestBody.create(jsonBody, JSON))
-                .build();
-
-        try {
-            Response response = httpClient.newCall(httpRequest).execute();
-            String responseBody = response.body().string();
-
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to initiate transfer: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
-            }
-
-            Type type = new TypeToken<PaystackResponse<TransferData>>(){}.getType();
-            PaystackResponse<TransferData> paystackResponse =
-                    JsonUtils.getGson().fromJson(responseBody, type);
+        return executor.execute(INITIATE, request);
+    }
 
-            if (!paystackResponse.isStatus()) {
-                throw new PaystackApiException(
-                        "API returned error: " + paystackResponse.getMessage(),
-                        response.code(),
-                        responseBody
-                );
-            }
+    /**
+     * Initiate a transfer without blocking the calling thread
+     *
+     * @param request Transfer initialization request
+     * @return Future completed with the transfer details, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<TransferData>> initiateAsync(TransferInitRequest request) {
+        return executor.executeAsync(INITIATE, request);
+    }
 
-            return paystackResponse;
+    /**
+     * Initiate many transfers through the bulk transfer endpoint, at most
+     * {@value #DEFAULT_BULK_CONCURRENCY} bulk requests at a time
+     *
+     * @param requests Transfers to initiate
+     * @return Result per transfer reference
+     * @see #initiateBulk(Iterable, int)
+     */
+    public Map<String, ItemResult<BulkTransferData>> initiateBulk(Iterable<TransferInitRequest> requests) {
+        return initiateBulk(requests, DEFAULT_BULK_CONCURRENCY);
+    }
 
-        } catch (IOException e) {
-            throw new PaystackException("Network error while initiating transfer", e);
-        }
+    /**
+     * Initiate many transfers through the bulk transfer endpoint.
+     * <p>
+     * The input is read lazily and split into requests of {@value #BULK_TRANSFER_CHUNK_SIZE} transfers with
+     * the same source and currency. Transfers without a reference get one from
+     * {@link ReferenceGenerator#getDefault()} (set on the request). A failed bulk request fails each of its
+     * transfers; other requests carry on.
+     *
+     * @param requests            Transfers to initiate; references must be unique
+     * @param maxConcurrentChunks Maximum bulk requests in flight
+     * @return Result per transfer reference
+     */
+    public Map<String, ItemResult<BulkTransferData>> initiateBulk(Iterable<TransferInitRequest> requests,
+                                                                  int maxConcurrentChunks) {
+        BulkSubmitter<TransferInitRequest, String, BulkTransferData> submitter = new BulkSubmitter<>(
+                BULK_TRANSFER_CHUNK_SIZE, maxConcurrentChunks,
+                request -> request.getSource() + '/' + request.getCurrency(),
+                TransferInitRequest::getReference,
+                BulkTransferData::getReference,
+                chunk -> executor.executeAsync(INITIATE_BULK, BulkTransferRequest.from(chunk))
+                        .thenApply(PaystackResponse::getData));
+        return submitter.submit(withReferences(requests));
     }
 
     /**
-     * Verify a transfer
+     * Verify a transfer.
+     * Concurrent verifications of the same reference share one API call and its response;
+     * with a verify cache configured, final results are served from the cache.
      *
      * @param reference Transfer reference
      * @return Response containing transfer details
      */
     public PaystackResponse<TransferData> verify(String reference) {
-        if (reference == null || reference.trim().isEmpty()) {
-            throw new IllegalArgumentException("Reference cannot be null or empty");
+        validateReference(reference);
+        PaystackResponse<TransferData> cached = cachedVerification(reference);
+        if (cached != null) {
+            return cached;
         }
+        return verifyCalls.execute(reference, () -> cacheVerification(reference, executor.execute(VERIFY, null, reference)));
+    }
 
-        String url = config.getBaseUrl() + "/transfer/verify/" + reference;
+    /**
+     * Verify a transfer without blocking the calling thread.
+     * Concurrent verifications of the same reference share one API call and its response;
+     * with a verify cache configured, final results are served from the cache.
+     *
+     * @param reference Transfer reference
+     * @return Future completed with the transfer details, or failed with a {@link PaystackException}
+     */
+    public CompletableFuture<PaystackResponse<TransferData>> verifyAsync(String reference) {
+        validateReference(reference);
+        PaystackResponse<TransferData> cached = cachedVerification(reference);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return verifyCalls.executeAsync(reference, () -> {
+            CompletableFuture<PaystackResponse<TransferData>> call = executor.executeAsync(VERIFY, null, reference);
+            CompletableFuture<PaystackResponse<TransferData>> verified =
+                    call.thenApply(response -> cacheVerification(reference, response));
+            // Cancelling the shared verification cancels the HTTP call (a no-op once it has completed)
+            verified.whenComplete((response, error) -> call.cancel(true));
+            return verified;
+        });
+    }
+
+    /**
+     * List transfers, newest first, fetching pages lazily as the items are consumed
+     *
+     * @return Paginator over all transfers, {@value Paginator#DEFAULT_PER_PAGE} per page
+     */
+    public Paginator<TransferData> list() {
+        return list(Paginator.DEFAULT_PER_PAGE);
+    }
+
+    /**
+     * List transfers, fetching pages lazily as the items are consumed
+     *
+     * @param perPage Items per page
+     * @return Paginator over all transfers
+     */
+    public Paginator<TransferData> list(int perPage) {
+        return new Paginator<>((page, size) -> executor.executeAsync(LIST, null,
+                String.valueOf(size), String.valueOf(page)), perPage);
+    }
+
+    /**
+     * Get the coalescing metrics of {@link #verify} and {@link #verifyAsync}
+     *
+     * @return SingleFlight instance shared by both methods
+     */
+    public SingleFlight<String, PaystackResponse<TransferData>> getVerifyCalls() {
+        return verifyCalls;
+    }
+
+    /**
+     * Get the cache of final verify results, e.g. to read its hit rate
+     *
+     * @return VerificationCache instance, or null if no verify cache is configured
+     */
+    public VerificationCache<TransferData> getVerifyCache() {
+        return verifyCache;
+    }
+
+    private PaystackResponse<TransferData> cachedVerification(String reference) {
+        return verifyCache == null ? null : verifyCache.get(reference);
+    }
+
+    private PaystackResponse<TransferData> cacheVerification(String reference, PaystackResponse<TransferData> response) {
+        if (verifyCache != null) {
+            verifyCache.putIfTerminal(reference, response);
+        }
+        return response;
+    }
+
+    /**
+     * View of the requests that gives each request without a reference a generated one as it is read
+     */
+    private static Iterable<TransferInitRequest> withReferences(Iterable<TransferInitRequest> requests) {
+        return () -> {
+            Iterator<TransferInitRequest> iterator = requests.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
 
-        Request httpRequest = new Request.Builder()
-                .url(url)
-                .addHeader("Authorization", config.getAuthorizationHeader())
-                .get()
-                .build();
+                @Override
+                public TransferInitRequest next() {
+                    TransferInitRequest request = iterator.next();
+                    if (request.getReference() == null || request.getReference().trim().isEmpty()) {
+                        request.setReference(ReferenceGenerator.getDefault().nextReference());
+                    }
+                    return request;
+                }
+            };
+        };
+    }
 
-        try {
-            Response response = httpClient.newCall(httpRequest).execute();
-            String responseBody = response.body().string();
+    /**
+     * Match the created recipients and the reported errors to the requested accounts.
+     * Error entries have no fixed shape: an entry is matched by its index in the chunk, or by the account
+     * number and bank code of the error, its payload or its recipient. An error that cannot be matched
+     * fails every recipient that was not created.
+     */
+    private static Map<BankAccount, ItemResult<TransferRecipientData>> recipientResults(
+            List<TransferRecipientRequest> chunk, BulkTransferRecipientData data) {
+        Map<BankAccount, ItemResult<TransferRecipientData>> results = new HashMap<>();
+        if (data == null) {
+            return results;
+        }
+        if (data.getSuccess() != null) {
+            for (TransferRecipientData recipient : data.getSuccess()) {
+                results.put(account(recipient), ItemResult.success(recipient));
+            }
+        }
+        if (data.getErrors() == null || data.getErrors().isEmpty()) {
+            return results;
+        }
+        Map<BankAccount, JsonObject> errors = new HashMap<>();
+        for (JsonObject error : data.getErrors()) {
+            BankAccount account = account(chunk, error);
+            if (account == null) {
+                // Without knowing which recipient was rejected, fail every recipient not created
+                PaystackException failure = new PaystackException("Bulk recipient request rejected recipients that "
+                        + "could not be matched to the request: " + errorMessage(error));
+                for (TransferRecipientRequest request : chunk) {
+                    results.putIfAbsent(BankAccount.of(request), ItemResult.failure(failure));
+                }
+                return results;
+            }
+            errors.putIfAbsent(account, error);
+        }
+        errors.forEach((account, error) ->
+                results.putIfAbsent(account, ItemResult.failure(new PaystackException(errorMessage(error)))));
+        return results;
+    }
+
+    /**
+     * Account of a created recipient, which Paystack returns at the top level or nested in the details
+     */
+    private static BankAccount account(TransferRecipientData recipient) {
+        TransferRecipientData.Details details = recipient.getDetails();
+        String accountNumber = recipient.getAccountNumber();
+        String bankCode = recipient.getBankCode();
+        if (details != null) {
+            accountNumber = accountNumber != null ? accountNumber : details.getAccountNumber();
+            bankCode = bankCode != null ? bankCode : details.getBankCode();
+        }
+        return BankAccount.of(accountNumber, bankCode);
+    }
 
-            if (!response.isSuccessful()) {
-                throw new PaystackApiException(
-                        "Failed to verify transfer: " + response.message(),
-                        response.code(),
-                        responseBody
-                );
+    /**
+     * Account of the request a bulk error refers to: by its index in the chunk, or by the account number
+     * and bank code of the error, its payload or its recipient
+     *
+     * @return The account, or null if the error cannot be matched to exactly one request
+     */
+    private static BankAccount account(List<TransferRecipientRequest> chunk, JsonObject error) {
+        JsonElement index = error.get("index");
+        if (index != null && index.isJsonPrimitive() && index.getAsJsonPrimitive().isNumber()) {
+            int i = index.getAsInt();
+            return i >= 0 && i < chunk.size() ? BankAccount.of(chunk.get(i)) : null;
+        }
+        for (JsonObject fields : new JsonObject[]{error, object(error, "payload"), object(error, "recipient")}) {
+            String accountNumber = string(fields, "account_number");
+            String bankCode = string(fields, "bank_code");
+            if (accountNumber != null && bankCode != null) {
+                BankAccount account = BankAccount.of(accountNumber, bankCode);
+                return chunk.stream().map(BankAccount::of).anyMatch(account::equals) ? account : null;
             }
+        }
+        return null;
+    }
+
+    private static JsonObject object(JsonObject json, String field) {
+        JsonElement value = json.get(field);
+        return value != null && value.isJsonObject() ? value.getAsJsonObject() : null;
+    }
 
-            Type type = new TypeToken<PaystackResponse<TransferData>>(){}.getType();
-            PaystackResponse<TransferData> paystackResponse =
-                    JsonUtils.getGson().fromJson(responseBody, type);
+    private static String string(JsonObject json, String field) {
+        JsonElement value = json == null ? null : json.get(field);
+        return value != null && value.isJsonPrimitive() ? value.getAsString() : null;
+    }
 
-            if (!paystackResponse.isStatus()) {
-                throw new PaystackApiException(
-                        "API returned error: " + paystackResponse.getMessage(),
-                        response.code(),
-                        responseBody
-                );
+    private static String errorMessage(JsonObject error) {
+        for (String field : new String[]{"message", "error"}) {
+            JsonElement value = error.get(field);
+            if (value != null && value.isJsonPrimitive()) {
+                return value.getAsString();
             }
+        }
+        return "Failed to create transfer recipient: " + error;
+    }
 
-            return paystackResponse;
+    private static boolean isFinal(TransferData data) {
+        return data.getStatus() != null && FINAL_STATUSES.contains(data.getStatus().toLowerCase());
+    }
 
-        } catch (IOException e) {
-            throw new PaystackException("Network error while verifying transfer", e);
+    private static void validateReference(String reference) {
+        if (reference == null || reference.trim().isEmpty()) {
+            throw new IllegalArgumentException("Reference cannot be null or empty");
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.thompson.paystack.tracing;
+
+/**
+ * Tracer, span, context and scope that do nothing, shared so disabled tracing does not allocate
+ */
+final class NoopTracer implements PaystackTracer, PaystackSpan, PaystackContext, PaystackScope {
+    static final NoopTracer INSTANCE = new NoopTracer();
+
+    private NoopTracer() {
+    }
+
+    @Override
+    public PaystackSpan startSpan(String name, PaystackSpan parent) {
+        return this;
+    }
+
+    @Override
+    public PaystackContext captureContext() {
+        return this;
+    }
+
+    @Override
+    public PaystackScope makeCurrent() {
+        return this;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,22 @@
+package com.thompson.paystack.tracing;
+
+/**
+ * A tracing context captured on one thread so it can be made current on another, see
+ * {@link PaystackTracer#captureContext()}
+ */
+public interface PaystackContext {
+
+    /**
+     * Make this context current on the calling thread until the scope is closed
+     *
+     * @return Scope restoring the previous context when closed
+     */
+    PaystackScope makeCurrent();
+
+    /**
+     * Context that makes nothing current
+     */
+    static PaystackContext noop() {
+        return NoopTracer.INSTANCE;
+    }
+}
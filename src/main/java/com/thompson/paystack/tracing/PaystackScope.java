@@ -0,0 +1,20 @@
+package com.thompson.paystack.tracing;
+
+/**
+ * The time a span is current on a thread, see {@link PaystackSpan#makeCurrent()}
+ */
+public interface PaystackScope extends AutoCloseable {
+
+    /**
+     * Restore the context that was current before; must be called on the same thread
+     */
+    @Override
+    void close();
+
+    /**
+     * Scope that restores nothing
+     */
+    static PaystackScope noop() {
+        return NoopTracer.INSTANCE;
+    }
+}
@@ -0,0 +1,42 @@
+package com.thompson.paystack.tracing;
+
+/**
+ * A span started by a {@link PaystackTracer}. Every method has an empty default.
+ */
+public interface PaystackSpan {
+
+    default PaystackSpan setAttribute(String key, String value) {
+        return this;
+    }
+
+    default PaystackSpan setAttribute(String key, long value) {
+        return this;
+    }
+
+    default PaystackSpan setAttribute(String key, boolean value) {
+        return this;
+    }
+
+    /**
+     * Mark the span as failed
+     *
+     * @param error Exception that ended the operation
+     */
+    default void recordError(Throwable error) {
+    }
+
+    /**
+     * Make this span the current context of the calling thread until the scope is closed
+     *
+     * @return Scope restoring the previous context when closed
+     */
+    default PaystackScope makeCurrent() {
+        return PaystackScope.noop();
+    }
+
+    /**
+     * End the span; called exactly once
+     */
+    default void end() {
+    }
+}
@@ -0,0 +1,47 @@
+package com.thompson.paystack.tracing;
+
+/**
+ * Creates spans around Paystack calls and webhook dispatches, e.g. as an adapter to OpenTelemetry.
+ * <p>
+ * The library starts a span for every service call (named after the endpoint, e.g.
+ * {@code POST /transaction/initialize}) with a child span per HTTP attempt, and a span per
+ * {@code WebhookDispatcher.dispatch} with a child span per listener notified. Attribute names are
+ * in {@link SpanAttributes}.
+ * <p>
+ * Spans of a call are started on the calling thread, but attempts and the rest of an async call run
+ * on OkHttp threads. The library therefore passes the parent span explicitly, and captures the
+ * caller's context when an async call starts (see {@link #captureContext()}) and makes it current
+ * while it completes the call, so continuations the caller chained on the returned future run in
+ * the caller's context rather than inside the call span.
+ * <p>
+ * The default tracer, {@link #noop()}, returns a shared span whose methods do nothing; with it
+ * tracing costs a few virtual calls and no allocation.
+ */
+public interface PaystackTracer {
+
+    /**
+     * Start a span
+     *
+     * @param name   Span name
+     * @param parent Parent span, or null to use the context current on the calling thread
+     * @return The started span; never null
+     */
+    PaystackSpan startSpan(String name, PaystackSpan parent);
+
+    /**
+     * Capture the context current on the calling thread, e.g. OpenTelemetry's {@code Context.current()},
+     * to make it current again on another thread. The default captures nothing.
+     *
+     * @return The captured context; never null
+     */
+    default PaystackContext captureContext() {
+        return PaystackContext.noop();
+    }
+
+    /**
+     * Tracer that records nothing
+     */
+    static PaystackTracer noop() {
+        return NoopTracer.INSTANCE;
+    }
+}
@@ -0,0 +1,69 @@
+package com.thompson.paystack.tracing;
+
+/**
+ * Names of the span attributes set by the library
+ */
+public final class SpanAttributes {
+    /**
+     * Endpoint called, e.g. {@code GET /transaction/verify/{reference}}
+     */
+    public static final String ENDPOINT = "paystack.endpoint";
+
+    /**
+     * HTTP method of the endpoint
+     */
+    public static final String HTTP_METHOD = "http.request.method";
+
+    /**
+     * Transaction or transfer reference, when the call or webhook has one
+     */
+    public static final String REFERENCE = "paystack.reference";
+
+    /**
+     * HTTP status code of the response (of the last attempt, on call spans)
+     */
+    public static final String STATUS_CODE = "http.response.status_code";
+
+    /**
+     * Attempt number on attempt spans, starting at 1; number of attempts made on call spans
+     */
+    public static final String ATTEMPT = "paystack.attempt";
+
+    /**
+     * Whether an attempt is a hedge, i.e. a second request sent while the first was still pending
+     */
+    public static final String HEDGE = "paystack.hedge";
+
+    /**
+     * Webhook event, e.g. {@code charge.success}
+     */
+    public static final String WEBHOOK_EVENT = "paystack.webhook.event";
+
+    /**
+     * Whether the webhook signature was valid
+     */
+    public static final String WEBHOOK_VALID = "paystack.webhook.valid";
+
+    /**
+     * Class of the webhook listener notified
+     */
+    public static final String WEBHOOK_LISTENER = "paystack.webhook.listener";
+
+    /**
+     * Name of the span around an HTTP attempt
+     */
+    public static final String ATTEMPT_SPAN = "paystack.attempt";
+
+    /**
+     * Name of the span around a webhook dispatch
+     */
+    public static final String WEBHOOK_SPAN = "paystack.webhook";
+
+    /**
+     * Name of the span around a webhook listener notification
+     */
+    public static final String LISTENER_SPAN = "paystack.webhook.listener";
+
+    private SpanAttributes() {
+    }
+}
@@ -4,14 +4,13 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.thompson.paystack.adapters.FlexibleBooleanAdapter;
 import com.thompson.paystack.adapters.TransactionMetadataDeserializer;
-import com.thompson.paystack.models.response.TransactionMetadata;
 
 /**
  * Utility class for JSON serialization/deserialization
  */
 public class JsonUtils {
     private static final Gson GSON = new GsonBuilder()
-            .registerTypeAdapter(TransactionMetadata.class, new TransactionMetadataDeserializer())
+            .registerTypeAdapterFactory(new TransactionMetadataDeserializer())
             .registerTypeAdapter(Boolean.class, new FlexibleBooleanAdapter())
             .create();
 
@@ -1,11 +1,17 @@
 package com.thompson.paystack.webhook;
 
+import com.google.gson.JsonElement;
 import com.thompson.paystack.enums.WebhookEvent;
 import com.thompson.paystack.models.response.TransactionData;
 import com.thompson.paystack.models.webhook.WebhookPayload;
+import com.thompson.paystack.tracing.PaystackScope;
+import com.thompson.paystack.tracing.PaystackSpan;
+import com.thompson.paystack.tracing.PaystackTracer;
+import com.thompson.paystack.tracing.SpanAttributes;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Dispatcher for routing webhook events to registered listeners
@@ -13,6 +19,7 @@ import java.util.List;
 public class WebhookDispatcher {
     private final WebhookHandler handler;
     private final List<WebhookListener> listeners;
+    private final PaystackTracer tracer;
 
     /**
      * Create a new webhook dispatcher
@@ -20,8 +27,19 @@ public class WebhookDispatcher {
      * @param secretKey Your Paystack secret key
      */
     public WebhookDispatcher(String secretKey) {
+        this(secretKey, PaystackTracer.noop());
+    }
+
+    /**
+     * Create a new webhook dispatcher that traces each dispatch, with a child span per listener notified
+     *
+     * @param secretKey Your Paystack secret key
+     * @param tracer    Tracer to create the spans with
+     */
+    public WebhookDispatcher(String secretKey, PaystackTracer tracer) {
         this.handler = new WebhookHandler(secretKey);
         this.listeners = new ArrayList<WebhookListener>();
+        this.tracer = tracer;
     }
 
     /**
@@ -52,13 +70,27 @@ public class WebhookDispatcher {
      * @return true if webhook was valid and processed, false if invalid signature
      */
     public boolean dispatch(String payload, String signature) {
+        PaystackSpan span = tracer.startSpan(SpanAttributes.WEBHOOK_SPAN, null);
+        try (PaystackScope scope = span.makeCurrent()) {
+            return dispatch(span, payload, signature);
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private boolean dispatch(PaystackSpan span, String payload, String signature) {
         // Verify signature
         WebhookPayload webhookPayload = handler.verifyAndParse(payload, signature);
+        span.setAttribute(SpanAttributes.WEBHOOK_VALID, webhookPayload != null);
 
         if (webhookPayload == null) {
             // Invalid signature
             return false;
         }
+        traceEvent(span, webhookPayload);
 
         // Dispatch to listeners
         WebhookEvent event = webhookPayload.getEventEnum();
@@ -66,134 +98,75 @@ public class WebhookDispatcher {
         switch (event) {
             case CHARGE_SUCCESS:
                 TransactionData successTx = handler.parseAsTransaction(webhookPayload);
-                notifyChargeSuccess(successTx);
+                notifyListeners(span, listener -> listener.onChargeSuccess(successTx));
                 break;
 
             case CHARGE_FAILED:
                 TransactionData failedTx = handler.parseAsTransaction(webhookPayload);
-                notifyChargeFailed(failedTx);
+                notifyListeners(span, listener -> listener.onChargeFailed(failedTx));
                 break;
 
             case TRANSFER_SUCCESS:
-                notifyTransferSuccess(webhookPayload);
+                notifyListeners(span, listener -> listener.onTransferSuccess(webhookPayload));
                 break;
 
             case TRANSFER_FAILED:
-                notifyTransferFailed(webhookPayload);
+                notifyListeners(span, listener -> listener.onTransferFailed(webhookPayload));
                 break;
 
             case SUBSCRIPTION_CREATE:
-                notifySubscriptionCreate(webhookPayload);
+                notifyListeners(span, listener -> listener.onSubscriptionCreate(webhookPayload));
                 break;
 
             case SUBSCRIPTION_DISABLE:
-                notifySubscriptionDisable(webhookPayload);
+                notifyListeners(span, listener -> listener.onSubscriptionDisable(webhookPayload));
                 break;
 
             case DISPUTE_CREATE:
-                notifyDisputeCreate(webhookPayload);
+                notifyListeners(span, listener -> listener.onDisputeCreate(webhookPayload));
                 break;
 
             case DISPUTE_RESOLVE:
-                notifyDisputeResolve(webhookPayload);
+                notifyListeners(span, listener -> listener.onDisputeResolve(webhookPayload));
                 break;
 
             default:
-                notifyOtherEvent(webhookPayload);
+                notifyListeners(span, listener -> listener.onOtherEvent(webhookPayload));
                 break;
         }
 
         return true;
     }
 
-    private void notifyChargeSuccess(TransactionData transaction) {
-        for (WebhookListener listener : listeners) {
-            try {
-                listener.onChargeSuccess(transaction);
-            } catch (Exception e) {
-                // Log error but continue notifying other listeners
-                System.err.println("Error in webhook listener: " + e.getMessage());
-            }
-        }
-    }
-
-    private void notifyChargeFailed(TransactionData transaction) {
-        for (WebhookListener listener : listeners) {
-            try {
-                listener.onChargeFailed(transaction);
-            } catch (Exception e) {
-                System.err.println("Error in webhook listener: " + e.getMessage());
-            }
-        }
-    }
-
-    private void notifyTransferSuccess(WebhookPayload payload) {
-        for (WebhookListener listener : listeners) {
-            try {
-                listener.onTransferSuccess(payload);
-            } catch (Exception e) {
-                System.err.println("Error in webhook listener: " + e.getMessage());
-            }
-        }
-    }
-
-    private void notifyTransferFailed(WebhookPayload payload) {
-        for (WebhookListener listener : listeners) {
-            try {
-                listener.onTransferFailed(payload);
-            } catch (Exception e) {
-                System.err.println("Error in webhook listener: " + e.getMessage());
-            }
-        }
-    }
-
-    private void notifySubscriptionCreate(WebhookPayload payload) {
-        for (WebhookListener listener : listeners) {
-            try {
-                listener.onSubscriptionCreate(payload);
-            } catch (Exception e) {
-                System.err.println("Error in webhook listener: " + e.getMessage());
-            }
-        }
-    }
-
-    private void notifySubscriptionDisable(WebhookPayload payload) {
-        for (WebhookListener listener : listeners) {
-            try {
-                listener.onSubscriptionDisable(payload);
-            } catch (Exception e) {
-                System.err.println("Error in webhook listener: " + e.getMessage());
-            }
-        }
-    }
-
-    private void notifyDisputeCreate(WebhookPayload payload) {
-        for (WebhookListener listener : listeners) {
-            try {
-                listener.onDisputeCreate(payload);
-            } catch (Exception e) {
-                System.err.println("Error in webhook listener: " + e.getMessage());
-            }
+    /**
+     * Add the event and, for events about a transaction or transfer, its reference to the span
+     */
+    private static void traceEvent(PaystackSpan span, WebhookPayload webhookPayload) {
+        if (webhookPayload.getEvent() != null) {
+            span.setAttribute(SpanAttributes.WEBHOOK_EVENT, webhookPayload.getEvent());
         }
-    }
-
-    private void notifyDisputeResolve(WebhookPayload payload) {
-        for (WebhookListener listener : listeners) {
-            try {
-                listener.onDisputeResolve(payload);
-            } catch (Exception e) {
-                System.err.println("Error in webhook listener: " + e.getMessage());
-            }
+        JsonElement reference = webhookPayload.getData() == null ? null : webhookPayload.getData().get("reference");
+        if (reference != null && reference.isJsonPrimitive()) {
+            span.setAttribute(SpanAttributes.REFERENCE, reference.getAsString());
         }
     }
 
-    private void notifyOtherEvent(WebhookPayload payload) {
+    /**
+     * Notify every listener, each in its own span; a failing listener does not stop the others
+     */
+    private void notifyListeners(PaystackSpan parent, Consumer<WebhookListener> notification) {
         for (WebhookListener listener : listeners) {
-            try {
-                listener.onOtherEvent(payload);
+            PaystackSpan span = tracer.startSpan(SpanAttributes.LISTENER_SPAN, parent)
+                    .setAttribute(SpanAttributes.WEBHOOK_LISTENER, listener.getClass().getName());
+            try (PaystackScope scope = span.makeCurrent()) {
+                notification.accept(listener);
             } catch (Exception e) {
+                span.recordError(e);
+                // Log error but continue notifying other listeners
                 System.err.println("Error in webhook listener: " + e.getMessage());
+            } finally {
+                span.end();
             }
         }
     }
-}
\ No newline at end of file
+}
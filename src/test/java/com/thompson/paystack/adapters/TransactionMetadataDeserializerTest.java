@@ -0,0 +1,47 @@
+package com.thompson.paystack.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.reflect.TypeToken;
+import com.thompson.paystack.models.response.TransactionData;
+import com.thompson.paystack.models.response.TransactionMetadata;
+import com.thompson.paystack.utils.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionMetadataDeserializerTest {
+
+    @Test
+    void decodesObjectAndStringMetadata() {
+        TransactionData object = JsonUtils.fromJson(
+                "{\"reference\":\"ref_1\",\"metadata\":{\"order_id\":\"ORD-1\",\"custom_fields\":[]}}", TransactionData.class);
+        TransactionData string = JsonUtils.fromJson(
+                "{\"reference\":\"ref_2\",\"metadata\":\"{\\\"order_id\\\":\\\"ORD-2\\\"}\"}", TransactionData.class);
+        TransactionData empty = JsonUtils.fromJson("{\"reference\":\"ref_3\",\"metadata\":\"\"}", TransactionData.class);
+
+        assertNotNull(object.getMetadata());
+        assertNotNull(string.getMetadata());
+        assertNull(empty.getMetadata());
+    }
+
+    @Test
+    void decodesNestedFieldsWithTheSharedAdapters() {
+        Map<String, Object> marker = Map.of("decoded_by", "registered adapter");
+        Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(new TransactionMetadataDeserializer())
+                .registerTypeAdapter(new TypeToken<Map<String, Object>>() {}.getType(),
+                        (JsonDeserializer<Map<String, Object>>) (json, type, context) -> marker)
+                .create();
+
+        TransactionMetadata object = gson.fromJson("{\"customFields\":{\"order_id\":\"ORD-1\"}}",
+                TransactionMetadata.class);
+        TransactionMetadata string = gson.fromJson("\"{\\\"customFields\\\":{}}\"", TransactionMetadata.class);
+
+        assertSame(marker, object.getCustomFields());
+        assertSame(marker, string.getCustomFields());
+    }
+}
@@ -0,0 +1,105 @@
+package com.thompson.paystack.banks;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.models.response.BankData;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankDirectoryTest {
+
+    @Test
+    void loadsBundledBanksWithIndexes() {
+        BankDirectory banks = BankDirectory.fromBundled();
+
+        assertEquals(216, banks.size());
+        assertEquals("Guaranty Trust Bank", banks.byCode("058").getName());
+        assertEquals("ALAT by WEMA", banks.byCode("035A").getName());
+        assertEquals("Guaranty Trust Bank", banks.byLongcode("058152036").getName());
+        assertEquals("058", banks.bySlug("guaranty-trust-bank").getCode());
+        assertEquals(2, banks.allByCode("50739").size());
+        assertEquals(216, banks.byCurrency("ngn").size());
+        assertEquals(216, banks.byCountry("NIGERIA").size());
+        assertNull(banks.byCode("999999"));
+        assertNull(banks.byLongcode("null"));
+        assertTrue(banks.allByCode(null).isEmpty());
+    }
+
+    @Test
+    void searchesByPrefixTokenAndTypo() {
+        BankDirectory banks = BankDirectory.fromBundled();
+
+        assertEquals("Zenith Bank", banks.search("zen", 5).get(0).getName());
+        assertEquals("First Bank of Nigeria", banks.search("First Bank", 5).get(0).getName());
+        assertEquals("United Bank For Africa", banks.search("bank afr", 5).get(0).getName());
+        assertEquals("058", banks.search("guarnty trust", 5).get(0).getCode());
+        assertEquals("Guaranty Trust Bank", banks.search("  GUARANTY-tr", 5).get(0).getName());
+        assertTrue(banks.search("opay", 5).stream().anyMatch(match -> match.getName().startsWith("OPay")));
+        assertEquals(3, banks.search("bank", 3).size());
+        assertEquals(3, banks.search("", 3).size());
+        assertTrue(banks.search("xqzv", 5).isEmpty());
+    }
+
+    @Test
+    void searchAppliesPrecomputedFilters() {
+        BankDirectory banks = BankDirectory.fromBundled();
+        BankFilter transfers = BankFilter.builder().currency("NGN").supportsTransfer(true).build();
+        BankFilter noTransfers = BankFilter.builder().supportsTransfer(false).build();
+        BankFilter ghana = BankFilter.builder().country("Ghana").build();
+
+        assertEquals("Zenith Bank", banks.search("zenith", 5, transfers).get(0).getName());
+        assertTrue(banks.search("bank", 500, noTransfers).stream()
+                .allMatch(match -> !banks.byCode(match.getCode()).isSupportsTransfer()));
+        assertTrue(banks.search("bank", 5, ghana).isEmpty());
+        assertEquals(banks.byCurrency("NGN").stream().filter(BankData::isSupportsTransfer).count(),
+                banks.search("", 500, transfers).size());
+    }
+
+    @Test
+    void indexesCodesTooLongToPack() {
+        BankData bank = new BankData();
+        bank.setCode("LONGCODE123");
+        bank.setName("Long Code Bank");
+        BankData other = new BankData();
+        other.setCode("123");
+
+        BankDirectory banks = new BankDirectory(List.of(bank, other));
+
+        assertEquals("Long Code Bank", banks.byCode("LONGCODE123").getName());
+        assertSame(other, banks.byCode("123"));
+    }
+
+    @Test
+    void refreshFollowsCursorAndSwapsSnapshot() throws IOException, InterruptedException {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("{\"status\":true,\"message\":\"Banks retrieved\",\"data\":["
+                    + "{\"name\":\"Access Bank\",\"slug\":\"access-bank\",\"code\":\"044\",\"country\":\"Nigeria\",\"currency\":\"NGN\"}],"
+                    + "\"meta\":{\"next\":\"YmFuazoxNg==\",\"previous\":null,\"perPage\":1}}"));
+            server.enqueue(new MockResponse().setBody("{\"status\":true,\"message\":\"Banks retrieved\",\"data\":["
+                    + "{\"name\":\"Absa Bank Ghana\",\"slug\":\"absa-gh\",\"code\":\"030100\",\"country\":\"Ghana\",\"currency\":\"GHS\"}],"
+                    + "\"meta\":{\"next\":null,\"previous\":\"YmFuazoxNg==\",\"perPage\":1}}"));
+            server.start();
+            PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_banks")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .build());
+            BankDirectory banks = BankDirectory.fromBundled();
+            List<BankData> before = banks.all();
+
+            assertTrue(banks.refresh(client.banks(), null));
+
+            assertEquals("/bank?perPage=100&use_cursor=true", server.takeRequest().getPath());
+            assertEquals("/bank?perPage=100&use_cursor=true&next=YmFuazoxNg%3D%3D", server.takeRequest().getPath());
+            assertEquals(2, banks.size());
+            assertEquals("Absa Bank Ghana", banks.byCode("030100").getName());
+            assertEquals(1, banks.byCurrency("GHS").size());
+            assertNull(banks.byCode("058"));
+            assertEquals(216, before.size());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.thompson.paystack.batch;
+
+import com.thompson.paystack.exceptions.PaystackException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchVerifierTest {
+
+    @Test
+    void verifiesEveryReferenceWithBoundedConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        BatchVerifier<String> verifier = new BatchVerifier<>(reference -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                if (reference.endsWith("7")) {
+                    throw new PaystackException("Transaction reference not found");
+                }
+                return "verified " + reference;
+            }, CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS));
+        }, 8);
+
+        Map<String, ItemResult<String>> results = new HashMap<>();
+        verifier.verify(IntStream.range(0, 500).mapToObj(i -> "ref_" + i)::iterator, results::put);
+
+        assertEquals(500, results.size());
+        assertTrue(maxInFlight.get() <= 8, "max in flight was " + maxInFlight.get());
+        assertEquals("verified ref_0", results.get("ref_0").getData());
+        assertFalse(results.get("ref_17").isSuccess());
+        assertEquals("Transaction reference not found", results.get("ref_17").getError().getMessage());
+        assertEquals(450, results.values().stream().filter(ItemResult::isSuccess).count());
+    }
+
+    @Test
+    void readsInputOnlyAsResultsAreConsumed() {
+        AtomicInteger started = new AtomicInteger();
+        BatchVerifier<String> verifier = new BatchVerifier<>(reference -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture(reference);
+        }, 4);
+
+        try (BatchIterator<String> results = verifier.iterator(
+                IntStream.range(0, 1_000).mapToObj(String::valueOf).collect(Collectors.toList()))) {
+            assertTrue(results.hasNext());
+            assertEquals(4, started.get());
+            results.next();
+            results.next();
+            assertTrue(results.hasNext());
+            assertEquals(6, started.get());
+        }
+    }
+
+    @Test
+    void capturesSynchronousFailures() {
+        BatchVerifier<String> verifier = new BatchVerifier<>(reference -> {
+            throw new IllegalArgumentException("Reference cannot be null or empty");
+        }, 2);
+
+        Map<String, ItemResult<String>> results = new HashMap<>();
+        verifier.verify(List.of("", " "), results::put);
+
+        assertEquals(2, results.size());
+        assertInstanceOf(IllegalArgumentException.class, results.get("").getError());
+    }
+}
@@ -0,0 +1,234 @@
+package com.thompson.paystack.batch;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.models.request.BankAccount;
+import com.thompson.paystack.models.request.TransferInitRequest;
+import com.thompson.paystack.models.request.TransferRecipientRequest;
+import com.thompson.paystack.models.response.BulkTransferData;
+import com.thompson.paystack.models.response.TransferRecipientData;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkTransferTest {
+
+    /**
+     * Queues every transfer it receives, except that chunks containing "trf_fail" are rejected
+     * and "trf_missing" is left out of the response
+     */
+    private static class BulkDispatcher extends Dispatcher {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<Integer> chunkSizes = new ArrayList<>();
+
+        @NotNull
+        @Override
+        public MockResponse dispatch(@NotNull RecordedRequest request) throws InterruptedException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+                JsonArray transfers = JsonParser.parseString(request.getBody().readUtf8())
+                        .getAsJsonObject().getAsJsonArray("transfers");
+                synchronized (chunkSizes) {
+                    chunkSizes.add(transfers.size());
+                }
+                JsonArray data = new JsonArray();
+                for (JsonElement transfer : transfers) {
+                    String reference = transfer.getAsJsonObject().get("reference").getAsString();
+                    if (reference.equals("trf_fail")) {
+                        return new MockResponse().setResponseCode(400)
+                                .setBody("{\"status\":false,\"message\":\"Invalid recipient\"}");
+                    }
+                    if (!reference.equals("trf_missing")) {
+                        JsonObject item = new JsonObject();
+                        item.addProperty("reference", reference);
+                        item.addProperty("status", "pending");
+                        item.addProperty("transfer_code", "TRF_" + reference);
+                        data.add(item);
+                    }
+                }
+                return new MockResponse().setBody("{\"status\":true,\"message\":\"queued\",\"data\":" + data + "}");
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private static TransferInitRequest transfer(String reference) {
+        return TransferInitRequest.builder()
+                .amountInKobo(5000)
+                .recipient("RCP_1")
+                .reason("Payout")
+                .reference(reference)
+                .build();
+    }
+
+    @Test
+    void initiateBulk_shouldChunkSubmitConcurrentlyAndReportEachItem() throws IOException {
+        try (MockWebServer server = new MockWebServer()) {
+            BulkDispatcher dispatcher = new BulkDispatcher();
+            server.setDispatcher(dispatcher);
+            server.start();
+            PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_bulk")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .maxRequestsPerHost(16)
+                    .build());
+
+            List<TransferInitRequest> requests = new ArrayList<>();
+            requests.add(transfer("trf_missing"));
+            for (int i = 0; i < 447; i++) {
+                requests.add(transfer("trf_" + i));
+            }
+            requests.add(transfer(null));
+            requests.add(transfer("trf_fail"));
+
+            Map<String, ItemResult<BulkTransferData>> results = client.transfers().initiateBulk(requests, 2);
+
+            assertEquals(450, results.size());
+            assertEquals(List.of(100, 100, 100, 100, 50), dispatcher.chunkSizes.stream().sorted((a, b) -> b - a).toList());
+            assertTrue(dispatcher.maxInFlight.get() <= 2);
+            assertEquals("TRF_trf_0", results.get("trf_0").getData().getTransferCode());
+            assertFalse(results.get("trf_missing").isSuccess());
+            assertFalse(results.get("trf_missing").getError() instanceof PaystackApiException);
+
+            String generated = requests.get(448).getReference();
+            assertNotNull(generated);
+            ItemResult<BulkTransferData> lastChunkItem = results.get(generated);
+            assertInstanceOf(PaystackApiException.class, lastChunkItem.getError());
+            assertInstanceOf(PaystackApiException.class, results.get("trf_fail").getError());
+            assertEquals(399, results.values().stream().filter(ItemResult::isSuccess).count());
+        }
+    }
+
+    @Test
+    void createRecipients_shouldMapEachAccountToItsRecipientCode() throws IOException {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @NotNull
+                @Override
+                public MockResponse dispatch(@NotNull RecordedRequest request) {
+                    JsonArray batch = JsonParser.parseString(request.getBody().readUtf8())
+                            .getAsJsonObject().getAsJsonArray("batch");
+                    JsonArray success = new JsonArray();
+                    JsonArray errors = new JsonArray();
+                    for (JsonElement element : batch) {
+                        JsonObject recipient = element.getAsJsonObject();
+                        String accountNumber = recipient.get("account_number").getAsString();
+                        if (accountNumber.endsWith("99")) {
+                            JsonObject error = new JsonObject();
+                            error.addProperty("message", "Account number is invalid");
+                            error.add("payload", recipient);
+                            errors.add(error);
+                        } else {
+                            JsonObject details = new JsonObject();
+                            details.addProperty("account_number", accountNumber);
+                            details.addProperty("bank_code", recipient.get("bank_code").getAsString());
+                            JsonObject created = new JsonObject();
+                            created.addProperty("recipient_code", "RCP_" + accountNumber);
+                            created.add("details", details);
+                            success.add(created);
+                        }
+                    }
+                    JsonObject data = new JsonObject();
+                    data.add("success", success);
+                    data.add("errors", errors);
+                    return new MockResponse().setBody("{\"status\":true,\"message\":\"Recipients added successfully\",\"data\":"
+                            + data + "}");
+                }
+            });
+            server.start();
+            PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_bulk")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .build());
+
+            List<TransferRecipientRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 250; i++) {
+                requests.add(TransferRecipientRequest.builder()
+                        .type("nuban")
+                        .name("Merchant " + i)
+                        .accountNumber(String.format("0%09d", i))
+                        .bankCode("058")
+                        .currency("NGN")
+                        .build());
+            }
+
+            Map<BankAccount, ItemResult<TransferRecipientData>> results = client.transfers().createRecipients(requests);
+
+            assertEquals(250, results.size());
+            assertEquals(3, server.getRequestCount());
+            assertEquals("RCP_0000000001", results.get(BankAccount.of("0000000001", "058")).getData().getRecipientCode());
+            ItemResult<TransferRecipientData> invalid = results.get(BankAccount.of("0000000099", "058"));
+            assertEquals("Account number is invalid", invalid.getError().getMessage());
+            assertEquals(248, results.values().stream().filter(ItemResult::isSuccess).count());
+        }
+    }
+
+    @Test
+    void createRecipients_shouldFailUncreatedRecipientsWhenAnErrorCannotBeMatched() throws IOException {
+        try (MockWebServer server = new MockWebServer()) {
+            // The second recipient is rejected, and the error names an account number only
+            server.enqueue(new MockResponse().setBody("{\"status\":true,\"message\":\"Recipients added\",\"data\":{"
+                    + "\"success\":[{\"recipient_code\":\"RCP_1\",\"details\":{\"account_number\":\"0000000001\","
+                    + "\"bank_code\":\"058\"}}],"
+                    + "\"errors\":[{\"message\":\"Account number is invalid\",\"account_number\":\"0000000002\"}]}}"));
+            server.start();
+            PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_bulk")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .build());
+
+            List<TransferRecipientRequest> requests = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                requests.add(TransferRecipientRequest.builder()
+                        .type("nuban")
+                        .name("Merchant " + i)
+                        .accountNumber("000000000" + i)
+                        .bankCode("058")
+                        .currency("NGN")
+                        .build());
+            }
+
+            Map<BankAccount, ItemResult<TransferRecipientData>> results = client.transfers().createRecipients(requests);
+
+            assertTrue(results.get(BankAccount.of("0000000001", "058")).isSuccess());
+            for (String accountNumber : new String[]{"0000000002", "0000000003"}) {
+                ItemResult<TransferRecipientData> result = results.get(BankAccount.of(accountNumber, "058"));
+                assertFalse(result.isSuccess());
+                assertTrue(result.getError().getMessage().contains("could not be matched"), result.getError().getMessage());
+            }
+        }
+    }
+
+    @Test
+    void submit_shouldRejectDuplicateKeysWithoutSendingMore() {
+        List<List<String>> sent = new ArrayList<>();
+        BulkSubmitter<String, String, String> submitter = new BulkSubmitter<>(2, 1, item -> Boolean.TRUE,
+                item -> item, item -> item, chunk -> {
+                    sent.add(chunk);
+                    return CompletableFuture.completedFuture(chunk);
+                });
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> submitter.submit(List.of("a", "b", "c", "a", "d")));
+
+        assertEquals("Duplicate key: a", e.getMessage());
+        assertEquals(List.of(List.of("a", "b")), sent);
+    }
+}
@@ -0,0 +1,71 @@
+package com.thompson.paystack.cache;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.services.TransactionService;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerificationCacheTest {
+
+    private static MockResponse verified(String reference, String status) {
+        return new MockResponse().setBody("{\"status\":true,\"message\":\"ok\",\"data\":{\"reference\":\""
+                + reference + "\",\"status\":\"" + status + "\"}}");
+    }
+
+    @Test
+    void verify_shouldOnlyCacheTerminalResults() throws IOException {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            TransactionService transactions = new PaystackClient(PaystackConfig.builder("sk_test_cache")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .verifyCache(100, Duration.ofMinutes(5))
+                    .build()).transactions();
+            server.enqueue(verified("ref_1", "pending"));
+            server.enqueue(verified("ref_1", "success"));
+
+            assertEquals("pending", transactions.verify("ref_1").getData().getStatus());
+            assertEquals("success", transactions.verify("ref_1").getData().getStatus());
+            assertEquals("success", transactions.verify("ref_1").getData().getStatus());
+            assertEquals("success", transactions.verifyAsync("ref_1").join().getData().getStatus());
+
+            assertEquals(2, server.getRequestCount());
+            ExpiringCache<?, ?> stats = transactions.getVerifyCache().getCache();
+            assertEquals(2, stats.getHits());
+            assertEquals(2, stats.getMisses());
+        }
+    }
+
+    @Test
+    void expiringCache_shouldEvictUnreferencedEntriesFirst() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+
+        cache.put("c", "3");
+
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void expiringCache_shouldExpireEntries() throws InterruptedException {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+        cache.put("a", "1", Duration.ofMillis(20));
+
+        Thread.sleep(40);
+
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.getExpirations());
+    }
+}
@@ -0,0 +1,88 @@
+package com.thompson.paystack.client;
+
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.TransactionData;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaystackClientPoolTest {
+    private static final String VERIFIED = "{\"status\":true,\"message\":\"Verification successful\","
+            + "\"data\":{\"reference\":\"ref_1\",\"status\":\"pending\"}}";
+
+    private MockWebServer server;
+    private PaystackConfig template;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        template = PaystackConfig.builder("sk_test_platform")
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void tenantsShareTransportButUseTheirOwnKey() throws InterruptedException {
+        server.enqueue(new MockResponse().setBody(VERIFIED));
+        server.enqueue(new MockResponse().setBody(VERIFIED));
+        try (PaystackClientPool pool = new PaystackClientPool(template, Duration.ofMinutes(5))) {
+            PaystackClient first = pool.client("sk_test_merchant_1");
+            PaystackClient second = pool.client("sk_test_merchant_2");
+
+            assertSame(first, pool.client("sk_test_merchant_1"));
+            assertNotSame(first, second);
+            assertSame(first.executor(), second.executor());
+            assertEquals(2, pool.size());
+
+            first.transactions().verify("ref_1");
+            second.transactions().verify("ref_1");
+
+            assertEquals("Bearer sk_test_merchant_1", server.takeRequest().getHeader("Authorization"));
+            assertEquals("Bearer sk_test_merchant_2", server.takeRequest().getHeader("Authorization"));
+        }
+    }
+
+    @Test
+    void evictsIdleTenantsWithoutCallsInFlight() {
+        server.enqueue(new MockResponse().setBody(VERIFIED).setBodyDelay(300, TimeUnit.MILLISECONDS));
+        try (PaystackClientPool pool = new PaystackClientPool(template, Duration.ofMillis(50))) {
+            PaystackClient busy = pool.client("sk_test_busy");
+            PaystackClient idle = pool.client("sk_test_idle");
+            CompletableFuture<PaystackResponse<TransactionData>> call = busy.transactions().verifyAsync("ref_1");
+
+            sleep(100);
+            assertEquals(1, pool.inFlight("sk_test_busy"));
+            assertEquals(1, pool.evictIdle());
+            assertEquals(1, pool.size());
+            assertEquals(1, pool.getEvicted());
+
+            call.join();
+            assertEquals(0, pool.inFlight("sk_test_busy"));
+            assertNotSame(idle, pool.client("sk_test_idle"));
+            assertEquals(3, pool.getCreated());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.thompson.paystack.http;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.TransactionData;
+import com.thompson.paystack.resilience.Hedger;
+import com.thompson.paystack.resilience.HedgingPolicy;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointExecutorHedgingTest {
+    private static final String VERIFY_PATH = "/transaction/verify/{reference}";
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private PaystackClient client(double maxHedgeRatio) {
+        return new PaystackClient(PaystackConfig.builder("sk_test_hedging")
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .hedging(VERIFY_PATH, HedgingPolicy.builder()
+                        .delay(Duration.ofMillis(50))
+                        .maxHedgeRatio(maxHedgeRatio)
+                        .build())
+                .build());
+    }
+
+    private static MockResponse verified(String reference) {
+        return new MockResponse().setBody("{\"status\":true,\"message\":\"ok\",\"data\":{\"reference\":\""
+                + reference + "\",\"status\":\"success\"}}");
+    }
+
+    @Test
+    void verify_shouldTakeTheHedgeWhenTheFirstRequestIsSlow() {
+        PaystackClient client = client(1.0);
+        server.enqueue(verified("slow").setHeadersDelay(2, TimeUnit.SECONDS));
+        server.enqueue(verified("fast"));
+
+        long start = System.nanoTime();
+        PaystackResponse<TransactionData> response = client.transactions().verify("ref_1");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals("fast", response.getData().getReference());
+        assertTrue(elapsedMillis < 1500, "hedge should win, took " + elapsedMillis + " ms");
+        assertEquals(2, server.getRequestCount());
+
+        Hedger hedger = client.hedger(VERIFY_PATH);
+        assertEquals(1, hedger.getHedges());
+        assertEquals(1, hedger.getHedgeWins());
+        assertEquals(1.0, hedger.getHedgeWinRate());
+    }
+
+    @Test
+    void verifyAsync_shouldFinishTheCallBeforeTheCallerContinues() {
+        PaystackClient client = client(1.0);
+        server.enqueue(verified("slow").setHeadersDelay(2, TimeUnit.SECONDS));
+        server.enqueue(verified("fast"));
+
+        int inFlight = client.transactions().verifyAsync("ref_1")
+                .thenApply(response -> client.inFlight())
+                .join();
+
+        assertEquals(0, inFlight);
+    }
+
+    @Test
+    void hedgeDelayShouldNotDriftDownWhenHedgesWin() {
+        PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_hedging")
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .hedging(VERIFY_PATH, HedgingPolicy.builder()
+                        .delay(Duration.ofMillis(50))
+                        .percentile(0.95)
+                        .minDelay(Duration.ofMillis(1))
+                        .maxHedgeRatio(1.0)
+                        .build())
+                .build());
+
+        // 20 samples are needed before the percentile is used; a few more so the 20th is surely in
+        for (int i = 0; i < 25; i++) {
+            server.enqueue(verified("slow").setHeadersDelay(1, TimeUnit.SECONDS));
+            server.enqueue(verified("fast"));
+            assertEquals("fast", client.transactions().verifyAsync("ref_" + i).join().getData().getReference());
+        }
+
+        // Every first request was cancelled after the 50 ms hedge delay; hedge latencies would give ~1 ms
+        Hedger hedger = client.hedger(VERIFY_PATH);
+        assertEquals(25, hedger.getHedgeWins());
+        assertTrue(hedger.hedgeDelayNanos() >= TimeUnit.MILLISECONDS.toNanos(50),
+                "hedge delay " + hedger.hedgeDelayNanos() + " ns");
+    }
+
+    @Test
+    void verifyAsync_shouldNotHedgeBeyondTheBudget() {
+        PaystackClient client = client(0.1);
+        server.enqueue(verified("slow").setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+        PaystackResponse<TransactionData> response = client.transactions().verifyAsync("ref_1").join();
+
+        assertEquals("slow", response.getData().getReference());
+        assertEquals(1, server.getRequestCount());
+        assertEquals(0, client.hedger(VERIFY_PATH).getHedges());
+        assertEquals(1, client.hedger(VERIFY_PATH).getBudgetRejections());
+    }
+}
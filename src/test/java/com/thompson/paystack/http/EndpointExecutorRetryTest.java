@@ -0,0 +1,116 @@
+package com.thompson.paystack.http;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.models.request.TransferInitRequest;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.TransactionData;
+import com.thompson.paystack.models.response.TransferData;
+import com.thompson.paystack.resilience.RetryPolicy;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointExecutorRetryTest {
+    private static final String TRANSFER_BODY = "{\"status\":true,\"message\":\"Transfer has been queued\","
+            + "\"data\":{\"reference\":\"trf_1\",\"status\":\"pending\",\"amount\":5000}}";
+
+    private MockWebServer server;
+    private PaystackClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = new PaystackClient(PaystackConfig.builder("sk_test_retry")
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .retryPolicy(RetryPolicy.builder()
+                        .maxAttempts(3)
+                        .baseDelay(Duration.ofMillis(1))
+                        .maxDelay(Duration.ofMillis(10))
+                        .build())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void verify_shouldRetryServerErrors() {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(502));
+        server.enqueue(new MockResponse().setBody(
+                "{\"status\":true,\"message\":\"ok\",\"data\":{\"reference\":\"ref_1\",\"status\":\"success\"}}"));
+
+        PaystackResponse<TransactionData> response = client.transactions().verify("ref_1");
+
+        assertEquals("ref_1", response.getData().getReference());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void verifyAsync_shouldHonorRetryAfterOn429() {
+        server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+        server.enqueue(new MockResponse().setBody(
+                "{\"status\":true,\"message\":\"ok\",\"data\":{\"reference\":\"ref_2\",\"status\":\"success\"}}"));
+
+        PaystackResponse<TransactionData> response = client.transactions().verifyAsync("ref_2").join();
+
+        assertEquals("ref_2", response.getData().getReference());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void initiate_shouldNotRetryWithoutReference() {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody(TRANSFER_BODY));
+
+        TransferInitRequest request = TransferInitRequest.builder()
+                .amountInKobo(5000)
+                .recipient("RCP_1")
+                .reason("Payout")
+                .build();
+
+        PaystackApiException error = assertThrows(PaystackApiException.class,
+                () -> client.transfers().initiate(request));
+
+        assertEquals(503, error.getStatusCode());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void initiate_shouldRetryWithStableReference() {
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody(TRANSFER_BODY));
+
+        TransferInitRequest request = TransferInitRequest.builder()
+                .amountInKobo(5000)
+                .recipient("RCP_1")
+                .reason("Payout")
+                .reference("trf_1")
+                .build();
+
+        PaystackResponse<TransferData> response = client.transfers().initiate(request);
+
+        assertEquals("trf_1", response.getData().getReference());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void parseRetryAfter_shouldAcceptSecondsAndDates() {
+        assertEquals(2000, EndpointExecutor.parseRetryAfter("2"));
+        assertEquals(0, EndpointExecutor.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertEquals(-1, EndpointExecutor.parseRetryAfter("soon"));
+        assertEquals(-1, EndpointExecutor.parseRetryAfter(null));
+    }
+}
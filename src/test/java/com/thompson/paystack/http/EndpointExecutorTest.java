@@ -0,0 +1,229 @@
+package com.thompson.paystack.http;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.CircuitBreakerOpenException;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.exceptions.PaystackException;
+import com.thompson.paystack.metrics.EndpointMetrics;
+import com.thompson.paystack.metrics.InMemoryMetrics;
+import com.thompson.paystack.models.request.ChargeAuthorizationRequest;
+import com.thompson.paystack.models.request.SubaccountCreateRequest;
+import com.thompson.paystack.models.request.TransferInitRequest;
+import com.thompson.paystack.models.request.TransferRecipientRequest;
+import com.thompson.paystack.models.response.BankData;
+import com.thompson.paystack.resilience.CircuitBreakerPolicy;
+import com.thompson.paystack.resilience.RateLimit;
+import com.thompson.paystack.resilience.RetryPolicy;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointExecutorTest {
+    private static final String OK = "{\"status\":true,\"message\":\"ok\",\"data\":null}";
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private PaystackClient client(PaystackConfig.Builder config) {
+        return new PaystackClient(config.baseUrl(server.url("/").toString().replaceAll("/$", "")).build());
+    }
+
+    private PaystackClient client() {
+        return client(PaystackConfig.builder("sk_test_executor").retryPolicy(RetryPolicy.none()));
+    }
+
+    @Test
+    void asyncCallsAreAccountedForBeforeCallersContinue() {
+        server.enqueue(new MockResponse().setBody(OK));
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("{\"status\":false,\"message\":\"Not found\"}"));
+        PaystackClient client = client();
+        InMemoryMetrics metrics = (InMemoryMetrics) client.metrics();
+
+        // The caller's continuations run before callbacks registered earlier on the same future
+        List<Long> succeeded = client.subaccounts().getAsync("ACCT_1")
+                .thenApply(response -> List.of((long) client.inFlight(), subaccountCalls(metrics).getCalls()))
+                .join();
+        List<Long> failed = client.subaccounts().getAsync("ACCT_2")
+                .handle((response, error) -> List.of((long) client.inFlight(), subaccountCalls(metrics).getFailedCalls()))
+                .join();
+
+        assertEquals(List.of(0L, 1L), succeeded);
+        assertEquals(List.of(0L, 1L), failed);
+    }
+
+    private static EndpointMetrics subaccountCalls(InMemoryMetrics metrics) {
+        return metrics.endpoint("GET /subaccount/{code}");
+    }
+
+    @Test
+    void asyncMethodsSendTheirRequests() throws InterruptedException {
+        for (int i = 0; i < 7; i++) {
+            server.enqueue(new MockResponse().setBody(OK));
+        }
+        PaystackClient client = client();
+        SubaccountCreateRequest subaccount = SubaccountCreateRequest.builder()
+                .businessName("Sunshine Studios").settlementBank("044").accountNumber("0193274682")
+                .percentageCharge(18.2).build();
+
+        client.subaccounts().createAsync(subaccount).join();
+        client.subaccounts().getAsync("ACCT_1").join();
+        client.subaccounts().getAllAsync().join();
+        client.subaccounts().updateAsync("ACCT_1", subaccount).join();
+        client.transfers().createRecipientAsync(TransferRecipientRequest.builder()
+                .type("nuban").name("Tolu Robert").accountNumber("0001234567").bankCode("058").currency("NGN").build()).join();
+        client.transfers().initiateAsync(TransferInitRequest.builder()
+                .amountInKobo(5000).recipient("RCP_1").reason("Payout").reference("trf_1").build()).join();
+        client.transactions().chargeAuthorizationAsync(ChargeAuthorizationRequest.builder()
+                .authorizationCode("AUTH_1").email("customer@email.com").amountInKobo(20000).build()).join();
+
+        assertRequest("POST", "/subaccount", "\"business_name\":\"Sunshine Studios\"");
+        assertRequest("GET", "/subaccount/ACCT_1", null);
+        assertRequest("GET", "/subaccount", null);
+        assertRequest("PUT", "/subaccount/ACCT_1", "\"settlement_bank\":\"044\"");
+        assertRequest("POST", "/transferrecipient", "\"account_number\":\"0001234567\"");
+        assertRequest("POST", "/transfer", "\"reference\":\"trf_1\"");
+        assertRequest("POST", "/transaction/charge_authorization", "\"authorization_code\":\"AUTH_1\"");
+    }
+
+    private void assertRequest(String method, String path, String bodyPart) throws InterruptedException {
+        RecordedRequest request = server.takeRequest();
+        assertEquals(method, request.getMethod());
+        assertEquals(path, request.getPath());
+        if (bodyPart != null) {
+            String body = request.getBody().readUtf8();
+            assertTrue(body.contains(bodyPart), body);
+        }
+    }
+
+    @Test
+    void syncAndAsyncCallsMapFailuresTheSameWay() {
+        PaystackClient client = client();
+
+        server.enqueue(new MockResponse().setResponseCode(401).setBody("{\"status\":false,\"message\":\"Invalid key\"}"));
+        server.enqueue(new MockResponse().setResponseCode(401).setBody("{\"status\":false,\"message\":\"Invalid key\"}"));
+        List<PaystackApiException> unauthorized = failures(PaystackApiException.class,
+                () -> client.transactions().verify("ref_1"), () -> client.transactions().verifyAsync("ref_1").join());
+        for (PaystackApiException error : unauthorized) {
+            assertEquals(401, error.getStatusCode());
+            assertTrue(error.getMessage().startsWith("Failed to verify transaction: "), error.getMessage());
+            assertTrue(error.getResponseBody().contains("Invalid key"));
+        }
+
+        server.enqueue(new MockResponse().setBody("{\"status\":false,\"message\":\"Reference not found\"}"));
+        server.enqueue(new MockResponse().setBody("{\"status\":false,\"message\":\"Reference not found\"}"));
+        List<PaystackApiException> rejected = failures(PaystackApiException.class,
+                () -> client.transactions().verify("ref_2"), () -> client.transactions().verifyAsync("ref_2").join());
+        for (PaystackApiException error : rejected) {
+            assertEquals(200, error.getStatusCode());
+            assertEquals("API returned error: Reference not found", error.getMessage());
+        }
+
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AT_START));
+        List<PaystackException> network = failures(PaystackException.class,
+                () -> client.transactions().verify("ref_3"), () -> client.transactions().verifyAsync("ref_3").join());
+        for (PaystackException error : network) {
+            assertEquals(PaystackException.class, error.getClass());
+            assertInstanceOf(IOException.class, error.getCause());
+        }
+    }
+
+    /**
+     * Run a sync and an async call that must fail, unwrapping the async failure
+     */
+    private static <E extends Throwable> List<E> failures(Class<E> type, Executable sync, Executable async) {
+        E syncError = assertThrows(type, sync);
+        CompletionException asyncError = assertThrows(CompletionException.class, async);
+        return List.of(syncError, assertInstanceOf(type, asyncError.getCause()));
+    }
+
+    @Test
+    void decodesLargeBodiesAsTheyStreamIn() {
+        StringBuilder body = new StringBuilder("{\"status\":true,\"message\":\"Banks retrieved\",\"data\":[");
+        for (int i = 0; i < 20_000; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"name\":\"Bank ").append(i)
+                    .append("\",\"code\":\"").append(i).append("\",\"currency\":\"NGN\",\"active\":true}");
+        }
+        String json = body.append("],\"meta\":{\"next\":null}}").toString();
+        server.enqueue(new MockResponse().setBody(json).throttleBody(256 * 1024, 1, TimeUnit.MILLISECONDS));
+        server.enqueue(new MockResponse().setBody(json));
+        PaystackClient client = client();
+
+        List<BankData> banks = client.banks().getAll(null);
+        List<BankData> asyncBanks = client.banks().getAllAsync(null).join();
+
+        assertEquals(20_000, banks.size());
+        assertEquals("Bank 19999", banks.get(19_999).getName());
+        assertEquals(20_000, asyncBanks.size());
+    }
+
+    @Test
+    void bodiesCutOffMidStreamFailWithoutBeingResent() {
+        StringBuilder body = new StringBuilder("{\"status\":true,\"message\":\"ok\",\"data\":{\"reference\":\"ref_1\",\"metadata\":{");
+        for (int i = 0; i < 2_000; i++) {
+            body.append(i == 0 ? "" : ",").append("\"field_").append(i).append("\":\"value\"");
+        }
+        String json = body.append("}}}").toString();
+        for (int i = 0; i < 2; i++) {
+            server.enqueue(new MockResponse().setBody(json).setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+        }
+        PaystackClient client = client(PaystackConfig.builder("sk_test_executor")
+                .retryPolicy(RetryPolicy.builder().maxAttempts(3).baseDelay(Duration.ofMillis(1))
+                        .retryOnNetworkError(true).build()));
+
+        List<PaystackException> errors = failures(PaystackException.class,
+                () -> client.transactions().verify("ref_1"), () -> client.transactions().verifyAsync("ref_1").join());
+
+        errors.forEach(error -> assertInstanceOf(IOException.class, error.getCause()));
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    void openCircuitDoesNotSpendRateLimitPermits() {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        PaystackClient client = client(PaystackConfig.builder("sk_test_executor_breaker")
+                .retryPolicy(RetryPolicy.none())
+                .rateLimit(EndpointFamily.TRANSACTIONS, new RateLimit(100, 10))
+                .circuitBreaker("/transaction/verify/{reference}", CircuitBreakerPolicy.builder()
+                        .slidingWindowSize(2).minimumCalls(2).openDuration(Duration.ofMinutes(1)).build()));
+        Supplier<Long> acquired = () -> client.rateLimiter(EndpointFamily.TRANSACTIONS).getAcquiredPermits();
+
+        assertThrows(PaystackApiException.class, () -> client.transactions().verify("ref_1"));
+        assertThrows(PaystackApiException.class, () -> client.transactions().verify("ref_2"));
+        assertEquals(2, acquired.get());
+
+        assertThrows(CircuitBreakerOpenException.class, () -> client.transactions().verify("ref_3"));
+        CompletionException async = assertThrows(CompletionException.class,
+                () -> client.transactions().verifyAsync("ref_4").join());
+
+        assertInstanceOf(CircuitBreakerOpenException.class, async.getCause());
+        assertEquals(2, acquired.get());
+        assertEquals(2, server.getRequestCount());
+    }
+}
@@ -0,0 +1,50 @@
+package com.thompson.paystack.http;
+
+import com.thompson.paystack.models.request.TransactionInitRequest;
+import com.thompson.paystack.utils.JsonUtils;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSink;
+import okio.Okio;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonRequestBodyTest {
+
+    @Test
+    void writeTo_shouldWriteTheJsonWithoutFlushing() throws IOException {
+        TransactionInitRequest request = TransactionInitRequest.builder()
+                .email("customer@example.com")
+                .amountInKobo(500000)
+                .reference("ref_1")
+                .build();
+        JsonRequestBody body = new JsonRequestBody(JsonUtils.getGson(), request);
+        String json = JsonUtils.toJson(request);
+
+        Buffer socket = new Buffer();
+        AtomicInteger flushes = new AtomicInteger();
+        BufferedSink sink = Okio.buffer(new ForwardingSink(socket) {
+            @Override
+            public void flush() throws IOException {
+                flushes.incrementAndGet();
+                super.flush();
+            }
+        });
+
+        // Written twice, as on a retry
+        for (int i = 0; i < 2; i++) {
+            body.writeTo(sink);
+        }
+
+        // OkHttp flushes once the whole request is written
+        assertEquals(0, flushes.get());
+        assertEquals(json.getBytes(StandardCharsets.UTF_8).length, body.contentLength());
+        sink.flush();
+        assertEquals(json + json, socket.readUtf8());
+    }
+}
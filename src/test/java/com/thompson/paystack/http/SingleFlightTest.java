@@ -0,0 +1,126 @@
+package com.thompson.paystack.http;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.TransactionData;
+import com.thompson.paystack.services.TransactionService;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void verify_shouldShareOneCallAcrossSyncAndAsyncCallers() throws IOException {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(new MockResponse()
+                    .setHeadersDelay(300, TimeUnit.MILLISECONDS)
+                    .setBody("{\"status\":true,\"message\":\"ok\",\"data\":{\"reference\":\"ref_1\",\"status\":\"success\"}}"));
+            TransactionService transactions = new PaystackClient(new PaystackConfig("sk_test_single_flight",
+                    server.url("/").toString().replaceAll("/$", ""))).transactions();
+
+            List<CompletableFuture<PaystackResponse<TransactionData>>> calls = new ArrayList<>();
+            calls.add(transactions.verifyAsync("ref_1"));
+            for (int i = 0; i < 4; i++) {
+                calls.add(CompletableFuture.supplyAsync(() -> transactions.verify("ref_1")));
+                calls.add(transactions.verifyAsync("ref_1"));
+            }
+
+            PaystackResponse<TransactionData> first = calls.get(0).join();
+            for (CompletableFuture<PaystackResponse<TransactionData>> call : calls) {
+                assertSame(first, call.join());
+            }
+            assertEquals(1, server.getRequestCount());
+            assertEquals(9, transactions.getVerifyCalls().getCalls());
+            assertEquals(8, transactions.getVerifyCalls().getCoalescedCalls());
+            assertEquals(0, transactions.getVerifyCalls().getInFlight());
+        }
+    }
+
+    @Test
+    void execute_shouldShareFailuresAndReleaseTheKey() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        assertThrows(PaystackApiException.class, () -> singleFlight.execute("ref_1", () -> {
+            throw new PaystackApiException("not found", 404, "");
+        }));
+        assertEquals("ok", singleFlight.execute("ref_1", () -> "ok"));
+        assertEquals(0, singleFlight.getCoalescedCalls());
+    }
+
+    @Test
+    void executeAsync_cancellingOneCallerShouldNotCancelTheSharedCall() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> shared = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.executeAsync("ref_1", () -> shared);
+        CompletableFuture<String> second = singleFlight.executeAsync("ref_1", () -> fail("should be coalesced"));
+        first.cancel(true);
+        shared.complete("ok");
+
+        assertEquals("ok", second.join());
+        assertFalse(shared.isCancelled());
+    }
+
+    @Test
+    void executeAsync_cancellingEveryCallerShouldCancelTheSharedCall() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> shared = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.executeAsync("ref_1", () -> shared);
+        CompletableFuture<String> second = singleFlight.executeAsync("ref_1", () -> fail("should be coalesced"));
+        first.cancel(true);
+        second.cancel(true);
+
+        assertTrue(shared.isCancelled());
+        assertEquals(0, singleFlight.getInFlight());
+        assertEquals("ok", singleFlight.executeAsync("ref_1", () -> CompletableFuture.completedFuture("ok")).join());
+    }
+
+    @Test
+    void verifyAsync_cancellingShouldCancelTheHttpCall() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(new MockResponse()
+                    .setHeadersDelay(3, TimeUnit.SECONDS)
+                    .setBody("{\"status\":true,\"message\":\"ok\",\"data\":{\"reference\":\"ref_1\"}}"));
+            OkHttpClient httpClient = new OkHttpClient();
+            PaystackClient client = new PaystackClient(new PaystackConfig("sk_test_single_flight_cancel",
+                    server.url("/").toString().replaceAll("/$", "")), httpClient);
+
+            CompletableFuture<PaystackResponse<TransactionData>> verify = client.transactions().verifyAsync("ref_1");
+            assertNotNull(server.takeRequest(5, TimeUnit.SECONDS));
+            verify.cancel(true);
+
+            // Well before the response is due
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (httpClient.dispatcher().runningCallsCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, httpClient.dispatcher().runningCallsCount());
+        }
+    }
+
+    @Test
+    void execute_shouldReleaseTheKeyWhenTheCallThrowsAnError() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        assertThrows(AssertionError.class, () -> singleFlight.execute("ref_1", () -> {
+            throw new AssertionError("boom");
+        }));
+        assertEquals(0, singleFlight.getInFlight());
+        assertEquals("ok", singleFlight.execute("ref_1", () -> "ok"));
+    }
+}
@@ -0,0 +1,109 @@
+package com.thompson.paystack.metrics;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.resilience.RetryPolicy;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryMetricsTest {
+    private static final String VERIFIED = "{\"status\":true,\"message\":\"Verification successful\","
+            + "\"data\":{\"reference\":\"ref_1\",\"status\":\"success\"}}";
+
+    @Test
+    void recordsCallsStatusCodesErrorsAndLatencies() throws IOException {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(503).setBody("{\"status\":false,\"message\":\"Unavailable\"}"));
+            server.enqueue(new MockResponse().setBody(VERIFIED));
+            server.enqueue(new MockResponse().setResponseCode(404).setBody("{\"status\":false,\"message\":\"Not found\"}"));
+            server.start();
+            PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_metrics")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .retryPolicy(RetryPolicy.builder().maxAttempts(2).baseDelay(Duration.ofMillis(1)).build())
+                    .build());
+
+            client.transactions().verify("ref_1");
+            assertThrows(PaystackApiException.class, () -> client.transactions().verify("ref_2"));
+
+            EndpointMetrics verify = ((InMemoryMetrics) client.metrics()).endpoint("GET /transaction/verify/{reference}");
+            assertEquals(2, verify.getCalls());
+            assertEquals(1, verify.getFailedCalls());
+            assertEquals(1, verify.getStatusCount(503));
+            assertEquals(1, verify.getStatusCount(200));
+            assertEquals(1, verify.getStatusCount(404));
+            assertEquals(1L, verify.getErrorCounts().get(PaystackApiException.class));
+            assertEquals(3, verify.getNetworkLatency().getCount());
+            assertEquals(2, verify.getDecodeLatency().getCount());
+            assertTrue(verify.getCallLatency().getMaxNanos() >= verify.getNetworkLatency().getValueAtPercentile(50));
+        }
+    }
+
+    @Test
+    void timesNetworkPhasesAndKeepsLatestSlowCalls() throws IOException {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(VERIFIED));
+            for (int i = 0; i < 3; i++) {
+                server.enqueue(new MockResponse().setBody(VERIFIED).setHeadersDelay(150, TimeUnit.MILLISECONDS));
+            }
+            server.start();
+            InMemoryMetrics metrics = new InMemoryMetrics(Duration.ofMillis(100), 2);
+            PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_metrics")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .metrics(metrics)
+                    .build());
+
+            for (int i = 1; i <= 4; i++) {
+                client.transactions().verify("ref_" + i);
+            }
+
+            NetworkMetrics network = metrics.getNetwork();
+            assertEquals(1, network.getNewConnections());
+            assertEquals(3, network.getReusedConnections());
+            assertEquals(4, network.getTotalLatency().getCount());
+            assertEquals(1, network.getPhaseLatency(NetworkPhase.CONNECT).getCount());
+            assertEquals(0, network.getPhaseLatency(NetworkPhase.TLS).getCount());
+            assertEquals(4, network.getPhaseLatency(NetworkPhase.SERVER).getCount());
+            assertTrue(network.getPhaseLatency(NetworkPhase.SERVER).getMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(150));
+
+            SlowCallLog slowCalls = network.getSlowCalls();
+            assertEquals(3, slowCalls.getRecorded());
+            assertEquals(2, slowCalls.dump().size());
+            SlowCall latest = slowCalls.dump().get(1);
+            assertEquals("GET /transaction/verify/{reference}", latest.getEndpoint());
+            assertEquals("/transaction/verify/ref_4", latest.getPath());
+            assertEquals(200, latest.getStatusCode());
+            assertTrue(latest.isConnectionReused());
+            assertTrue(latest.getNanos(NetworkPhase.SERVER) >= TimeUnit.MILLISECONDS.toNanos(150));
+        }
+    }
+
+    @Test
+    void histogramPercentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(10_000), histogram.getMaxNanos());
+        assertEquals(5_000_500, histogram.getMeanNanos(), 1);
+        assertEquals(5_000_000, histogram.getValueAtPercentile(50), 5_000_000 / 32.0);
+        assertEquals(9_900_000, histogram.getValueAtPercentile(99), 9_900_000 / 32.0);
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(99));
+
+        for (long value = 0; value < 1L << 40; value = value * 3 / 2 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < value);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.thompson.paystack.pagination;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.models.response.PageMeta;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.SubaccountData;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginatorTest {
+
+    /**
+     * Serves items 1..total, recording requested pages; futures are completed by the test
+     */
+    private static class FakePages implements Paginator.PageFetcher<Integer> {
+        final int total;
+        final boolean withMeta;
+        final List<Integer> requested = new ArrayList<>();
+
+        FakePages(int total, boolean withMeta) {
+            this.total = total;
+            this.withMeta = withMeta;
+        }
+
+        @Override
+        public CompletableFuture<PaystackResponse<List<Integer>>> fetch(int page, int perPage) {
+            requested.add(page);
+            PaystackResponse<List<Integer>> response = new PaystackResponse<>();
+            response.setStatus(true);
+            response.setData(IntStream.rangeClosed((page - 1) * perPage + 1, Math.min(total, page * perPage))
+                    .boxed().collect(Collectors.toList()));
+            if (withMeta) {
+                PageMeta meta = new PageMeta();
+                meta.setTotal(total);
+                meta.setPage(page);
+                meta.setPerPage(perPage);
+                meta.setPageCount((total + perPage - 1) / perPage);
+                response.setMeta(meta);
+            }
+            return CompletableFuture.completedFuture(response);
+        }
+    }
+
+    @Test
+    void iterator_shouldPrefetchOnePageAhead() {
+        FakePages pages = new FakePages(25, true);
+        PageIterator<Integer> iterator = new Paginator<>(pages, 10).iterator();
+
+        assertEquals(List.of(1), pages.requested);
+        assertEquals(1, iterator.next());
+        assertEquals(List.of(1, 2), pages.requested);
+
+        List<Integer> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+        assertEquals(24, rest.size());
+        assertEquals(25, rest.get(23));
+        assertEquals(List.of(1, 2, 3), pages.requested);
+        assertEquals(25, iterator.getMeta().getTotal());
+    }
+
+    @Test
+    void parallel_shouldKeepSeveralPagesInFlightOnceTheCountIsKnown() {
+        FakePages pages = new FakePages(100, true);
+        PageIterator<Integer> iterator = new Paginator<>(pages, 10).parallel(4).iterator();
+
+        iterator.next();
+        assertEquals(List.of(1, 2, 3, 4, 5), pages.requested);
+
+        List<Integer> items = new ArrayList<>(List.of(1));
+        iterator.forEachRemaining(items::add);
+        assertEquals(IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList()), items);
+        assertEquals(10, pages.requested.size());
+    }
+
+    @Test
+    void stream_shouldStopOnShortPageWithoutMeta() {
+        FakePages pages = new FakePages(20, false);
+
+        try (Stream<Integer> stream = new Paginator<>(pages, 10).stream()) {
+            assertEquals(20, stream.count());
+        }
+        assertEquals(List.of(1, 2, 3), pages.requested);
+    }
+
+    @Test
+    void subaccountList_shouldFollowMetaPaging() throws IOException, InterruptedException {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(new MockResponse().setBody("{\"status\":true,\"message\":\"ok\","
+                    + "\"data\":[{\"subaccount_code\":\"ACCT_1\"},{\"subaccount_code\":\"ACCT_2\"}],"
+                    + "\"meta\":{\"total\":3,\"skipped\":0,\"perPage\":\"2\",\"page\":1,\"pageCount\":2}}"));
+            server.enqueue(new MockResponse().setBody("{\"status\":true,\"message\":\"ok\","
+                    + "\"data\":[{\"subaccount_code\":\"ACCT_3\"}],"
+                    + "\"meta\":{\"total\":3,\"skipped\":2,\"perPage\":\"2\",\"page\":2,\"pageCount\":2}}"));
+            PaystackClient client = new PaystackClient(new PaystackConfig("sk_test_pages",
+                    server.url("/").toString().replaceAll("/$", "")));
+
+            List<String> codes;
+            try (Stream<SubaccountData> subaccounts = client.subaccounts().list(2).stream()) {
+                codes = subaccounts.map(SubaccountData::getSubaccountCode).collect(Collectors.toList());
+            }
+
+            assertEquals(List.of("ACCT_1", "ACCT_2", "ACCT_3"), codes);
+            assertEquals("/subaccount?perPage=2&page=1", server.takeRequest().getPath());
+            assertEquals("/subaccount?perPage=2&page=2", server.takeRequest().getPath());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.thompson.paystack.resilience;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.CircuitBreakerOpenException;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.http.Endpoint;
+import com.thompson.paystack.metrics.PaystackMetrics;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+
+    private static CircuitBreakerPolicy.Builder policy() {
+        return CircuitBreakerPolicy.builder()
+                .slidingWindowSize(10)
+                .minimumCalls(4)
+                .failureRateThreshold(0.5)
+                .slowCallDuration(Duration.ofSeconds(1))
+                .openDuration(Duration.ofMillis(50))
+                .halfOpenCalls(2);
+    }
+
+    @Test
+    void shouldOpenOnFailureRateAndRejectCalls() {
+        CircuitBreaker breaker = new CircuitBreaker("test", policy().build());
+
+        breaker.onResult(FAST, false);
+        breaker.onResult(FAST, true);
+        breaker.onResult(FAST, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onResult(FAST, true);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(1, breaker.getNotPermittedCalls());
+    }
+
+    @Test
+    void shouldOpenOnSlowCallRate() {
+        CircuitBreaker breaker = new CircuitBreaker("test", policy().slowCallRateThreshold(0.75).build());
+        long slow = Duration.ofSeconds(2).toNanos();
+
+        breaker.onResult(slow, false);
+        breaker.onResult(slow, false);
+        breaker.onResult(FAST, false);
+        breaker.onResult(slow, false);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void halfOpenProbesShouldCloseOrReopen() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", policy().build());
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(FAST, true);
+        }
+        Thread.sleep(60);
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+        assertFalse(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.onResult(FAST, false);
+        breaker.onResult(FAST, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getFailureRate());
+
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(FAST, true);
+        }
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.onResult(FAST, true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(3, breaker.getTimesOpened());
+    }
+
+    @Test
+    void client_shouldFailFastWhenEndpointIsOpen() throws IOException {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_breaker")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .circuitBreaker("/transaction/verify/{reference}", policy().openDuration(Duration.ofMinutes(1)).build())
+                    .build());
+            for (int i = 0; i < 4; i++) {
+                server.enqueue(new MockResponse().setResponseCode(503));
+            }
+
+            for (int i = 0; i < 4; i++) {
+                assertThrows(PaystackApiException.class, () -> client.transactions().verify("ref_1"));
+            }
+            assertThrows(CircuitBreakerOpenException.class, () -> client.transactions().verify("ref_1"));
+            CompletionException async = assertThrows(CompletionException.class,
+                    () -> client.transactions().verifyAsync("ref_1").join());
+            assertInstanceOf(CircuitBreakerOpenException.class, async.getCause());
+
+            assertEquals(4, server.getRequestCount());
+            assertEquals(CircuitBreaker.State.OPEN,
+                    client.circuitBreaker("/transaction/verify/{reference}").getState());
+            assertNull(client.circuitBreaker("/transfer"));
+        }
+    }
+
+    @Test
+    void client_shouldReleaseHalfOpenPermitsWhenAnAttemptThrows() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            AtomicBoolean interceptorThrows = new AtomicBoolean();
+            AtomicBoolean metricsThrow = new AtomicBoolean();
+            OkHttpClient httpClient = new OkHttpClient.Builder()
+                    .addInterceptor(chain -> {
+                        if (interceptorThrows.get()) {
+                            throw new IllegalStateException("interceptor");
+                        }
+                        return chain.proceed(chain.request());
+                    })
+                    .build();
+            PaystackClient client = new PaystackClient(PaystackConfig.builder("sk_test_breaker")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .circuitBreaker("/transaction/verify/{reference}", policy().build())
+                    .metrics(new PaystackMetrics() {
+                        @Override
+                        public void recordAttempt(Endpoint<?> endpoint, int statusCode, long networkNanos) {
+                            if (metricsThrow.get()) {
+                                throw new IllegalStateException("metrics");
+                            }
+                        }
+                    })
+                    .build(), httpClient);
+            for (int i = 0; i < 4; i++) {
+                server.enqueue(new MockResponse().setResponseCode(503));
+                assertThrows(PaystackApiException.class, () -> client.transactions().verify("ref_1"));
+            }
+            CircuitBreaker breaker = client.circuitBreaker("/transaction/verify/{reference}");
+            Thread.sleep(60);
+
+            // More attempts than half-open permits: each one has to hand its permit back
+            interceptorThrows.set(true);
+            for (int i = 0; i < 3; i++) {
+                assertThrows(IllegalStateException.class, () -> client.transactions().verify("ref_1"));
+            }
+            interceptorThrows.set(false);
+            metricsThrow.set(true);
+            for (int i = 0; i < 3; i++) {
+                server.enqueue(new MockResponse().setResponseCode(503));
+                CompletionException async = assertThrows(CompletionException.class,
+                        () -> client.transactions().verifyAsync("ref_1").join());
+                assertInstanceOf(IllegalStateException.class, async.getCause());
+            }
+
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+            assertTrue(breaker.tryAcquirePermission());
+            assertTrue(breaker.tryAcquirePermission());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.thompson.paystack.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void tryAcquire_shouldAllowBurstThenReject() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(1, 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire(Duration.ZERO));
+        }
+        assertFalse(limiter.tryAcquire(Duration.ZERO));
+
+        assertEquals(3, limiter.getAcquiredPermits());
+        assertEquals(1, limiter.getRejectedPermits());
+    }
+
+    @Test
+    void acquire_shouldSpaceCallsAtTheConfiguredRate() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(100, 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            limiter.acquire();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis >= 45, "expected ~50 ms of pacing, took " + elapsedMillis);
+        assertEquals(5, limiter.getDelayedPermits());
+        assertTrue(limiter.getMaxWaitNanos() > 0);
+    }
+
+    @Test
+    void acquireAsync_shouldCompleteWithoutBlocking() {
+        RateLimiter limiter = new RateLimiter(5, 1);
+
+        limiter.acquireAsync().join();
+        var pending = limiter.acquireAsync();
+        assertFalse(pending.isDone(), "second permit should only be available after ~200 ms");
+
+        pending.join();
+        assertEquals(2, limiter.getAcquiredPermits());
+        assertEquals(1, limiter.getDelayedPermits());
+    }
+
+    @Test
+    void forKey_shouldShareLimiterPerSecretKeyAndFamily() {
+        RateLimiters limiters = new RateLimiters();
+        RateLimit limit = new RateLimit(10, 1);
+
+        assertSame(limiters.forKey("sk_test_a", "TRANSFERS", limit),
+                limiters.forKey("sk_test_a", "TRANSFERS", new RateLimit(10, 1)));
+        assertNotSame(limiters.forKey("sk_test_a", "TRANSFERS", limit),
+                limiters.forKey("sk_test_b", "TRANSFERS", limit));
+        assertNotSame(limiters.forKey("sk_test_a", "TRANSFERS", limit),
+                new RateLimiters().forKey("sk_test_a", "TRANSFERS", limit));
+    }
+
+    @Test
+    void forKey_shouldRejectConflictingLimitsAndDropRemovedKeys() {
+        RateLimiters limiters = new RateLimiters();
+        RateLimiter transfers = limiters.forKey("sk_test_a", "TRANSFERS", new RateLimit(10, 1));
+        limiters.forKey("sk_test_a", "TRANSACTIONS", new RateLimit(10, 1));
+        limiters.forKey("sk_test_b", "TRANSFERS", new RateLimit(10, 1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> limiters.forKey("sk_test_a", "TRANSFERS", new RateLimit(20, 1)));
+
+        assertEquals(2, limiters.remove("sk_test_a"));
+        assertEquals(1, limiters.size());
+        assertNotSame(transfers, limiters.forKey("sk_test_a", "TRANSFERS", new RateLimit(20, 1)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.thompson.paystack.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    @Test
+    void firstRetryIsJitteredBetweenBaseAndThreeTimesBase() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .baseDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofSeconds(5))
+                .build();
+        Set<Long> delays = new HashSet<>();
+        long below200 = 0;
+
+        for (int i = 0; i < 1_000; i++) {
+            long delay = policy.nextDelayMillis(0, -1);
+            assertTrue(delay >= 100 && delay <= 300, "delay " + delay);
+            delays.add(delay);
+            if (delay < 200) {
+                below200++;
+            }
+        }
+
+        // Uniform over 201 values: a lockstep herd would show a single value
+        assertTrue(delays.size() > 150, "distinct delays " + delays.size());
+        assertTrue(below200 > 350 && below200 < 650, "delays under 200ms " + below200);
+    }
+
+    @Test
+    void laterRetriesGrowFromThePreviousDelayUpToTheCap() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .baseDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(500))
+                .build();
+
+        for (int i = 0; i < 1_000; i++) {
+            long delay = policy.nextDelayMillis(400, -1);
+            assertTrue(delay >= 100 && delay <= 500, "delay " + delay);
+        }
+        assertEquals(250, policy.nextDelayMillis(400, 250));
+        assertEquals(-1, policy.nextDelayMillis(400, 600));
+    }
+}
@@ -0,0 +1,108 @@
+package com.thompson.paystack.services;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.models.response.AccountResolutionData;
+import com.thompson.paystack.models.response.PaystackResponse;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BankServiceResolveTest {
+    private static final String RESOLVED = "{\"status\":true,\"message\":\"Account number resolved\","
+            + "\"data\":{\"account_number\":\"0022728151\",\"account_name\":\"WES GIBBONS\",\"bank_id\":9}}";
+
+    private MockWebServer server;
+    private BankService bankService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        String baseUrl = server.url("/").toString().replaceAll("/$", "");
+        bankService = new PaystackClient(PaystackConfig.builder("sk_test_resolve")
+                .baseUrl(baseUrl)
+                .resolveCache(100, Duration.ofHours(24), Duration.ofMinutes(10))
+                .build()).banks();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void resolveAccount_shouldCacheResolvedAccounts() throws InterruptedException {
+        server.enqueue(new MockResponse().setBody(RESOLVED));
+
+        PaystackResponse<AccountResolutionData> first = bankService.resolveAccount("0022728151", "058");
+        PaystackResponse<AccountResolutionData> second = bankService.resolveAccountAsync("0022728151", "058").join();
+
+        assertEquals("WES GIBBONS", first.getData().getAccountName());
+        assertSame(first, second);
+        assertEquals("/bank/resolve?account_number=0022728151&bank_code=058", server.takeRequest().getPath());
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1, bankService.getResolveCache().getHits());
+    }
+
+    @Test
+    void resolveAccountAsync_shouldShareConcurrentLookups() {
+        server.enqueue(new MockResponse().setBody(RESOLVED).setBodyDelay(200, TimeUnit.MILLISECONDS));
+
+        List<CompletableFuture<PaystackResponse<AccountResolutionData>>> lookups = IntStream.range(0, 10)
+                .mapToObj(i -> bankService.resolveAccountAsync("0022728151", "058"))
+                .collect(Collectors.toList());
+
+        lookups.forEach(lookup -> assertEquals("WES GIBBONS", lookup.join().getData().getAccountName()));
+        assertEquals(1, server.getRequestCount());
+        assertEquals(9, bankService.getResolveCalls().getCoalescedCalls());
+    }
+
+    @Test
+    void resolveAccount_shouldCacheInvalidAccountsButNotServerErrors() {
+        server.enqueue(new MockResponse().setResponseCode(422).setBody(
+                "{\"status\":false,\"message\":\"Could not resolve account name. Check parameters or try again.\"}"));
+        server.enqueue(new MockResponse().setResponseCode(500).setBody("{\"status\":false,\"message\":\"Server error\"}"));
+        server.enqueue(new MockResponse().setBody(RESOLVED));
+
+        PaystackApiException invalid = assertThrows(PaystackApiException.class,
+                () -> bankService.resolveAccount("0000000000", "058"));
+        CompletionException cached = assertThrows(CompletionException.class,
+                () -> bankService.resolveAccountAsync("0000000000", "058").join());
+        assertEquals(422, invalid.getStatusCode());
+        assertEquals(422, ((PaystackApiException) cached.getCause()).getStatusCode());
+        assertEquals(1, server.getRequestCount());
+
+        assertThrows(PaystackApiException.class, () -> bankService.resolveAccount("0022728151", "058"));
+        assertEquals("WES GIBBONS", bankService.resolveAccount("0022728151", "058").getData().getAccountName());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void resolveAccount_shouldNotCacheByDefault() {
+        server.enqueue(new MockResponse().setBody(RESOLVED));
+        server.enqueue(new MockResponse().setBody(RESOLVED));
+        BankService uncached = new PaystackClient(new PaystackConfig("sk_test_resolve_uncached",
+                server.url("/").toString().replaceAll("/$", ""))).banks();
+
+        uncached.resolveAccount("0022728151", "058");
+        uncached.resolveAccount("0022728151", "058");
+
+        assertNull(uncached.getResolveCache());
+        assertEquals(2, server.getRequestCount());
+    }
+}
@@ -0,0 +1,122 @@
+package com.thompson.paystack.services;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.exceptions.PaystackApiException;
+import com.thompson.paystack.models.request.TransactionInitRequest;
+import com.thompson.paystack.models.response.PaystackResponse;
+import com.thompson.paystack.models.response.TransactionData;
+import com.thompson.paystack.models.response.TransactionInitData;
+import com.thompson.paystack.resilience.RetryPolicy;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionServiceAsyncTest {
+    private MockWebServer server;
+    private TransactionService transactionService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        String baseUrl = server.url("/").toString().replaceAll("/$", "");
+        transactionService = new PaystackClient(new PaystackConfig("sk_test_async", baseUrl)).transactions();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void verifyAsync_shouldCompleteWithParsedResponse() throws InterruptedException {
+        server.enqueue(new MockResponse().setBody(
+                "{\"status\":true,\"message\":\"Verification successful\","
+                        + "\"data\":{\"reference\":\"ref_123\",\"status\":\"success\",\"amount\":10000}}"));
+
+        PaystackResponse<TransactionData> response = transactionService.verifyAsync("ref_123").join();
+
+        assertTrue(response.isStatus());
+        assertEquals("ref_123", response.getData().getReference());
+        assertEquals(10000L, response.getData().getAmount());
+        assertEquals("/transaction/verify/ref_123", server.takeRequest().getPath());
+    }
+
+    @Test
+    void verifyAsync_shouldFailWithApiExceptionOnHttpError() {
+        server.enqueue(new MockResponse().setResponseCode(404)
+                .setBody("{\"status\":false,\"message\":\"Transaction reference not found\"}"));
+
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> transactionService.verifyAsync("missing").join());
+
+        PaystackApiException cause = assertInstanceOf(PaystackApiException.class, error.getCause());
+        assertEquals(404, cause.getStatusCode());
+        assertTrue(cause.getResponseBody().contains("Transaction reference not found"));
+    }
+
+    @Test
+    void initializeAsync_shouldStreamJsonRequestBody() throws InterruptedException {
+        server.enqueue(new MockResponse().setBody(
+                "{\"status\":true,\"message\":\"Authorization URL created\","
+                        + "\"data\":{\"authorization_url\":\"https://checkout.paystack.com/abc\",\"reference\":\"ref_1\"}}"));
+
+        TransactionInitRequest request = TransactionInitRequest.builder()
+                .email("test@example.com")
+                .amount(100.50)
+                .reference("ref_1")
+                .addMetadata("order_id", "ord_42")
+                .build();
+
+        PaystackResponse<TransactionInitData> response = transactionService.initializeAsync(request).join();
+        assertEquals("ref_1", response.getData().getReference());
+
+        RecordedRequest recorded = server.takeRequest();
+        assertEquals("POST", recorded.getMethod());
+        assertTrue(recorded.getHeader("Content-Type").startsWith("application/json"));
+        String body = recorded.getBody().readUtf8();
+        assertTrue(body.contains("\"amount\":10050"), body);
+        assertTrue(body.contains("\"order_id\":\"ord_42\""), body);
+    }
+
+    @Test
+    void initializeAsync_shouldSendContentLengthOnEveryAttempt() throws InterruptedException {
+        server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+        server.enqueue(new MockResponse().setBody(
+                "{\"status\":true,\"message\":\"Authorization URL created\","
+                        + "\"data\":{\"authorization_url\":\"https://checkout.paystack.com/abc\",\"reference\":\"ref_2\"}}"));
+
+        TransactionInitRequest request = TransactionInitRequest.builder()
+                .email("test@example.com")
+                .amount(100.50)
+                .reference("ref_2")
+                .addMetadata("note", "Akwụkwọ ₦")
+                .build();
+
+        TransactionService retrying = new PaystackClient(PaystackConfig.builder("sk_test_async")
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .retryPolicy(RetryPolicy.defaults())
+                .build()).transactions();
+
+        assertEquals("ref_2", retrying.initializeAsync(request).join().getData().getReference());
+
+        RecordedRequest first = server.takeRequest();
+        RecordedRequest retry = server.takeRequest();
+        String body = first.getBody().readUtf8();
+        assertEquals(String.valueOf(body.getBytes(StandardCharsets.UTF_8).length), first.getHeader("Content-Length"));
+        assertNull(first.getHeader("Transfer-Encoding"));
+        assertTrue(body.contains("Akwụkwọ ₦"), body);
+        assertEquals(first.getHeader("Content-Length"), retry.getHeader("Content-Length"));
+        assertEquals(body, retry.getBody().readUtf8());
+    }
+}
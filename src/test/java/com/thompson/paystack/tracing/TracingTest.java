@@ -0,0 +1,180 @@
+package com.thompson.paystack.tracing;
+
+import com.thompson.paystack.client.PaystackClient;
+import com.thompson.paystack.client.PaystackConfig;
+import com.thompson.paystack.models.response.TransactionData;
+import com.thompson.paystack.resilience.RetryPolicy;
+import com.thompson.paystack.webhook.WebhookDispatcher;
+import com.thompson.paystack.webhook.WebhookListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingTest {
+    private static final String SECRET_KEY = "sk_test_tracing";
+    private static final String VERIFIED = "{\"status\":true,\"message\":\"Verification successful\","
+            + "\"data\":{\"reference\":\"ref_1\",\"status\":\"success\"}}";
+
+    @Test
+    void tracesCallsWithAttemptSpansAndRunsAsyncContinuationsInTheCallersContext() throws IOException {
+        RecordingTracer tracer = new RecordingTracer();
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(503).setBody("{\"status\":false,\"message\":\"Unavailable\"}"));
+            // Delayed so the continuation is chained before the call completes
+            server.enqueue(new MockResponse().setBody(VERIFIED).setHeadersDelay(100, TimeUnit.MILLISECONDS));
+            server.start();
+            PaystackClient client = new PaystackClient(PaystackConfig.builder(SECRET_KEY)
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .retryPolicy(RetryPolicy.builder().maxAttempts(2).baseDelay(Duration.ofMillis(1)).build())
+                    .tracer(tracer)
+                    .build());
+
+            RecordedSpan caller = (RecordedSpan) tracer.startSpan("caller", null);
+            RecordedSpan current;
+            try (PaystackScope scope = caller.makeCurrent()) {
+                current = client.transactions().verifyAsync("ref_1")
+                        .thenApply(response -> RecordingTracer.CURRENT.get())
+                        .join();
+            }
+
+            // Continuations run in the caller's context, not inside the (already ended) call span
+            RecordedSpan call = tracer.spans.get(1);
+            assertSame(caller, current);
+            assertSame(caller, call.parent);
+            assertTrue(call.ended);
+            assertEquals("GET /transaction/verify/{reference}", call.name);
+            assertEquals("ref_1", call.attributes.get(SpanAttributes.REFERENCE));
+            assertEquals(200L, call.attributes.get(SpanAttributes.STATUS_CODE));
+            assertEquals(2L, call.attributes.get(SpanAttributes.ATTEMPT));
+
+            List<RecordedSpan> attempts = tracer.spans.subList(2, 4);
+            assertEquals(503L, attempts.get(0).attributes.get(SpanAttributes.STATUS_CODE));
+            assertEquals(1L, attempts.get(0).attributes.get(SpanAttributes.ATTEMPT));
+            assertEquals(2L, attempts.get(1).attributes.get(SpanAttributes.ATTEMPT));
+            assertTrue(attempts.stream().allMatch(attempt -> attempt.parent == call && attempt.ended));
+            assertNull(RecordingTracer.CURRENT.get());
+        }
+    }
+
+    @Test
+    void tracesWebhookDispatchAndEachListener() throws Exception {
+        RecordingTracer tracer = new RecordingTracer();
+        WebhookDispatcher dispatcher = new WebhookDispatcher(SECRET_KEY, tracer);
+        dispatcher.addListener(new WebhookListener() {
+            @Override
+            public void onChargeSuccess(TransactionData transaction) {
+                throw new IllegalStateException("Order not found");
+            }
+        });
+        dispatcher.addListener(new WebhookListener() {
+        });
+        String payload = "{\"event\":\"charge.success\",\"data\":{\"reference\":\"ref_1\",\"status\":\"success\"}}";
+
+        assertTrue(dispatcher.dispatch(payload, sign(payload)));
+        assertFalse(dispatcher.dispatch(payload, "invalid"));
+
+        RecordedSpan dispatch = tracer.spans.get(0);
+        assertEquals(SpanAttributes.WEBHOOK_SPAN, dispatch.name);
+        assertEquals("charge.success", dispatch.attributes.get(SpanAttributes.WEBHOOK_EVENT));
+        assertEquals("ref_1", dispatch.attributes.get(SpanAttributes.REFERENCE));
+        assertEquals(SpanAttributes.LISTENER_SPAN, tracer.spans.get(1).name);
+        assertSame(dispatch, tracer.spans.get(1).parent);
+        assertInstanceOf(IllegalStateException.class, tracer.spans.get(1).error);
+        assertNull(tracer.spans.get(2).error);
+        assertEquals(false, tracer.spans.get(3).attributes.get(SpanAttributes.WEBHOOK_VALID));
+        assertTrue(tracer.spans.stream().allMatch(span -> span.ended));
+    }
+
+    private static String sign(String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA512");
+        mac.init(new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
+        StringBuilder hex = new StringBuilder();
+        for (byte b : mac.doFinal(payload.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static final class RecordingTracer implements PaystackTracer {
+        static final ThreadLocal<RecordedSpan> CURRENT = new ThreadLocal<>();
+        final List<RecordedSpan> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public PaystackSpan startSpan(String name, PaystackSpan parent) {
+            RecordedSpan span = new RecordedSpan(name, parent != null ? (RecordedSpan) parent : CURRENT.get());
+            spans.add(span);
+            return span;
+        }
+
+        @Override
+        public PaystackContext captureContext() {
+            RecordedSpan captured = CURRENT.get();
+            return () -> {
+                RecordedSpan previous = CURRENT.get();
+                CURRENT.set(captured);
+                return () -> CURRENT.set(previous);
+            };
+        }
+    }
+
+    private static final class RecordedSpan implements PaystackSpan {
+        final String name;
+        final RecordedSpan parent;
+        final Map<String, Object> attributes = new HashMap<>();
+        volatile Throwable error;
+        volatile boolean ended;
+
+        RecordedSpan(String name, RecordedSpan parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        @Override
+        public synchronized PaystackSpan setAttribute(String key, String value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public synchronized PaystackSpan setAttribute(String key, long value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public synchronized PaystackSpan setAttribute(String key, boolean value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void recordError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public PaystackScope makeCurrent() {
+            RecordedSpan previous = RecordingTracer.CURRENT.get();
+            RecordingTracer.CURRENT.set(this);
+            return () -> RecordingTracer.CURRENT.set(previous);
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+    }
+}
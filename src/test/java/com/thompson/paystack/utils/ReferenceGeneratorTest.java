@@ -0,0 +1,85 @@
+package com.thompson.paystack.utils;
+
+import com.thompson.paystack.models.request.TransferInitRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceGeneratorTest {
+
+    @Test
+    void nextReference_shouldBeOrderedAndUrlSafe() {
+        ReferenceGenerator generator = new ReferenceGenerator(7, "ord-");
+
+        String previous = generator.nextReference();
+        for (int i = 0; i < 10_000; i++) {
+            String next = generator.nextReference();
+            assertTrue(next.matches("ord-[0-9A-Za-z]{11}"), next);
+            assertTrue(next.compareTo(previous) > 0, previous + " >= " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void nextId_shouldBeUniqueAcrossThreads() throws InterruptedException {
+        ReferenceGenerator generator = new ReferenceGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 50_000;
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    void nodesShouldNotCollide() {
+        assertNotEquals(new ReferenceGenerator(1).nextId(), new ReferenceGenerator(2).nextId());
+        assertThrows(IllegalArgumentException.class, () -> new ReferenceGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new ReferenceGenerator(1, "ord_"));
+    }
+
+    @Test
+    void generatorsWithTheSameNodeIdShouldNotCollide() {
+        ReferenceGenerator first = new ReferenceGenerator(3);
+        ReferenceGenerator second = new ReferenceGenerator(3, "ord-");
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(ids.add(first.nextId()));
+            assertTrue(ids.add(second.nextId()));
+        }
+    }
+
+    @Test
+    void builder_shouldGenerateReference() {
+        TransferInitRequest request = TransferInitRequest.builder()
+                .amountInKobo(5000)
+                .recipient("RCP_1")
+                .reason("Payout")
+                .generateReference()
+                .build();
+
+        assertNotNull(request.getReference());
+        // No node id is configured for tests, so the default generator adds its random suffix
+        assertTrue(request.getReference().matches("[0-9A-Za-z]{17}"), request.getReference());
+    }
+}